@@ -0,0 +1,184 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.Base58;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Base58}, which divides and multiplies 32-bit limbs by 58^5, with the byte-at-a-time
+ * {@code divmod58}/{@code divmod256} implementation it replaced.
+ *
+ * <p>Run with {@code java -jar xrpl4j-benchmarks/target/benchmarks.jar Base58Benchmark -prof gc}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base58Benchmark {
+
+  private static final int[] INDEXES = new int[128];
+
+  static {
+    for (int i = 0; i < Base58.ALPHABET.length; i++) {
+      INDEXES[Base58.ALPHABET[i]] = i;
+    }
+  }
+
+  /**
+   * Sizes of a checked AccountID (21 bytes, or 25 with its checksum), a public key (33 bytes, or 37 with its checksum)
+   * and a larger payload.
+   */
+  @Param( {"21", "25", "33", "37", "64"})
+  public int size;
+
+  private byte[] bytes;
+
+  private String encoded;
+
+  /**
+   * Generate random input of {@link #size} bytes with a single leading zero byte, as in an encoded AccountID.
+   */
+  @Setup
+  public void setUp() {
+    bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    bytes[0] = 0;
+    encoded = Base58.encode(bytes);
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base58.encode(bytes);
+  }
+
+  @Benchmark
+  public String encodeLegacy() {
+    return legacyEncode(bytes);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base58.decode(encoded);
+  }
+
+  @Benchmark
+  public byte[] decodeLegacy() {
+    return legacyDecode(encoded);
+  }
+
+  /**
+   * The implementation of {@link Base58#encode(byte[])} before it used 32-bit limbs.
+   */
+  private static String legacyEncode(byte[] input) {
+    if (input.length == 0) {
+      return "";
+    }
+    input = Arrays.copyOfRange(input, 0, input.length);
+    int zeroCount = 0;
+    while (zeroCount < input.length && input[zeroCount] == 0) {
+      ++zeroCount;
+    }
+    byte[] temp = new byte[input.length * 2];
+    int tempIndex = temp.length;
+
+    int startAt = zeroCount;
+    while (startAt < input.length) {
+      byte mod = divmod(input, startAt, 256, 58);
+      if (input[startAt] == 0) {
+        ++startAt;
+      }
+      temp[--tempIndex] = (byte) Base58.ALPHABET[mod];
+    }
+    while (tempIndex < temp.length && temp[tempIndex] == Base58.ALPHABET[0]) {
+      ++tempIndex;
+    }
+    while (--zeroCount >= 0) {
+      temp[--tempIndex] = (byte) Base58.ALPHABET[0];
+    }
+    return new String(Arrays.copyOfRange(temp, tempIndex, temp.length), StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * The implementation of {@link Base58#decode(String)} before it used 32-bit limbs.
+   */
+  private static byte[] legacyDecode(String input) {
+    if (input.length() == 0) {
+      return new byte[0];
+    }
+    byte[] input58 = new byte[input.length()];
+    for (int i = 0; i < input.length(); ++i) {
+      input58[i] = (byte) INDEXES[input.charAt(i)];
+    }
+    int zeroCount = 0;
+    while (zeroCount < input58.length && input58[zeroCount] == 0) {
+      ++zeroCount;
+    }
+    byte[] temp = new byte[input.length()];
+    int tempIndex = temp.length;
+
+    int startAt = zeroCount;
+    while (startAt < input58.length) {
+      byte mod = divmod(input58, startAt, 58, 256);
+      if (input58[startAt] == 0) {
+        ++startAt;
+      }
+      temp[--tempIndex] = mod;
+    }
+    while (tempIndex < temp.length && temp[tempIndex] == 0) {
+      ++tempIndex;
+    }
+    return Arrays.copyOfRange(temp, tempIndex - zeroCount, temp.length);
+  }
+
+  /**
+   * The legacy {@code divmod58} (with {@code base} 256 and {@code divisor} 58) and {@code divmod256} (with
+   * {@code base} 58 and {@code divisor} 256).
+   */
+  private static byte divmod(byte[] number, int startAt, int base, int divisor) {
+    int remainder = 0;
+    for (int i = startAt; i < number.length; i++) {
+      int digit = (int) number[i] & 0xFF;
+      int temp = remainder * base + digit;
+      number[i] = (byte) (temp / divisor);
+      remainder = temp % divisor;
+    }
+    return (byte) remainder;
+  }
+
+}
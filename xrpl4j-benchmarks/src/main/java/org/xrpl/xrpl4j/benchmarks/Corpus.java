@@ -0,0 +1,202 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.ZipInputStream;
+
+/**
+ * The codec test corpora from {@code xrpl4j-core/src/test/resources}, grouped by object type so that benchmarks can
+ * report results per transaction type.
+ *
+ * <p>Transactions from {@code data-driven-tests.json} and {@code codec-fixtures.json} are grouped by
+ * {@code TransactionType}, ledger entries from {@code codec-fixtures.json} by {@code LedgerEntryType}, and every
+ * entry in {@code tx_metadata_fixtures.json.zip} is grouped under {@link #METADATA}.</p>
+ */
+final class Corpus {
+
+  /**
+   * The group containing transaction metadata.
+   */
+  static final String METADATA = "TransactionMetadata";
+
+  private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private static Map<String, List<Entry>> entriesByType;
+
+  private Corpus() {
+  }
+
+  /**
+   * Get the entries of a group.
+   *
+   * @param type A {@code TransactionType}, a {@code LedgerEntryType} or {@link #METADATA}.
+   *
+   * @return A non-empty {@link List} of {@link Entry}.
+   * @throws IllegalArgumentException if the corpora contain no entries of {@code type}.
+   */
+  static synchronized List<Entry> entries(String type) {
+    Objects.requireNonNull(type);
+    if (entriesByType == null) {
+      entriesByType = load();
+    }
+    List<Entry> entries = entriesByType.get(type);
+    if (entries == null) {
+      throw new IllegalArgumentException(
+        "No entries of type " + type + " in the corpora. Available types: " + entriesByType.keySet()
+      );
+    }
+    return entries;
+  }
+
+  private static Map<String, List<Entry>> load() {
+    Map<String, List<Entry>> entries = new TreeMap<>();
+    try {
+      JsonNode dataDriven = readTree("data-driven-tests.json");
+      for (JsonNode wholeObject : dataDriven.get("whole_objects")) {
+        JsonNode json = wholeObject.get("tx_json");
+        add(entries, json.get("TransactionType").asText(), json, wholeObject.get("blob_with_no_signing").asText());
+      }
+
+      JsonNode codecFixtures = readTree("codec-fixtures.json");
+      for (JsonNode transaction : codecFixtures.get("transactions")) {
+        JsonNode json = transaction.get("json");
+        add(entries, json.get("TransactionType").asText(), json, transaction.get("binary").asText());
+      }
+      for (JsonNode ledgerEntry : codecFixtures.get("accountState")) {
+        JsonNode json = ledgerEntry.get("json");
+        uint64HexToDecimal(json);
+        add(entries, json.get("LedgerEntryType").asText(), json, ledgerEntry.get("binary").asText());
+      }
+
+      XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+      for (JsonNode metadata : readZippedTree("tx_metadata_fixtures.json.zip")) {
+        // delivered_amount is added by rippled and is not part of the binary metadata.
+        ((ObjectNode) metadata).remove("delivered_amount");
+        uint64HexToDecimal(metadata);
+        add(entries, METADATA, metadata, codec.encodeToBytes(metadata).hexValue());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    entries.replaceAll((type, list) -> Collections.unmodifiableList(list));
+    return entries;
+  }
+
+  private static void add(Map<String, List<Entry>> entries, String type, JsonNode json, String hex) {
+    entries.computeIfAbsent(type, key -> new ArrayList<>()).add(new Entry(json.toString(), hex));
+  }
+
+  /**
+   * rippled renders UInt64 fields as hex, but {@link XrplBinaryCodec} reads and writes them as decimal strings.
+   */
+  private static void uint64HexToDecimal(JsonNode node) {
+    if (node.isArray()) {
+      node.forEach(Corpus::uint64HexToDecimal);
+    } else if (node.isObject()) {
+      ObjectNode objectNode = (ObjectNode) node;
+      Lists.newArrayList(objectNode.fieldNames()).forEach(fieldName -> {
+        JsonNode value = objectNode.get(fieldName);
+        boolean isUInt64 = DefinitionsService.getInstance().getFieldInstance(fieldName)
+          .map(field -> field.type().equals("UInt64"))
+          .orElse(false);
+        if (isUInt64 && value.isTextual()) {
+          objectNode.put(fieldName, UnsignedLong.valueOf(value.asText(), 16).toString());
+        } else {
+          uint64HexToDecimal(value);
+        }
+      });
+    }
+  }
+
+  private static JsonNode readTree(String resource) throws IOException {
+    try (InputStream inputStream = open(resource)) {
+      return objectMapper.readTree(inputStream);
+    }
+  }
+
+  private static JsonNode readZippedTree(String resource) throws IOException {
+    try (ZipInputStream zipInputStream = new ZipInputStream(open(resource))) {
+      if (zipInputStream.getNextEntry() == null) {
+        throw new IOException(resource + " is empty");
+      }
+      return objectMapper.readTree(zipInputStream);
+    }
+  }
+
+  private static InputStream open(String resource) throws IOException {
+    InputStream inputStream = Corpus.class.getClassLoader().getResourceAsStream(resource);
+    if (inputStream == null) {
+      throw new IOException("Missing resource " + resource);
+    }
+    return inputStream;
+  }
+
+  /**
+   * A JSON object from the corpora and its canonical binary encoding.
+   */
+  static final class Entry {
+
+    private final String json;
+    private final String hex;
+
+    private Entry(String json, String hex) {
+      this.json = json;
+      this.hex = hex;
+    }
+
+    /**
+     * The object as JSON text.
+     *
+     * @return A JSON {@link String}.
+     */
+    String json() {
+      return json;
+    }
+
+    /**
+     * The canonical binary encoding of {@link #json()}, in hex.
+     *
+     * @return A hex-encoded {@link String}.
+     */
+    String hex() {
+      return hex;
+    }
+  }
+
+}
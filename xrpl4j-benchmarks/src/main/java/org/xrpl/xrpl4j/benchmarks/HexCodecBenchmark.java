@@ -0,0 +1,145 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Joiner;
+import com.google.common.io.BaseEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.HexCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link HexCodec} with Guava's {@link BaseEncoding} and with the per-{@link UnsignedByte} approach that
+ * {@link ByteUtils#parse(String)} and {@link ByteUtils#toHex(List)} used before they were moved onto
+ * {@link HexCodec}.
+ *
+ * <p>Run with {@code java -jar xrpl4j-benchmarks/target/benchmarks.jar HexCodecBenchmark -prof gc}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexCodecBenchmark {
+
+  /**
+   * Sizes of a field header, an AccountID, a Hash256 and a typical transaction blob.
+   */
+  @Param( {"2", "20", "32", "256"})
+  public int size;
+
+  private byte[] bytes;
+
+  private String hex;
+
+  private List<UnsignedByte> unsignedBytes;
+
+  /**
+   * Generate random input of {@link #size} bytes.
+   */
+  @Setup
+  public void setUp() {
+    bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    hex = BaseEncoding.base16().encode(bytes);
+    unsignedBytes = new ArrayList<>(size);
+    for (byte value : bytes) {
+      unsignedBytes.add(UnsignedByte.of(value));
+    }
+  }
+
+  @Benchmark
+  public String encodeHexCodec() {
+    return HexCodec.encode(bytes);
+  }
+
+  @Benchmark
+  public String encodeBaseEncoding() {
+    return BaseEncoding.base16().encode(bytes);
+  }
+
+  @Benchmark
+  public String encodeByteUtils() {
+    return ByteUtils.toHex(unsignedBytes);
+  }
+
+  /**
+   * The implementation of {@link ByteUtils#toHex(List)} before it used {@link HexCodec}.
+   *
+   * @return A hex {@link String}.
+   */
+  @Benchmark
+  public String encodeLegacyByteUtils() {
+    return Joiner.on("").join(
+      unsignedBytes.stream().map(value -> BaseEncoding.base16().encode(new byte[] {value.asByte()}))
+        .collect(Collectors.toList())
+    );
+  }
+
+  @Benchmark
+  public byte[] decodeHexCodec() {
+    return HexCodec.decode(hex);
+  }
+
+  @Benchmark
+  public byte[] decodeBaseEncoding() {
+    return BaseEncoding.base16().decode(hex);
+  }
+
+  @Benchmark
+  public List<UnsignedByte> decodeByteUtils() {
+    return ByteUtils.parse(hex);
+  }
+
+  /**
+   * The implementation of {@link ByteUtils#parse(String)} before it used {@link HexCodec}.
+   *
+   * @return A {@link List} of {@link UnsignedByte}.
+   */
+  @Benchmark
+  public List<UnsignedByte> decodeLegacyByteUtils() {
+    String padded = ByteUtils.padded(hex);
+    List<UnsignedByte> result = new ArrayList<>();
+    for (int i = 0; i < padded.length(); i += 2) {
+      result.add(UnsignedByte.of(padded.substring(i, i + 2)));
+    }
+    return result;
+  }
+
+}
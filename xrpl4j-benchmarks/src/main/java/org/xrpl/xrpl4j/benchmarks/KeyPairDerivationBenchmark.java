@@ -0,0 +1,142 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how many key pairs and addresses per second {@link Seed#deriveKeyPairs(List, java.util.concurrent.Executor)}
+ * derives from a batch of {@value #BATCH_SIZE} seeds.
+ *
+ * <p>{@code sequential} derives each key pair and address on the benchmark thread with {@link Seed#deriveKeyPair()};
+ * {@code bulk} derives the same batch on a pool of {@code threads} threads. Dividing the {@code bulk} score by
+ * {@code threads} gives keys per second per core, which should stay close to the {@code sequential} score as long as
+ * {@code threads} is no more than the number of cores.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyPairDerivationBenchmark {
+
+  private static final int BATCH_SIZE = 1024;
+
+  /**
+   * The type of key to derive.
+   */
+  @Param( {"ED25519", "SECP256K1"})
+  public String keyType;
+
+  /**
+   * The number of threads to derive keys on in {@link #bulk()}. {@code 0} means one thread per available processor.
+   */
+  @Param( {"1", "0"})
+  public int threads;
+
+  private List<Seed> seeds;
+
+  private ExecutorService executor;
+
+  /**
+   * Generate {@link #BATCH_SIZE} random seeds and start the executor for {@link #bulk()}.
+   */
+  @Setup
+  public void setUp() {
+    seeds = IntStream.range(0, BATCH_SIZE)
+      .mapToObj(index -> "ED25519".equals(keyType) ? Seed.ed25519Seed() : Seed.secp256k1Seed())
+      .collect(Collectors.toList());
+    executor = Executors.newFixedThreadPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+  }
+
+  /**
+   * Stop the executor started by {@link #setUp()}.
+   */
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Derive each key pair and its address on the benchmark thread, as a baseline for {@link #bulk()}.
+   *
+   * @return The derived {@link KeyPair}s.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<KeyPair> sequential() {
+    List<KeyPair> keyPairs = new ArrayList<>(seeds.size());
+    for (Seed seed : seeds) {
+      KeyPair keyPair = seed.deriveKeyPair();
+      keyPair.publicKey().deriveAddress();
+      keyPairs.add(keyPair);
+    }
+    return keyPairs;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<KeyPair> bulk() {
+    return Seed.deriveKeyPairs(seeds, executor);
+  }
+
+  /**
+   * Run this benchmark.
+   *
+   * @param args Ignored.
+   *
+   * @throws RunnerException if the benchmark fails.
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+      new OptionsBuilder()
+        .include(KeyPairDerivationBenchmark.class.getSimpleName())
+        .build()
+    ).run();
+  }
+
+}
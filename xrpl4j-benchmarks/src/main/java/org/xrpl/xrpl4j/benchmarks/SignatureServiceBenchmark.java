@@ -0,0 +1,157 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.crypto.signing.bc.BcSignatureService;
+import org.xrpl.xrpl4j.model.transactions.AccountSet;
+import org.xrpl.xrpl4j.model.transactions.Signer;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link BcSignatureService} when it is shared by every benchmark thread.
+ *
+ * <p>With {@code signers=perThread} each thread uses its own BouncyCastle signers, so throughput should grow with the
+ * number of threads up to the number of cores. With {@code signers=shared} every thread uses one pair of signers under
+ * a lock, which is how {@link BcSignatureService} behaved before, and throughput stays at roughly that of one thread.
+ * The benchmark runs with one thread per core; compare against a single thread with
+ * {@code java -jar xrpl4j-benchmarks/target/benchmarks.jar SignatureServiceBenchmark -t 1}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class SignatureServiceBenchmark {
+
+  /**
+   * Whether every thread gets its own signers, or all threads share one pair of signers.
+   */
+  @Param( {"perThread", "shared"})
+  public String signers;
+
+  /**
+   * The type of key to sign and verify with.
+   */
+  @Param( {"ED25519", "SECP256K1"})
+  public String keyType;
+
+  private BcSignatureService signatureService;
+
+  private KeyPair keyPair;
+
+  private AccountSet transaction;
+
+  private Signer signer;
+
+  /**
+   * Construct the {@link BcSignatureService} under test and sign {@link #transaction} once so that it can be verified.
+   */
+  @Setup
+  public void setUp() {
+    if ("shared".equals(signers)) {
+      signatureService = new BcSignatureService(
+        SignatureUtils.getInstance(),
+        new Ed25519Signer(),
+        new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      );
+    } else {
+      signatureService = new BcSignatureService();
+    }
+
+    Passphrase passphrase = Passphrase.of("benchmark");
+    Seed seed = "ED25519".equals(keyType) ?
+      Seed.ed25519SeedFromPassphrase(passphrase) :
+      Seed.secp256k1SeedFromPassphrase(passphrase);
+    keyPair = seed.deriveKeyPair();
+
+    transaction = AccountSet.builder()
+      .account(keyPair.publicKey().deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.valueOf(12)))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey(keyPair.publicKey())
+      .build();
+
+    SingleSignedTransaction<AccountSet> signed = signatureService.sign(keyPair.privateKey(), transaction);
+    signer = Signer.builder()
+      .signingPublicKey(keyPair.publicKey())
+      .transactionSignature(signed.signature())
+      .build();
+  }
+
+  @Benchmark
+  public SingleSignedTransaction<AccountSet> sign() {
+    return signatureService.sign(keyPair.privateKey(), transaction);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return signatureService.verify(signer, transaction);
+  }
+
+  /**
+   * Run this benchmark with one thread and with one thread per core.
+   *
+   * @param args Ignored.
+   *
+   * @throws RunnerException if the benchmark fails.
+   */
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[] {1, Runtime.getRuntime().availableProcessors()}) {
+      new Runner(
+        new OptionsBuilder()
+          .include(SignatureServiceBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build()
+      ).run();
+    }
+  }
+
+}
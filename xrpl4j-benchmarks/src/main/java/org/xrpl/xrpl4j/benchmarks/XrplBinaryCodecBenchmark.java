@@ -0,0 +1,141 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link XrplBinaryCodec} over the codec test corpora, one object per operation, so that throughput and the
+ * {@code gc.alloc.rate.norm} reported by {@code -prof gc} are per object. Results are reported separately for each
+ * {@link #type}; see {@link Corpus} for how objects are grouped.
+ *
+ * <p>Run with {@code java -jar xrpl4j-benchmarks/target/benchmarks.jar XrplBinaryCodecBenchmark -prof gc}, or run
+ * {@link #main(String[])}, which adds the GC profiler itself.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XrplBinaryCodecBenchmark {
+
+  /**
+   * A {@code TransactionType}, a {@code LedgerEntryType} or {@link Corpus#METADATA}.
+   */
+  @Param( {
+    "Payment", "OfferCreate", "OfferCancel", "TrustSet", "AccountSet", "SetRegularKey",
+    "AccountRoot", "DirectoryNode", "RippleState", "Offer", "LedgerHashes",
+    Corpus.METADATA
+  })
+  public String type;
+
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+
+  private String[] json;
+  private String[] hex;
+  private byte[][] bytes;
+  private int next;
+
+  /**
+   * Load the objects of {@link #type} from the corpora.
+   */
+  @Setup
+  public void setUp() {
+    List<Corpus.Entry> entries = Corpus.entries(type);
+    json = new String[entries.size()];
+    hex = new String[entries.size()];
+    bytes = new byte[entries.size()][];
+    for (int i = 0; i < entries.size(); i++) {
+      json[i] = entries.get(i).json();
+      hex[i] = entries.get(i).hex();
+      bytes[i] = UnsignedByteArray.fromHex(hex[i]).toByteArray();
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = index + 1 == json.length ? 0 : index + 1;
+    return index;
+  }
+
+  @Benchmark
+  public String encode() throws JsonProcessingException {
+    return codec.encode(json[nextIndex()]);
+  }
+
+  @Benchmark
+  public UnsignedByteArray encodeToBytes() throws JsonProcessingException {
+    return codec.encodeToBytes(json[nextIndex()]);
+  }
+
+  @Benchmark
+  public String encodeForSigning() throws JsonProcessingException {
+    return codec.encodeForSigning(json[nextIndex()]);
+  }
+
+  @Benchmark
+  public String decode() {
+    return codec.decode(hex[nextIndex()]);
+  }
+
+  @Benchmark
+  public String decodeBytes() {
+    return codec.decode(bytes[nextIndex()]);
+  }
+
+  /**
+   * Run this benchmark with the GC profiler.
+   *
+   * @param args Ignored.
+   *
+   * @throws RunnerException if the benchmark fails.
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+      new OptionsBuilder()
+        .include(XrplBinaryCodecBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()
+    ).run();
+  }
+
+}
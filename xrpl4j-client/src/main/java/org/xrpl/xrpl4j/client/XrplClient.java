@@ -32,7 +32,6 @@ import okhttp3.HttpUrl;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.signing.MultiSignedTransaction;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
 import org.xrpl.xrpl4j.model.client.Finality;
@@ -129,7 +128,6 @@ public class XrplClient {
   private static final Logger LOGGER = LoggerFactory.getLogger(XrplClient.class);
 
   private final ObjectMapper objectMapper;
-  private final XrplBinaryCodec binaryCodec;
   private final JsonRpcClient jsonRpcClient;
 
   /**
@@ -150,7 +148,6 @@ public class XrplClient {
   XrplClient(final JsonRpcClient jsonRpcClient) {
     this.jsonRpcClient = Objects.requireNonNull(jsonRpcClient);
     this.objectMapper = ObjectMapperFactory.create();
-    this.binaryCodec = XrplBinaryCodec.getInstance();
   }
 
   /**
@@ -172,8 +169,7 @@ public class XrplClient {
       LOGGER.debug("About to submit signedTransaction: {}", signedTransaction);
     }
 
-    String signedJson = objectMapper.writeValueAsString(signedTransaction.signedTransaction());
-    String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
+    String signedBlob = signedTransaction.signedTransactionBytes().hexValue(); // <-- txBlob must be binary-encoded.
     JsonRpcRequest request = JsonRpcRequest.builder()
       .method(XrplMethods.SUBMIT)
       .addParams(SubmitRequestParams.of(signedBlob))
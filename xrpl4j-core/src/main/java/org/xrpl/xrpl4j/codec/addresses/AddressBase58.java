@@ -55,7 +55,7 @@ public class AddressBase58 extends Base58 {
     Objects.requireNonNull(versions);
     Objects.requireNonNull(expectedLength);
 
-    if (expectedLength.intValue() != bytes.getUnsignedBytes().size()) {
+    if (expectedLength.intValue() != bytes.length()) {
       throw new EncodeException("Length of bytes does not match expectedLength.");
     }
 
@@ -22,8 +22,11 @@ package org.xrpl.xrpl4j.codec.addresses;
 
 import static java.util.Arrays.copyOfRange;
 
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
@@ -40,12 +43,44 @@ import java.util.Optional;
 @SuppressWarnings( {"OptionalUsedAsFieldOrParameterType", "ParameterName", "MethodName"})
 public class AddressCodec {
 
-  private static final AddressCodec INSTANCE = new AddressCodec();
+  /**
+   * The name of a system property that, if set to a {@link CaffeineSpec} such as {@code maximumSize=10000}, makes
+   * {@link #getInstance()} a {@link CachingAddressCodec} configured with that spec. If the value is not a valid
+   * {@link CaffeineSpec}, a warning is logged and {@link #getInstance()} does not cache.
+   */
+  public static final String ACCOUNT_ID_CACHE_SPEC_PROPERTY = "xrpl4j.addressCodec.accountIdCacheSpec";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AddressCodec.class);
 
+  private static final AddressCodec INSTANCE = create(System.getProperty(ACCOUNT_ID_CACHE_SPEC_PROPERTY));
+
+  /**
+   * Get the shared {@link AddressCodec}, which is a {@link CachingAddressCodec} if the
+   * {@value #ACCOUNT_ID_CACHE_SPEC_PROPERTY} system property was set when this class was initialized.
+   *
+   * @return The shared {@link AddressCodec}.
+   */
   public static AddressCodec getInstance() {
     return INSTANCE;
   }
 
+  static AddressCodec create(final String accountIdCacheSpec) {
+    if (accountIdCacheSpec == null || accountIdCacheSpec.trim().isEmpty()) {
+      return new AddressCodec();
+    }
+    final CaffeineSpec caffeineSpec;
+    try {
+      caffeineSpec = CaffeineSpec.parse(accountIdCacheSpec);
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn(
+        "Ignoring invalid value '{}' of system property {}; AccountIDs will not be cached.",
+        accountIdCacheSpec, ACCOUNT_ID_CACHE_SPEC_PROPERTY, e
+      );
+      return new AddressCodec();
+    }
+    return new CachingAddressCodec(caffeineSpec);
+  }
+
   /**
    * Encode an XRPL AccountID to a Base58Check encoded {@link String}.
    *
@@ -188,7 +223,7 @@ public class AddressCodec {
     Objects.requireNonNull(accountId);
     Objects.requireNonNull(tag);
 
-    if (accountId.getUnsignedBytes().size() != 20) {
+    if (accountId.length() != 20) {
       throw new EncodeException("AccountID must be 20 bytes.");
     }
 
@@ -24,7 +24,6 @@ import static java.util.Arrays.copyOfRange;
 
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
@@ -36,6 +35,14 @@ public class Base58 {
 
   private static final int[] INDEXES = new int[255];
 
+  /**
+   * The number of base58 digits held by one 32-bit limb, and 58 raised to that power, which is the largest power of 58
+   * below 2^32.
+   */
+  private static final int DIGITS_PER_LIMB = 5;
+  private static final long LIMB_BASE_58 = 58L * 58 * 58 * 58 * 58;
+  private static final long LIMB_MASK = 0xFFFFFFFFL;
+
   static {
     Arrays.fill(INDEXES, -1);
     for (int i = 0; i < ALPHABET.length; i++) {
@@ -54,36 +61,47 @@ public class Base58 {
     if (input.length == 0) {
       return "";
     }
-    input = copyOfRange(input, 0, input.length);
     // Count leading zeroes.
     int zeroCount = 0;
     while (zeroCount < input.length && input[zeroCount] == 0) {
       ++zeroCount;
     }
-    // The actual encoding.
-    byte[] temp = new byte[input.length * 2];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input.length) {
-      byte mod = divmod58(input, startAt);
-      if (input[startAt] == 0) {
+    // Load the remaining bytes into big-endian 32-bit limbs, so that each pass below divides four bytes at a time.
+    int[] limbs = toLimbs(input, zeroCount);
+
+    // Each base58 digit needs log(256) / log(58) ~= 1.37 bytes, rounded up to whole groups of digits.
+    int digitCount = ((input.length - zeroCount) * 138 / 100 + DIGITS_PER_LIMB) / DIGITS_PER_LIMB * DIGITS_PER_LIMB;
+    char[] output = new char[zeroCount + digitCount];
+    int outputIndex = output.length;
+
+    // Repeatedly divide by 58^5, emitting five digits, least significant first, from each remainder.
+    int startAt = 0;
+    while (startAt < limbs.length) {
+      long remainder = 0;
+      for (int i = startAt; i < limbs.length; i++) {
+        long current = (remainder << 32) | (limbs[i] & LIMB_MASK);
+        limbs[i] = (int) (current / LIMB_BASE_58);
+        remainder = current % LIMB_BASE_58;
+      }
+      while (startAt < limbs.length && limbs[startAt] == 0) {
         ++startAt;
       }
-      temp[--tempIndex] = (byte) ALPHABET[mod];
+      for (int i = 0; i < DIGITS_PER_LIMB; i++) {
+        output[--outputIndex] = ALPHABET[(int) (remainder % 58)];
+        remainder /= 58;
+      }
     }
 
-    // Strip extra '1' if there are some after decoding.
-    while (tempIndex < temp.length && temp[tempIndex] == ALPHABET[0]) {
-      ++tempIndex;
+    // Strip the leading zero digits of the last group, then add one zero digit for each leading zero byte.
+    while (outputIndex < output.length && output[outputIndex] == ALPHABET[0]) {
+      ++outputIndex;
     }
-    // Add as many leading '1' as there were leading zeros.
     while (--zeroCount >= 0) {
-      temp[--tempIndex] = (byte) ALPHABET[0];
+      output[--outputIndex] = ALPHABET[0];
     }
 
-    byte[] output = copyOfRange(temp, tempIndex, temp.length);
-    return new String(output, StandardCharsets.US_ASCII);
+    return new String(output, outputIndex, output.length - outputIndex);
   }
 
   /**
@@ -97,45 +115,48 @@ public class Base58 {
     if (input.length() == 0) {
       return new byte[0];
     }
-    byte[] input58 = new byte[input.length()];
-    // Transform the String to a base58 byte sequence
-    for (int i = 0; i < input.length(); ++i) {
-      char charAtIndex = input.charAt(i);
-
-      int digit58 = -1;
-      if (charAtIndex < INDEXES.length) {
-        digit58 = INDEXES[charAtIndex];
-      }
-      if (digit58 < 0) {
-        throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + i);
-      }
-
-      input58[i] = (byte) digit58;
-    }
-    // Count leading zeroes
+    // Count leading zeroes, validating every character along the way.
     int zeroCount = 0;
-    while (zeroCount < input58.length && input58[zeroCount] == 0) {
+    while (zeroCount < input.length() && digit58(input, zeroCount) == 0) {
       ++zeroCount;
     }
-    // The encoding
-    byte[] temp = new byte[input.length()];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input58.length) {
-      byte mod = divmod256(input58, startAt);
-      if (input58[startAt] == 0) {
-        ++startAt;
-      }
+    // Each base58 digit carries log(58) / log(256) ~= 0.733 bytes.
+    int[] limbs = new int[((input.length() - zeroCount) * 733 / 1000 + 1 + 3) / 4 + 1];
 
-      temp[--tempIndex] = mod;
+    // Multiply in five digits at a time, so that each pass below multiplies by 58^5 instead of 58.
+    int index = zeroCount;
+    int groupSize = (input.length() - zeroCount) % DIGITS_PER_LIMB;
+    if (groupSize == 0) {
+      groupSize = DIGITS_PER_LIMB;
     }
-    // Do no add extra leading zeroes, move tempIndex to first non null byte.
-    while (tempIndex < temp.length && temp[tempIndex] == 0) {
-      ++tempIndex;
+    while (index < input.length()) {
+      long group = 0;
+      long multiplier = 1;
+      for (int i = 0; i < groupSize; i++) {
+        group = group * 58 + digit58(input, index++);
+        multiplier *= 58;
+      }
+      long carry = group;
+      for (int i = limbs.length - 1; i >= 0; i--) {
+        long current = (limbs[i] & LIMB_MASK) * multiplier + carry;
+        limbs[i] = (int) current;
+        carry = current >>> 32;
+      }
+      groupSize = DIGITS_PER_LIMB;
     }
 
-    return copyOfRange(temp, tempIndex - zeroCount, temp.length);
+    // Convert the limbs back to bytes, without leading zero bytes, and add as many leading zero bytes as there were
+    // leading zero digits.
+    int firstByte = 0;
+    while (firstByte < limbs.length * 4 && limbByte(limbs, firstByte) == 0) {
+      ++firstByte;
+    }
+    byte[] output = new byte[zeroCount + limbs.length * 4 - firstByte];
+    for (int i = firstByte, outputIndex = zeroCount; i < limbs.length * 4; i++, outputIndex++) {
+      output[outputIndex] = limbByte(limbs, i);
+    }
+    return output;
   }
 
   /**
@@ -180,31 +201,39 @@ public class Base58 {
     return bytes;
   }
 
-  private static byte divmod58(byte[] number, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number.length; i++) {
-      int digit256 = (int) number[i] & 0xFF;
-      int temp = remainder * 256 + digit256;
-
-      number[i] = (byte) (temp / 58);
-
-      remainder = temp % 58;
+  /**
+   * Load {@code input}, from {@code startAt}, into big-endian 32-bit limbs. The most significant limb holds the
+   * leading {@code (input.length - startAt) % 4} bytes, if that is not zero.
+   */
+  private static int[] toLimbs(byte[] input, int startAt) {
+    int length = input.length - startAt;
+    int[] limbs = new int[(length + 3) / 4];
+    int limbIndex = limbs.length - 1;
+    int shift = 0;
+    for (int i = input.length - 1; i >= startAt; i--) {
+      limbs[limbIndex] |= (input[i] & 0xFF) << shift;
+      shift += 8;
+      if (shift == 32) {
+        shift = 0;
+        --limbIndex;
+      }
     }
-
-    return (byte) remainder;
+    return limbs;
   }
 
-  private static byte divmod256(byte[] number58, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number58.length; i++) {
-      int digit58 = (int) number58[i] & 0xFF;
-      int temp = remainder * 58 + digit58;
-
-      number58[i] = (byte) (temp / 256);
+  private static byte limbByte(int[] limbs, int byteIndex) {
+    return (byte) (limbs[byteIndex >>> 2] >>> (24 - 8 * (byteIndex & 3)));
+  }
 
-      remainder = temp % 256;
+  private static int digit58(String input, int index) {
+    char charAtIndex = input.charAt(index);
+    int digit58 = -1;
+    if (charAtIndex < INDEXES.length) {
+      digit58 = INDEXES[charAtIndex];
     }
-
-    return (byte) remainder;
+    if (digit58 < 0) {
+      throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + index);
+    }
+    return digit58;
   }
 }
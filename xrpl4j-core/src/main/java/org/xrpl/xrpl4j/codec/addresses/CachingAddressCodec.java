@@ -0,0 +1,117 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * An {@link AddressCodec} that remembers recently converted AccountIDs, so that the Base58Check encoding and decoding
+ * (including the double-SHA256 checksum) of frequently seen accounts, such as busy wallets and issuers, is done once.
+ *
+ * <p>Conversions in either direction populate both caches. Only valid conversions are cached; an invalid
+ * {@link Address} or AccountID throws in the same way as {@link AddressCodec} every time it is seen. Hit and miss
+ * statistics are always recorded and are available from {@link #decodeStats()} and {@link #encodeStats()}.</p>
+ *
+ * <p>To have {@link AddressCodec#getInstance()}, which is used by the binary codec and by
+ * {@link org.xrpl.xrpl4j.crypto.keys.PublicKey#deriveAddress()}, return an instance of this class, set the
+ * {@value AddressCodec#ACCOUNT_ID_CACHE_SPEC_PROPERTY} system property to a {@link CaffeineSpec}, such as
+ * {@code maximumSize=10000}, before the first call.</p>
+ */
+public class CachingAddressCodec extends AddressCodec {
+
+  private static final int ACCOUNT_ID_LENGTH = 20;
+
+  private final Cache<Address, byte[]> accountIds;
+  private final Cache<ByteBuffer, Address> addresses;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param caffeineSpec A {@link CaffeineSpec} that configures the bounds of each of the two caches, for example
+   *                     {@code CaffeineSpec.parse("maximumSize=10000")}.
+   */
+  public CachingAddressCodec(final CaffeineSpec caffeineSpec) {
+    Objects.requireNonNull(caffeineSpec);
+    this.accountIds = Caffeine.from(caffeineSpec).recordStats().build();
+    this.addresses = Caffeine.from(caffeineSpec).recordStats().build();
+  }
+
+  @Override
+  public Address encodeAccountId(final UnsignedByteArray accountId) {
+    Objects.requireNonNull(accountId);
+    if (accountId.length() != ACCOUNT_ID_LENGTH) {
+      // Let AddressCodec reject it, without caching the failure.
+      return super.encodeAccountId(accountId);
+    }
+    byte[] accountIdBytes = accountId.toByteArray();
+    return addresses.get(ByteBuffer.wrap(accountIdBytes), key -> {
+      Address address = super.encodeAccountId(accountId);
+      accountIds.put(address, accountIdBytes);
+      return address;
+    });
+  }
+
+  @Override
+  public UnsignedByteArray decodeAccountId(final Address accountId) {
+    Objects.requireNonNull(accountId);
+    byte[] accountIdBytes = accountIds.get(accountId, key -> {
+      byte[] decoded = super.decodeAccountId(key).toByteArray();
+      addresses.put(ByteBuffer.wrap(decoded), key);
+      return decoded;
+    });
+    // UnsignedByteArray is mutable, so never hand out the cached array itself.
+    return UnsignedByteArray.of(accountIdBytes);
+  }
+
+  /**
+   * Statistics for {@link #decodeAccountId(Address)}.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats decodeStats() {
+    return accountIds.stats();
+  }
+
+  /**
+   * Statistics for {@link #encodeAccountId(UnsignedByteArray)}.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats encodeStats() {
+    return addresses.stats();
+  }
+
+  /**
+   * Discard all cached conversions. Statistics are not reset.
+   */
+  public void invalidateAll() {
+    accountIds.invalidateAll();
+    addresses.invalidateAll();
+  }
+
+}
@@ -0,0 +1,165 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Table-driven base16 (hex) encoding and decoding that works directly on {@code byte[]} and {@code char[]}, without
+ * creating an object per byte. Encoding produces upper-case hex, which is the canonical form used throughout the XRPL
+ * codecs; decoding accepts either case.
+ */
+public final class HexCodec {
+
+  private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private static final char[] HIGH_DIGITS = new char[256];
+
+  private static final char[] LOW_DIGITS = new char[256];
+
+  private static final byte[] NIBBLES = new byte[128];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      HIGH_DIGITS[i] = DIGITS[i >>> 4];
+      LOW_DIGITS[i] = DIGITS[i & 0x0F];
+    }
+    Arrays.fill(NIBBLES, (byte) -1);
+    for (int i = 0; i < 10; i++) {
+      NIBBLES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      NIBBLES['A' + i] = (byte) (10 + i);
+      NIBBLES['a' + i] = (byte) (10 + i);
+    }
+  }
+
+  private HexCodec() {
+  }
+
+  /**
+   * Encode a single byte as two upper-case hex characters.
+   *
+   * @param value A byte.
+   *
+   * @return A {@link String} of length 2.
+   */
+  public static String encode(byte value) {
+    return new String(new char[] {HIGH_DIGITS[value & 0xFF], LOW_DIGITS[value & 0xFF]});
+  }
+
+  /**
+   * Encode {@code bytes} as upper-case hex.
+   *
+   * @param bytes A byte array.
+   *
+   * @return A hex-encoded {@link String}.
+   */
+  public static String encode(byte[] bytes) {
+    return encode(Objects.requireNonNull(bytes), 0, bytes.length);
+  }
+
+  /**
+   * Encode a range of {@code bytes} as upper-case hex.
+   *
+   * @param bytes  A byte array.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   *
+   * @return A hex-encoded {@link String}.
+   */
+  public static String encode(byte[] bytes, int offset, int length) {
+    char[] chars = new char[length * 2];
+    encode(bytes, offset, length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Encode a range of {@code bytes} as upper-case hex into {@code destination}.
+   *
+   * @param bytes             A byte array.
+   * @param offset            The index of the first byte to encode.
+   * @param length            The number of bytes to encode.
+   * @param destination       A char array with room for {@code length * 2} characters at {@code destinationOffset}.
+   * @param destinationOffset The index in {@code destination} of the first character to write.
+   */
+  public static void encode(byte[] bytes, int offset, int length, char[] destination, int destinationOffset) {
+    Objects.requireNonNull(bytes);
+    Objects.requireNonNull(destination);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + " and length " + length + " out of bounds for array of length " + bytes.length
+      );
+    }
+    int charIndex = destinationOffset;
+    for (int i = offset; i < offset + length; i++) {
+      int value = bytes[i] & 0xFF;
+      destination[charIndex++] = HIGH_DIGITS[value];
+      destination[charIndex++] = LOW_DIGITS[value];
+    }
+  }
+
+  /**
+   * Decode hex of either case to bytes. An odd number of characters is treated as if it had a leading {@code 0}, in
+   * the same way as {@link ByteUtils#padded(String)}.
+   *
+   * @param hex A hex-encoded {@link CharSequence}.
+   *
+   * @return A byte array.
+   * @throws IllegalArgumentException if {@code hex} contains a character that is not a hex digit.
+   */
+  public static byte[] decode(CharSequence hex) {
+    Objects.requireNonNull(hex);
+    int length = hex.length();
+    byte[] bytes = new byte[(length + 1) / 2];
+    int charIndex = 0;
+    int byteIndex = 0;
+    if (length % 2 == 1) {
+      bytes[byteIndex++] = (byte) nibble(hex, charIndex++);
+    }
+    while (charIndex < length) {
+      bytes[byteIndex++] = (byte) ((nibble(hex, charIndex) << 4) | nibble(hex, charIndex + 1));
+      charIndex += 2;
+    }
+    return bytes;
+  }
+
+  /**
+   * Decode a single hex digit of either case.
+   *
+   * @param ch A hex digit.
+   *
+   * @return The value of {@code ch}, or -1 if {@code ch} is not a hex digit.
+   */
+  public static int digit(char ch) {
+    return ch < NIBBLES.length ? NIBBLES[ch] : -1;
+  }
+
+  private static int nibble(CharSequence hex, int index) {
+    int value = digit(hex.charAt(index));
+    if (value < 0) {
+      throw new IllegalArgumentException("Invalid hex character '" + hex.charAt(index) + "' at index " + index);
+    }
+    return value;
+  }
+
+}
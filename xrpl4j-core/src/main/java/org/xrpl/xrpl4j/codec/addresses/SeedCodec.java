@@ -72,7 +72,7 @@ public class SeedCodec {
     Objects.requireNonNull(entropy);
     Objects.requireNonNull(type);
 
-    if (entropy.getUnsignedBytes().size() != 16) {
+    if (entropy.length() != 16) {
       throw new EncodeException("entropy must have length 16.");
     }
 
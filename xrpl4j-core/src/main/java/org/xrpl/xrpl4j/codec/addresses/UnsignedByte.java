@@ -21,9 +21,7 @@ package org.xrpl.xrpl4j.codec.addresses;
  */
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 
-import java.math.BigInteger;
 import java.util.Objects;
 import javax.security.auth.Destroyable;
 
@@ -85,9 +83,15 @@ public class UnsignedByte implements Destroyable {
    */
   public static UnsignedByte of(final String hex) {
     Objects.requireNonNull(hex);
-    byte highBits = new BigInteger(hex.substring(0, 1), 16).byteValue();
-    byte lowBits = new BigInteger(hex.substring(1, 2), 16).byteValue();
-    return UnsignedByte.of(highBits, lowBits);
+    return UnsignedByte.of(hexDigit(hex, 0), hexDigit(hex, 1));
+  }
+
+  private static byte hexDigit(final String hex, final int index) {
+    int digit = HexCodec.digit(hex.charAt(index));
+    if (digit < 0) {
+      throw new NumberFormatException("Invalid hex character in " + hex);
+    }
+    return (byte) digit;
   }
 
   /**
@@ -158,7 +162,7 @@ public class UnsignedByte implements Destroyable {
    * @return The hex {@link String} value of this {@link UnsignedByte}.
    */
   public String hexValue() {
-    return BaseEncoding.base16().encode(new byte[] {(byte) asInt()});
+    return HexCodec.encode((byte) value);
   }
 
   @Override
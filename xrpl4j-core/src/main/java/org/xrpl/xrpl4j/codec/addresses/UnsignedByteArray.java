@@ -20,10 +20,12 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import javax.security.auth.Destroyable;
 
@@ -31,16 +33,38 @@ import javax.security.auth.Destroyable;
  * <p>Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations on
  * arrays on unsigned bytes.</p>
  *
+ * <p>Bytes are held in a growable primitive {@code byte[]}, so appending to or reading from this array does not
+ * allocate an object per byte. {@link UnsignedByte} accessors are retained for compatibility, but allocate a new
+ * {@link UnsignedByte} per call; hot paths should prefer {@link #getByte(int)}, {@link #append(byte)} and
+ * {@link #append(byte[])}.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.</p>
  */
 public class UnsignedByteArray implements Destroyable {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private byte[] bytes;
+  private int length;
   private boolean destroyed;
 
+  /**
+   * Creates an {@link UnsignedByteArray} containing the supplied {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}s to copy into this array.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.bytes = new byte[unsignedBytes.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      this.bytes[i] = unsignedBytes.get(i).asByte();
+    }
+    this.length = bytes.length;
+  }
+
+  private UnsignedByteArray(final byte[] bytes, final int length) {
+    this.bytes = bytes;
+    this.length = length;
   }
 
   /**
@@ -52,12 +76,26 @@ public class UnsignedByteArray implements Destroyable {
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
+    return new UnsignedByteArray(bytes.clone(), bytes.length);
+  }
 
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
+  /**
+   * Creates an {@link UnsignedByteArray} from a range of a byte array.
+   *
+   * @param bytes  The byte array to copy from.
+   * @param offset The index of the first byte to copy.
+   * @param length The number of bytes to copy.
+   *
+   * @return An {@link UnsignedByteArray} containing the requested range of {@code bytes}.
+   */
+  public static UnsignedByteArray of(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + " and length " + length + " out of bounds for array of length " + bytes.length
+      );
     }
-    return new UnsignedByteArray(unsignedBytes);
+    return new UnsignedByteArray(Arrays.copyOfRange(bytes, offset, offset + length), length);
   }
 
   /**
@@ -69,10 +107,12 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[rest.length + 1];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, bytes.length);
   }
 
   /**
@@ -81,7 +121,19 @@ public class UnsignedByteArray implements Destroyable {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return new UnsignedByteArray(new byte[DEFAULT_CAPACITY], 0);
+  }
+
+  /**
+   * Creates an empty {@link UnsignedByteArray} that can hold {@code initialCapacity} bytes before it needs to grow.
+   *
+   * @param initialCapacity The number of bytes to pre-allocate.
+   *
+   * @return An empty {@link UnsignedByteArray}.
+   */
+  public static UnsignedByteArray withCapacity(int initialCapacity) {
+    Preconditions.checkArgument(initialCapacity >= 0, "initialCapacity must be non-negative");
+    return new UnsignedByteArray(new byte[initialCapacity], 0);
   }
 
   /**
@@ -92,7 +144,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], size);
   }
 
   /**
@@ -104,8 +156,8 @@ public class UnsignedByteArray implements Destroyable {
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = HexCodec.decode(hex);
+    return new UnsignedByteArray(bytes, bytes.length);
   }
 
   protected static List<UnsignedByte> fill(int amount) {
@@ -117,11 +169,16 @@ public class UnsignedByteArray implements Destroyable {
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Get a copy of the bytes in this {@link UnsignedByteArray} as a {@link List} of {@link UnsignedByte}s. Changes to
+   * the returned {@link List} are not reflected in this array.
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @return A {@link List} of {@link UnsignedByte}s.
    */
   public List<UnsignedByte> getUnsignedBytes() {
+    List<UnsignedByte> unsignedBytes = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      unsignedBytes.add(UnsignedByte.of(bytes[i]));
+    }
     return unsignedBytes;
   }
 
@@ -131,13 +188,20 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray} as a byte array.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
-
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
+    return Arrays.copyOf(bytes, length);
+  }
 
-    return bytes;
+  /**
+   * Copies the bytes of this {@link UnsignedByteArray} into {@code destination}, starting at its current position,
+   * without an intermediate array copy.
+   *
+   * @param destination A {@link ByteBuffer} with at least {@link #length()} bytes remaining.
+   *
+   * @throws java.nio.BufferOverflowException if {@code destination} does not have enough space remaining.
+   */
+  public void writeTo(ByteBuffer destination) {
+    Objects.requireNonNull(destination);
+    destination.put(bytes, 0, length);
   }
 
   /**
@@ -146,7 +210,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    return HexCodec.encode(bytes, 0, length);
   }
 
   /**
@@ -155,7 +219,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
   }
 
   /**
@@ -166,7 +230,20 @@ public class UnsignedByteArray implements Destroyable {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    return UnsignedByte.of(getByte(index));
+  }
+
+  /**
+   * Gets the raw (signed) {@code byte} at a given index. Use {@code getByte(index) & 0xFF} to obtain the unsigned
+   * value.
+   *
+   * @param index The index of the byte to get.
+   *
+   * @return The byte at the given index.
+   */
+  public byte getByte(int index) {
+    checkIndex(index);
+    return bytes[index];
   }
 
   /**
@@ -177,7 +254,48 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    return append(unsignedByte.asByte());
+  }
+
+  /**
+   * Appends a single byte to this {@link UnsignedByteArray}.
+   *
+   * @param value The byte to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given byte appended.
+   */
+  public UnsignedByteArray append(byte value) {
+    ensureCapacity(length + 1);
+    bytes[length++] = value;
+    return this;
+  }
+
+  /**
+   * Appends all of the given bytes to the end of this array.
+   *
+   * @param values The bytes to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given bytes appended.
+   */
+  public UnsignedByteArray append(byte[] values) {
+    Objects.requireNonNull(values);
+    return append(values, 0, values.length);
+  }
+
+  /**
+   * Appends a range of the given bytes to the end of this array.
+   *
+   * @param values The bytes to append.
+   * @param offset The index of the first byte in {@code values} to append.
+   * @param count  The number of bytes to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given bytes appended.
+   */
+  public UnsignedByteArray append(byte[] values, int offset, int count) {
+    Objects.requireNonNull(values);
+    ensureCapacity(length + count);
+    System.arraycopy(values, offset, bytes, length, count);
+    length += count;
     return this;
   }
 
@@ -190,8 +308,26 @@ public class UnsignedByteArray implements Destroyable {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
-    return this;
+    return append(array.bytes, 0, array.length);
+  }
+
+  /**
+   * Appends a range of the given {@link UnsignedByteArray} to the end of this array.
+   *
+   * @param array  An {@link UnsignedByteArray} to append a range of.
+   * @param offset The index of the first byte in {@code array} to append.
+   * @param count  The number of bytes to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given bytes appended.
+   */
+  public UnsignedByteArray append(UnsignedByteArray array, int offset, int count) {
+    Objects.requireNonNull(array);
+    if (offset < 0 || count < 0 || offset + count > array.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + " and count " + count + " out of bounds for array of length " + array.length
+      );
+    }
+    return append(array.bytes, offset, count);
   }
 
   /**
@@ -201,11 +337,22 @@ public class UnsignedByteArray implements Destroyable {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    set(index, value.asByte());
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Sets the value at the given index to the given byte.
+   *
+   * @param index The index to set.
+   * @param value The byte to set at the given index.
+   */
+  public void set(int index, byte value) {
+    checkIndex(index);
+    bytes[index] = value;
+  }
+
+  /**
+   * Returns a copy of the bytes from the given start to the end index (exclusive).
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
@@ -213,7 +360,24 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    if (startIndex < 0 || endIndex > length || startIndex > endIndex) {
+      throw new IndexOutOfBoundsException(
+        "slice [" + startIndex + ", " + endIndex + ") out of bounds for length " + length
+      );
+    }
+    return new UnsignedByteArray(Arrays.copyOfRange(bytes, startIndex, endIndex), endIndex - startIndex);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+    }
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(minCapacity, Math.max(bytes.length * 2, DEFAULT_CAPACITY)));
+    }
   }
 
   @Override
@@ -225,25 +389,38 @@ public class UnsignedByteArray implements Destroyable {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (this.length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (this.bytes[i] != that.bytes[i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    // Same value as the previous List<UnsignedByte> based implementation: Objects.hash(List<UnsignedByte>).
+    int result = 1;
+    for (int i = 0; i < length; i++) {
+      result = 31 * result + (31 + (bytes[i] & 0xFF));
+    }
+    return 31 + result;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
 
   @Override
   public void destroy() {
-    this.unsignedBytes.forEach(UnsignedByte::destroy);
-    this.unsignedBytes.clear();
+    Arrays.fill(this.bytes, (byte) 0);
+    this.length = 0;
     this.destroyed = true;
   }
 
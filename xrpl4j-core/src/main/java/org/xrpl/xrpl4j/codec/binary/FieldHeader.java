@@ -40,4 +40,29 @@ public interface FieldHeader {
 
   int typeCode();
 
+  /**
+   * The 1, 2 or 3 byte binary encoding of this header. Type and field codes below 16 are packed into the nibbles of
+   * the first byte; larger codes are written as whole bytes following it.
+   *
+   * @return A byte array containing the encoded header.
+   */
+  default byte[] toBytes() {
+    final int typeCode = typeCode();
+    final int fieldCode = fieldCode();
+    if (typeCode < 16) {
+      if (fieldCode < 16) {
+        // single byte case where high bits contain type code, low bits contain field code
+        return new byte[] {(byte) ((typeCode << 4) | fieldCode)};
+      }
+      // 2 byte case where first byte contains type code + filler, second byte contains field code
+      return new byte[] {(byte) (typeCode << 4), (byte) fieldCode};
+    }
+    if (fieldCode < 16) {
+      // 2 byte case where first byte contains filler + field code, second byte contains type code
+      return new byte[] {(byte) fieldCode, (byte) typeCode};
+    }
+    // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
+    return new byte[] {0, (byte) typeCode, (byte) fieldCode};
+  }
+
 }
@@ -0,0 +1,277 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.jackson.modules.UnsignedIntegerSerializer;
+import org.xrpl.xrpl4j.model.jackson.modules.UnsignedLongSerializer;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Encodes {@link Transaction} objects directly into canonical XRPL binary, and decodes canonical XRPL binary directly
+ * into {@link Transaction} and {@link TransactionMetadata} objects.
+ *
+ * <p>The transaction is converted into a {@link JsonNode} tree by the model's Jackson serializers (which never renders
+ * JSON text) and that tree is written straight into an {@link UnsignedByteArray} by {@link XrplBinaryCodec} in
+ * canonical field order. This produces the same bytes as serializing the transaction to a JSON {@link String}, encoding
+ * that to hex with {@link XrplBinaryCodec#encode(String)} and decoding the hex, without the intermediate text.
+ * Decoding goes further: the binary is parsed into a stream of JSON tokens in a {@link TokenBuffer}, without any
+ * {@link JsonNode} tree, and that stream is bound directly to the concrete {@link Transaction} type named by its
+ * {@code TransactionType} field.</p>
+ */
+public class TransactionCodec {
+
+  private static final String TRANSACTION_TYPE = "TransactionType";
+
+  private static final TransactionCodec INSTANCE = new TransactionCodec(
+    ObjectMapperFactory.create(),
+    XrplBinaryCodec.getInstance()
+  );
+
+  /**
+   * Get a singleton instance of {@link TransactionCodec}.
+   *
+   * @return A singleton instance of {@link TransactionCodec}.
+   */
+  public static TransactionCodec getInstance() {
+    return INSTANCE;
+  }
+
+  private final ObjectMapper objectMapper;
+  private final XrplBinaryCodec binaryCodec;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper An {@link ObjectMapper} that can serialize {@link Transaction}s. This mapper is copied, not
+   *                     modified.
+   * @param binaryCodec  An {@link XrplBinaryCodec}.
+   */
+  public TransactionCodec(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
+    Objects.requireNonNull(objectMapper);
+    this.objectMapper = objectMapper.copy().registerModule(
+      new SimpleModule("TransactionCodec")
+        .addSerializer(UnsignedInteger.class, new UnsignedIntegerSerializer())
+        .addSerializer(UnsignedLong.class, new UnsignedLongSerializer())
+    );
+    this.binaryCodec = Objects.requireNonNull(binaryCodec);
+  }
+
+  /**
+   * Encodes a {@link Transaction}, including any signature fields, to canonical XRPL binary.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} containing the transaction blob.
+   */
+  public UnsignedByteArray encode(final Transaction transaction) {
+    return binaryCodec.encodeToBytes(toJsonNode(transaction));
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction}, prefixed by the single-signing prefix.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForSigning(final Transaction transaction) {
+    return binaryCodec.encodeForSigningToBytes(toJsonNode(transaction));
+  }
+
+  /**
+   * Whether {@code transaction} has a serialized field, other than {@code TxnSignature}, that is not a signing field
+   * and is therefore missing from {@link #encodeForSigning(Transaction)}.
+   *
+   * @param transaction A {@link Transaction}.
+   *
+   * @return {@code true} if the signing bytes of {@code transaction} omit one of its serialized fields.
+   * @see XrplBinaryCodec#hasNonSigningFields(JsonNode)
+   */
+  public boolean hasNonSigningFields(final Transaction transaction) {
+    return binaryCodec.hasNonSigningFields(toJsonNode(transaction));
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} for signing by {@code signerAddress} as part of a multi-signed
+   * transaction.
+   *
+   * @param transaction   A {@link Transaction} to encode.
+   * @param signerAddress The {@link Address} of the signer.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForMultiSigning(final Transaction transaction, final Address signerAddress) {
+    Objects.requireNonNull(signerAddress);
+    return binaryCodec.encodeForMultiSigningToBytes(toJsonNode(transaction), signerAddress.value());
+  }
+
+  /**
+   * Adds the AccountID of {@code signerAddress} to bytes returned by
+   * {@link #encodeForMultiSigningWithoutSigner(Transaction)}, producing the same bytes as
+   * {@link #encodeForMultiSigning(Transaction, Address)} without encoding the transaction again.
+   *
+   * @param multiSigningBytes An {@link UnsignedByteArray} returned by
+   *                          {@link #encodeForMultiSigningWithoutSigner(Transaction)}. It is not modified.
+   * @param signerAddress     The {@link Address} of the signer.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray addMultiSigningAccountId(
+    final UnsignedByteArray multiSigningBytes, final Address signerAddress
+  ) {
+    Objects.requireNonNull(signerAddress);
+    return binaryCodec.addMultiSigningAccountId(multiSigningBytes, signerAddress.value());
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction}, prefixed by the multi-signing prefix, but without the
+   * AccountID of any signer.
+   *
+   * @param transaction A {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} that can be passed to
+   *   {@link #addMultiSigningAccountId(UnsignedByteArray, Address)} once per signer.
+   */
+  public UnsignedByteArray encodeForMultiSigningWithoutSigner(final Transaction transaction) {
+    return binaryCodec.encodeForMultiSigningWithoutSignerToBytes(toJsonNode(transaction));
+  }
+
+  /**
+   * Decodes a canonical XRPL binary transaction blob (for example, a {@code tx_blob}) into the {@link Transaction}
+   * subtype identified by its {@code TransactionType} field.
+   *
+   * @param transactionBytes An {@link UnsignedByteArray} containing a binary encoded transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   * @throws JsonProcessingException if the decoded fields cannot be bound to a {@link Transaction}.
+   */
+  public Transaction decode(final UnsignedByteArray transactionBytes) throws JsonProcessingException {
+    final TokenBuffer tokens = decodeToTokens(transactionBytes);
+    final String transactionType = findTransactionType(tokens)
+      .orElseThrow(() -> new IllegalArgumentException("Binary encoded transaction must have a TransactionType field."));
+    final Class<? extends Transaction> transactionClass = Transaction.typeMap.inverse()
+      .get(TransactionType.forValue(transactionType));
+    return readValue(tokens, transactionClass);
+  }
+
+  /**
+   * Decodes a canonical XRPL binary transaction blob into a {@link Transaction} of the expected type.
+   *
+   * @param transactionBytes An {@link UnsignedByteArray} containing a binary encoded transaction.
+   * @param transactionType  The {@link Class} of {@link Transaction} that {@code transactionBytes} contains.
+   * @param <T>              The type of {@link Transaction} to decode.
+   *
+   * @return The decoded {@link Transaction}.
+   * @throws JsonProcessingException if the decoded fields cannot be bound to {@code transactionType}.
+   */
+  public <T extends Transaction> T decode(
+    final UnsignedByteArray transactionBytes,
+    final Class<T> transactionType
+  ) throws JsonProcessingException {
+    Objects.requireNonNull(transactionType);
+    return readValue(decodeToTokens(transactionBytes), transactionType);
+  }
+
+  /**
+   * Decodes canonical XRPL binary transaction metadata (for example, a {@code meta_blob}) into a
+   * {@link TransactionMetadata}.
+   *
+   * @param metadataBytes An {@link UnsignedByteArray} containing binary encoded transaction metadata.
+   *
+   * @return The decoded {@link TransactionMetadata}.
+   * @throws JsonProcessingException if the decoded fields cannot be bound to a {@link TransactionMetadata}.
+   */
+  public TransactionMetadata decodeMetadata(final UnsignedByteArray metadataBytes) throws JsonProcessingException {
+    return readValue(decodeToTokens(metadataBytes), TransactionMetadata.class);
+  }
+
+  private TokenBuffer decodeToTokens(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    final TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    try {
+      binaryCodec.decodeTo(bytes, tokens);
+    } catch (IOException e) {
+      // A TokenBuffer does no I/O.
+      throw new UncheckedIOException(e);
+    }
+    return tokens;
+  }
+
+  /**
+   * Finds the value of the top-level {@code TransactionType} field in {@code tokens}. Canonical field order puts it
+   * at, or very near, the start of a transaction.
+   */
+  private static Optional<String> findTransactionType(final TokenBuffer tokens) {
+    try (JsonParser parser = tokens.asParser()) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if (TRANSACTION_TYPE.equals(fieldName)) {
+          return Optional.ofNullable(parser.getValueAsString());
+        }
+        parser.skipChildren();
+      }
+      return Optional.empty();
+    } catch (IOException e) {
+      // A TokenBuffer does no I/O.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private <T> T readValue(final TokenBuffer tokens, final Class<T> valueType) throws JsonProcessingException {
+    try (JsonParser parser = tokens.asParser()) {
+      return objectMapper.readValue(parser, valueType);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      // A TokenBuffer does no I/O.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private JsonNode toJsonNode(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    return objectMapper.valueToTree(transaction);
+  }
+
+}
@@ -20,6 +20,8 @@ package org.xrpl.xrpl4j.codec.binary;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,13 +33,27 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.JsonTokenDeserializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.JsonTokenSerializer;
 import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class XrplBinaryCodec {
@@ -47,11 +63,20 @@ public class XrplBinaryCodec {
   public static final String TRX_MULTI_SIGNATURE_PREFIX = "534D5400";
 
   public static final String PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX = "434C4D00";
+
+  private static final byte[] TRX_SIGNATURE_PREFIX_BYTES = UnsignedByteArray.fromHex(TRX_SIGNATURE_PREFIX)
+    .toByteArray();
+  private static final byte[] TRX_MULTI_SIGNATURE_PREFIX_BYTES = UnsignedByteArray.fromHex(TRX_MULTI_SIGNATURE_PREFIX)
+    .toByteArray();
   public static final String CHANNEL_FIELD_NAME = "Channel";
   public static final String AMOUNT_FIELD_NAME = "Amount";
 
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+  private static final JsonTokenSerializer jsonTokenSerializer = new JsonTokenSerializer();
+  private static final JsonTokenDeserializer jsonTokenDeserializer = new JsonTokenDeserializer();
+  private static final FieldInstance TXN_SIGNATURE_FIELD = definitionsService.getFieldInstance("TxnSignature")
+    .orElseThrow(() -> new IllegalStateException("TxnSignature is missing from the definitions"));
 
   private static final XrplBinaryCodec INSTANCE = new XrplBinaryCodec();
 
@@ -74,23 +99,78 @@ public class XrplBinaryCodec {
    */
   public String encode(String json) throws JsonProcessingException {
     Objects.requireNonNull(json);
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return encode(node);
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    writeObject(json, byteList, field -> true);
+    return byteList.hexValue();
   }
 
   /**
-   * Encodes JSON to canonical XRPL binary as a hex string.
+   * Encodes JSON to canonical XRPL binary.
    *
    * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
    *
-   * @return A {@link String} containing the hex-encoded representation of {@code jsonNode}.
-   * @throws JsonProcessingException if {@code jsonNode} is not valid JSON.
+   * @return An {@link UnsignedByteArray} containing the canonical binary representation of {@code jsonNode}.
    */
-  private String encode(final JsonNode jsonNode) {
+  public UnsignedByteArray encodeToBytes(final JsonNode jsonNode) {
     Objects.requireNonNull(jsonNode);
     UnsignedByteArray byteList = UnsignedByteArray.empty();
-    new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    writeObject(jsonNode, byteList);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary without hex-encoding the result.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the canonical binary representation of {@code json}.
+   * @throws JsonProcessingException if {@code json} is not valid JSON.
+   */
+  public UnsignedByteArray encodeToBytes(final String json) throws JsonProcessingException {
+    Objects.requireNonNull(json);
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    writeObject(json, byteList, field -> true);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary, writing the result into {@code destination} starting at its current
+   * position. On success, the position of {@code destination} is advanced by the number of bytes written.
+   *
+   * @param json        A {@link String} containing JSON to be encoded.
+   * @param destination A {@link ByteBuffer} to write the encoded bytes into.
+   *
+   * @return The number of bytes written.
+   * @throws JsonProcessingException          if {@code json} is not valid JSON.
+   * @throws java.nio.BufferOverflowException if {@code destination} does not have enough space remaining, in which
+   *                                          case nothing is written.
+   */
+  public int encodeInto(final String json, final ByteBuffer destination) throws JsonProcessingException {
+    Objects.requireNonNull(destination);
+    UnsignedByteArray byteList = encodeToBytes(json);
+    byteList.writeTo(destination);
+    return byteList.length();
+  }
+
+  private void writeObject(final JsonNode jsonNode, final UnsignedByteArray sink) {
+    jsonTokenSerializer.writeObject(jsonNode, sink, field -> true);
+  }
+
+  /**
+   * Streams the JSON object in {@code json} straight into {@code sink}, without building a {@link JsonNode} tree.
+   */
+  private void writeObject(
+    final String json,
+    final UnsignedByteArray sink,
+    final Predicate<FieldInstance> fieldFilter
+  ) throws JsonProcessingException {
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      jsonTokenSerializer.writeObject(parser, sink, fieldFilter);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   /**
@@ -102,8 +182,139 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if JSON is not valid.
    */
   public String encodeForSigning(String json) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return TRX_SIGNATURE_PREFIX + encode(removeNonSigningFields(node));
+    Objects.requireNonNull(json);
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    byteList.append(TRX_SIGNATURE_PREFIX_BYTES);
+    writeObject(json, byteList, FieldInstance::isSigningField);
+    return byteList.hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing, including the single-signing prefix. Fields that are not signing
+   * fields are omitted. {@code jsonNode} is not modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForSigningToBytes(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    byteList.append(TRX_SIGNATURE_PREFIX_BYTES);
+    jsonTokenSerializer.writeObject(jsonNode, byteList, FieldInstance::isSigningField);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing, including the single-signing prefix, without hex-encoding the
+   * result. Fields that are not signing fields are omitted.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   * @throws JsonProcessingException if {@code json} is not valid JSON.
+   */
+  public UnsignedByteArray encodeForSigningToBytes(final String json) throws JsonProcessingException {
+    Objects.requireNonNull(json);
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    byteList.append(TRX_SIGNATURE_PREFIX_BYTES);
+    writeObject(json, byteList, FieldInstance::isSigningField);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing, including the single-signing prefix, writing the result into
+   * {@code destination} starting at its current position. On success, the position of {@code destination} is advanced
+   * by the number of bytes written.
+   *
+   * @param json        A {@link String} containing JSON to be encoded.
+   * @param destination A {@link ByteBuffer} to write the encoded bytes into.
+   *
+   * @return The number of bytes written.
+   * @throws JsonProcessingException          if {@code json} is not valid JSON.
+   * @throws java.nio.BufferOverflowException if {@code destination} does not have enough space remaining, in which
+   *                                          case nothing is written.
+   */
+  public int encodeForSigningInto(final String json, final ByteBuffer destination) throws JsonProcessingException {
+    Objects.requireNonNull(destination);
+    UnsignedByteArray byteList = encodeForSigningToBytes(json);
+    byteList.writeTo(destination);
+    return byteList.length();
+  }
+
+  /**
+   * Whether {@code jsonNode} has a top-level field, other than {@code TxnSignature}, that is serialized but is not a
+   * signing field (for example {@code Signers}, {@code Signature} or {@code MasterSignature}). Such fields are missing
+   * from the output of {@link #encodeForSigningToBytes(JsonNode)}.
+   *
+   * @param jsonNode A {@link JsonNode} containing a transaction.
+   *
+   * @return {@code true} if {@code jsonNode} has a serialized, non-signing field other than {@code TxnSignature}.
+   */
+  public boolean hasNonSigningFields(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    Iterator<String> fieldNames = jsonNode.fieldNames();
+    while (fieldNames.hasNext()) {
+      boolean nonSigning = definitionsService.getFieldInstance(fieldNames.next())
+        .filter(field -> field.isSerialized() && !field.isSigningField())
+        .filter(field -> field.ordinal() != TXN_SIGNATURE_FIELD.ordinal())
+        .isPresent();
+      if (nonSigning) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Builds the canonical binary of a single-signed transaction from its single-signing bytes by inserting a
+   * {@code TxnSignature} field at its canonical position. The other fields are copied as-is rather than re-encoded.
+   *
+   * <p>The result is only the canonical encoding of the signed transaction if {@code signingBytes} contains every
+   * serialized field of that transaction, which is the case when {@link #hasNonSigningFields(JsonNode)} is false for
+   * it.</p>
+   *
+   * @param signingBytes         An {@link UnsignedByteArray} produced by
+   *                             {@link #encodeForSigningToBytes(JsonNode)}, including the single-signing prefix.
+   * @param transactionSignature An {@link UnsignedByteArray} containing the transaction signature.
+   *
+   * @return An {@link UnsignedByteArray} containing the signed transaction blob, without any prefix.
+   * @throws IllegalArgumentException if {@code signingBytes} does not start with the single-signing prefix or already
+   *                                  contains a {@code TxnSignature}.
+   */
+  public UnsignedByteArray addTransactionSignature(
+    final UnsignedByteArray signingBytes,
+    final UnsignedByteArray transactionSignature
+  ) {
+    Objects.requireNonNull(signingBytes);
+    Objects.requireNonNull(transactionSignature);
+    byte[] bytes = signingBytes.toByteArray();
+    if (!hasPrefix(bytes, 0, bytes.length, TRX_SIGNATURE_PREFIX_BYTES)) {
+      throw new IllegalArgumentException("signingBytes must start with the single-signing prefix");
+    }
+
+    int start = TRX_SIGNATURE_PREFIX_BYTES.length;
+    int insertAt = bytes.length;
+    BinaryParser parser = new BinaryParser(bytes, start, bytes.length - start);
+    while (parser.hasMore()) {
+      int fieldStart = parser.position();
+      FieldInstance field = parser.readField()
+        .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.ordinal() == TXN_SIGNATURE_FIELD.ordinal()) {
+        throw new IllegalArgumentException("signingBytes already contains a TxnSignature");
+      }
+      if (field.ordinal() > TXN_SIGNATURE_FIELD.ordinal()) {
+        insertAt = fieldStart;
+        break;
+      }
+      parser.skipFieldValue(field);
+    }
+
+    UnsignedByteArray signedBytes = UnsignedByteArray.withCapacity(bytes.length + transactionSignature.length() + 4);
+    signedBytes.append(bytes, start, insertAt - start);
+    new BinarySerializer(signedBytes).writeFieldAndValue(TXN_SIGNATURE_FIELD, new BlobType(transactionSignature));
+    signedBytes.append(bytes, insertAt, bytes.length - insertAt);
+    return signedBytes;
   }
 
   /**
@@ -117,15 +328,76 @@ public class XrplBinaryCodec {
    */
   public String encodeForMultiSigning(String json, String xrpAccountId) throws JsonProcessingException {
     JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    if (!node.isObject()) {
+    return encodeForMultiSigningToBytes(node, xrpAccountId).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing, including the multi-signing prefix and the signer's
+   * AccountID suffix. Fields that are not signing fields are omitted, and SigningPubKey is encoded as empty.
+   * {@code jsonNode} is not modified.
+   *
+   * @param jsonNode     A {@link JsonNode} containing JSON to be encoded.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForMultiSigningToBytes(final JsonNode jsonNode, final String xrpAccountId) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(xrpAccountId);
+    UnsignedByteArray byteList = encodeForMultiSigningWithoutSignerToBytes(jsonNode);
+    new AccountIdType().fromJson(new TextNode(xrpAccountId)).toBytesSink(byteList);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing, including the multi-signing prefix but not the signer's
+   * AccountID suffix. The bytes signed by each signer can then be produced with
+   * {@link #addMultiSigningAccountId(UnsignedByteArray, String)}, so that a transaction with several signers is only
+   * encoded once. {@code jsonNode} is not modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed, without the signer's AccountID.
+   */
+  public UnsignedByteArray encodeForMultiSigningWithoutSignerToBytes(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    if (!jsonNode.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
+    ObjectNode signingFields = (ObjectNode) removeNonSigningFields(jsonNode);
     // any existing signing keys should not also be signed
-    ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
-    String suffix = new AccountIdType().fromJson(new TextNode(xrpAccountId)).toHex();
-    return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
+    signingFields.set("SigningPubKey", new TextNode(""));
+
+    UnsignedByteArray byteList = UnsignedByteArray.empty();
+    byteList.append(TRX_MULTI_SIGNATURE_PREFIX_BYTES);
+    writeObject(signingFields, byteList);
+    return byteList;
+  }
+
+  /**
+   * Appends the AccountID of a signer to bytes returned by
+   * {@link #encodeForMultiSigningWithoutSignerToBytes(JsonNode)}, producing the same bytes as
+   * {@link #encodeForMultiSigningToBytes(JsonNode, String)}. {@code multiSigningBytes} is not modified, so it can be
+   * shared by several threads each adding a different signer.
+   *
+   * @param multiSigningBytes An {@link UnsignedByteArray} returned by
+   *                          {@link #encodeForMultiSigningWithoutSignerToBytes(JsonNode)}.
+   * @param xrpAccountId      A {@link String} containing the XRPL AccountId of the signer.
+   *
+   * @return A new {@link UnsignedByteArray} containing the bytes to be signed by {@code xrpAccountId}.
+   */
+  public UnsignedByteArray addMultiSigningAccountId(
+    final UnsignedByteArray multiSigningBytes, final String xrpAccountId
+  ) {
+    Objects.requireNonNull(multiSigningBytes);
+    Objects.requireNonNull(xrpAccountId);
+    UnsignedByteArray byteList = UnsignedByteArray.withCapacity(multiSigningBytes.length() + 20);
+    byteList.append(multiSigningBytes);
+    new AccountIdType().fromJson(new TextNode(xrpAccountId)).toBytesSink(byteList);
+    return byteList;
   }
 
+
   /**
    * Encodes JSON to canonical XRPL binary as a hex string for signing payment channel claims. The only JSON fields
    * which will be encoded are "Channel" and "Amount".
@@ -163,21 +435,190 @@ public class XrplBinaryCodec {
    * @return A JSON {@link String} representing the decoded encodedTransaction.
    */
   public String decode(String encodedTransaction) {
-    final String nonSignPrefixHex;
-    if (encodedTransaction.startsWith(TRX_SIGNATURE_PREFIX)) {
-      nonSignPrefixHex = encodedTransaction.substring(TRX_SIGNATURE_PREFIX.length());
-    } else if (encodedTransaction.startsWith(TRX_MULTI_SIGNATURE_PREFIX)) {
-      // The suffix is always a Hash160, which is 160 bits/20 bytes, which is 40 HEX chars.
-      final int suffixLength = 40;
-      nonSignPrefixHex = encodedTransaction.substring(
-        TRX_MULTI_SIGNATURE_PREFIX.length(), encodedTransaction.length() - suffixLength
-      );
+    Objects.requireNonNull(encodedTransaction);
+    return decode(UnsignedByteArray.fromHex(encodedTransaction));
+  }
+
+  /**
+   * Decodes canonical XRPL binary transaction bytes to JSON.
+   *
+   * @param encodedTransaction An {@link UnsignedByteArray} to decode to JSON.
+   *
+   * @return A JSON {@link String} representing the decoded encodedTransaction.
+   */
+  public String decode(UnsignedByteArray encodedTransaction) {
+    Objects.requireNonNull(encodedTransaction);
+    return decodeToJsonNode(encodedTransaction).toString();
+  }
+
+  /**
+   * Decodes canonical XRPL binary transaction bytes to JSON. {@code encodedTransaction} is parsed in place and must not
+   * be modified while this method runs.
+   *
+   * @param encodedTransaction A byte array to decode to JSON.
+   *
+   * @return A JSON {@link String} representing the decoded encodedTransaction.
+   */
+  public String decode(byte[] encodedTransaction) {
+    Objects.requireNonNull(encodedTransaction);
+    return decodeToJson(encodedTransaction, 0, encodedTransaction.length).toString();
+  }
+
+  /**
+   * Decodes the remaining bytes of {@code encodedTransaction} from canonical XRPL binary to JSON. Heap buffers are
+   * parsed in place; other buffers are copied. The position of {@code encodedTransaction} is not modified.
+   *
+   * @param encodedTransaction A {@link ByteBuffer} to decode to JSON.
+   *
+   * @return A JSON {@link String} representing the decoded encodedTransaction.
+   */
+  public String decode(ByteBuffer encodedTransaction) {
+    Objects.requireNonNull(encodedTransaction);
+    if (encodedTransaction.hasArray()) {
+      return decodeToJson(
+        encodedTransaction.array(),
+        encodedTransaction.arrayOffset() + encodedTransaction.position(),
+        encodedTransaction.remaining()
+      ).toString();
+    }
+    byte[] bytes = new byte[encodedTransaction.remaining()];
+    encodedTransaction.duplicate().get(bytes);
+    return decode(bytes);
+  }
+
+  /**
+   * Decodes a batch of canonical XRPL binary hex-encoded transactions or metadata to JSON in parallel on the common
+   * {@link ForkJoinPool}.
+   *
+   * @param encodedTransactions A {@link List} of hex-encoded {@link String}s to decode to JSON.
+   *
+   * @return An unmodifiable {@link List} of JSON {@link String}s, in the same order as {@code encodedTransactions}.
+   * @see #decodeAll(List, ForkJoinPool)
+   */
+  public List<String> decodeAll(List<String> encodedTransactions) {
+    return decodeAll(encodedTransactions, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Decodes a batch of canonical XRPL binary hex-encoded transactions or metadata to JSON in parallel on
+   * {@code pool}. Each blob is decoded independently, and the result preserves the order of
+   * {@code encodedTransactions}. If any blob cannot be decoded, the exception thrown while decoding it is rethrown to
+   * the caller.
+   *
+   * @param encodedTransactions A {@link List} of hex-encoded {@link String}s to decode to JSON.
+   * @param pool                The {@link ForkJoinPool} to decode on.
+   *
+   * @return An unmodifiable {@link List} of JSON {@link String}s, in the same order as {@code encodedTransactions}.
+   */
+  public List<String> decodeAll(List<String> encodedTransactions, ForkJoinPool pool) {
+    return decodeInParallel(encodedTransactions, this::decode, pool);
+  }
+
+  /**
+   * Decodes a batch of canonical XRPL binary transactions or metadata to {@link JsonNode}s in parallel on
+   * {@code pool}, without rendering them as JSON text. The result preserves the order of {@code encodedTransactions}.
+   *
+   * @param encodedTransactions A {@link List} of {@link UnsignedByteArray}s to decode.
+   * @param pool                The {@link ForkJoinPool} to decode on.
+   *
+   * @return An unmodifiable {@link List} of {@link JsonNode}s, in the same order as {@code encodedTransactions}.
+   */
+  public List<JsonNode> decodeAllToJsonNodes(List<UnsignedByteArray> encodedTransactions, ForkJoinPool pool) {
+    return decodeInParallel(encodedTransactions, this::decodeToJsonNode, pool);
+  }
+
+  private static <T, R> List<R> decodeInParallel(List<T> inputs, Function<T, R> decoder, ForkJoinPool pool) {
+    Objects.requireNonNull(inputs);
+    Objects.requireNonNull(decoder);
+    Objects.requireNonNull(pool);
+    if (inputs.isEmpty()) {
+      return Collections.emptyList();
+    }
+    @SuppressWarnings("unchecked")
+    R[] results = (R[]) new Object[inputs.size()];
+    // Several chunks per worker so that blobs of uneven size still balance across the pool.
+    int threshold = Math.max(1, inputs.size() / (pool.getParallelism() * 4));
+    pool.invoke(new DecodeAction<>(inputs, decoder, results, 0, inputs.size(), threshold));
+    return Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  /**
+   * Decodes canonical XRPL binary to a {@link JsonNode} without rendering it as JSON text.
+   *
+   * @param encodedTransaction An {@link UnsignedByteArray} to decode.
+   *
+   * @return A {@link JsonNode} representing the decoded encodedTransaction.
+   */
+  public JsonNode decodeToJsonNode(UnsignedByteArray encodedTransaction) {
+    Objects.requireNonNull(encodedTransaction);
+    byte[] bytes = encodedTransaction.toByteArray();
+    return decodeToJson(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Decodes canonical XRPL binary into a stream of JSON tokens written to {@code generator}, without building a
+   * {@link JsonNode} tree or rendering JSON text. Writing into a
+   * {@link com.fasterxml.jackson.databind.util.TokenBuffer} lets the result be bound to a model object with
+   * {@link ObjectMapper#readValue(JsonParser, Class)}. Any single- or multi-signing prefix is skipped, as by
+   * {@link #decodeToJsonNode(UnsignedByteArray)}.
+   *
+   * @param encodedTransaction An {@link UnsignedByteArray} to decode.
+   * @param generator          The {@link JsonGenerator} to write the decoded JSON object to.
+   *
+   * @throws IOException if {@code generator} cannot be written to.
+   */
+  public void decodeTo(final UnsignedByteArray encodedTransaction, final JsonGenerator generator) throws IOException {
+    Objects.requireNonNull(encodedTransaction);
+    Objects.requireNonNull(generator);
+    byte[] bytes = encodedTransaction.toByteArray();
+    jsonTokenDeserializer.writeObject(parserSkippingPrefix(bytes, 0, bytes.length), generator);
+  }
+
+  /**
+   * Decodes canonical XRPL binary to a {@link JsonNode}, skipping any single- or multi-signing prefix (and, for
+   * multi-signing, the trailing signer AccountID).
+   *
+   * @param bytes  The binary to decode.
+   * @param offset The index of the first byte to decode.
+   * @param length The number of bytes to decode.
+   *
+   * @return A {@link JsonNode}.
+   */
+  private JsonNode decodeToJson(byte[] bytes, int offset, int length) {
+    return parserSkippingPrefix(bytes, offset, length).readType(STObjectType.class).toJson();
+  }
+
+  /**
+   * Creates a {@link BinaryParser} over {@code bytes[offset, offset + length)}, skipping any single- or multi-signing
+   * prefix (and, for multi-signing, the trailing signer AccountID).
+   */
+  private static BinaryParser parserSkippingPrefix(byte[] bytes, int offset, int length) {
+    final int start;
+    final int end;
+    if (hasPrefix(bytes, offset, length, TRX_SIGNATURE_PREFIX_BYTES)) {
+      start = offset + TRX_SIGNATURE_PREFIX_BYTES.length;
+      end = offset + length;
+    } else if (hasPrefix(bytes, offset, length, TRX_MULTI_SIGNATURE_PREFIX_BYTES)) {
+      // The suffix is always a Hash160, which is 160 bits/20 bytes.
+      start = offset + TRX_MULTI_SIGNATURE_PREFIX_BYTES.length;
+      end = offset + length - AccountIdType.WIDTH;
     } else {
-      nonSignPrefixHex = encodedTransaction;
+      start = offset;
+      end = offset + length;
+    }
+    return new BinaryParser(bytes, start, end - start);
+  }
+
+  private static boolean hasPrefix(byte[] bytes, int offset, int length, byte[] prefix) {
+    if (length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (bytes[offset + i] != prefix[i]) {
+        return false;
+      }
     }
-    return new BinaryParser(nonSignPrefixHex).readType(STObjectType.class)
-      .toJson()
-      .toString();
+    return true;
   }
 
   /**
@@ -208,5 +649,42 @@ public class XrplBinaryCodec {
     return definitionsService.getFieldInstance(fieldName).map(FieldInstance::isSigningField).orElse(false);
   }
 
+  /**
+   * Decodes {@code inputs[from, to)} into the same indexes of {@code results}, splitting in half until a range is no
+   * larger than {@code threshold}.
+   */
+  private static final class DecodeAction<T, R> extends RecursiveAction {
+
+    private final List<T> inputs;
+    private final Function<T, R> decoder;
+    private final R[] results;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    private DecodeAction(List<T> inputs, Function<T, R> decoder, R[] results, int from, int to, int threshold) {
+      this.inputs = inputs;
+      this.decoder = decoder;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          results[i] = decoder.apply(Objects.requireNonNull(inputs.get(i)));
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+        new DecodeAction<>(inputs, decoder, results, from, middle, threshold),
+        new DecodeAction<>(inputs, decoder, results, middle, to, threshold)
+      );
+    }
+  }
 
 }
@@ -0,0 +1,157 @@
+package org.xrpl.xrpl4j.codec.binary.archive;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.addresses.HexCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * The on-disk layout shared by {@link TransactionArchiveWriter} and {@link TransactionArchiveReader}.
+ *
+ * <p>A segment file holds one length-prefixed record per transaction, in the format of
+ * {@link org.xrpl.xrpl4j.codec.binary.serdes.BinaryObjectFileWriter}. Each record is the ledger index (4 bytes), the
+ * transaction hash (32 bytes), the length of the transaction (4 bytes), the transaction and then the metadata. All
+ * integers are big-endian.</p>
+ *
+ * <p>Records are grouped into blocks of consecutive records, and the index file next to the segment holds one
+ * fixed-size entry per block: the ledger index of the block's first record (4 bytes), the block's offset and length in
+ * the segment (8 bytes each), and a 512-bit Bloom filter of the hashes in the block. The index is therefore sparse: it
+ * is small enough to hold in memory, narrows a ledger index lookup to one block by binary search, and narrows a hash
+ * lookup to the few blocks whose filter matches.</p>
+ */
+final class ArchiveFormat {
+
+  static final String INDEX_SUFFIX = ".idx";
+
+  static final int HASH_BYTES = 32;
+  static final int RECORD_HEADER_BYTES = 4 + HASH_BYTES + 4;
+
+  static final int BLOOM_LONGS = 8;
+  static final int INDEX_ENTRY_BYTES = 4 + 8 + 8 + BLOOM_LONGS * Long.BYTES;
+
+  private static final int BLOOM_BITS_MASK = BLOOM_LONGS * Long.SIZE - 1;
+  private static final int BLOOM_HASH_FUNCTIONS = 3;
+
+  private ArchiveFormat() {
+  }
+
+  /**
+   * The path of the index file for the segment at {@code segmentPath}.
+   */
+  static Path indexPath(final Path segmentPath) {
+    return segmentPath.resolveSibling(segmentPath.getFileName() + INDEX_SUFFIX);
+  }
+
+  /**
+   * Add {@code hash} to {@code bloom}. Transaction hashes are uniformly distributed, so each of the filter's hash
+   * functions just takes a different pair of bytes from the hash.
+   */
+  static void addToBloom(final long[] bloom, final byte[] hash) {
+    for (int i = 0; i < BLOOM_HASH_FUNCTIONS; i++) {
+      int bit = bloomBit(hash, i);
+      bloom[bit >>> 6] |= 1L << (bit & 63);
+    }
+  }
+
+  static boolean mightContain(final long[] bloom, final byte[] hash) {
+    for (int i = 0; i < BLOOM_HASH_FUNCTIONS; i++) {
+      int bit = bloomBit(hash, i);
+      if ((bloom[bit >>> 6] & (1L << (bit & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int bloomBit(final byte[] hash, final int function) {
+    return (((hash[2 * function] & 0xFF) << 8) | (hash[2 * function + 1] & 0xFF)) & BLOOM_BITS_MASK;
+  }
+
+  static byte[] hashBytes(final Hash256 hash) {
+    return HexCodec.decode(hash.value());
+  }
+
+  /**
+   * Encode {@code transaction} as a segment record.
+   */
+  static byte[] toRecord(final ArchivedTransaction transaction, final byte[] hash) {
+    UnsignedByteArray transactionBytes = transaction.transactionBytes();
+    UnsignedByteArray metadataBytes = transaction.metadataBytes();
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + transactionBytes.length() + metadataBytes.length());
+    record.putInt(transaction.ledgerIndex().intValue());
+    record.put(hash);
+    record.putInt(transactionBytes.length());
+    transactionBytes.writeTo(record);
+    metadataBytes.writeTo(record);
+    return record.array();
+  }
+
+  /**
+   * Decode a segment record.
+   */
+  static ArchivedTransaction fromRecord(final ByteBuffer record) throws IOException {
+    if (record.remaining() < RECORD_HEADER_BYTES) {
+      throw new IOException("Archive record of length " + record.remaining() + " is too short");
+    }
+    ByteBuffer buffer = record.duplicate();
+    final UnsignedInteger ledgerIndex = UnsignedInteger.fromIntBits(buffer.getInt());
+    byte[] hash = new byte[HASH_BYTES];
+    buffer.get(hash);
+    int transactionLength = buffer.getInt();
+    if (transactionLength < 0 || transactionLength > buffer.remaining()) {
+      throw new IOException("Archive record has an invalid transaction length " + transactionLength);
+    }
+    byte[] transactionBytes = new byte[transactionLength];
+    buffer.get(transactionBytes);
+    byte[] metadataBytes = new byte[buffer.remaining()];
+    buffer.get(metadataBytes);
+    return ArchivedTransaction.builder()
+      .ledgerIndex(ledgerIndex)
+      .hash(Hash256.of(HexCodec.encode(hash)))
+      .transactionBytes(UnsignedByteArray.of(transactionBytes))
+      .metadataBytes(UnsignedByteArray.of(metadataBytes))
+      .build();
+  }
+
+  static UnsignedInteger ledgerIndexOf(final ByteBuffer record) {
+    return UnsignedInteger.fromIntBits(record.getInt(record.position()));
+  }
+
+  static boolean hasHash(final ByteBuffer record, final byte[] hash) {
+    if (record.remaining() < RECORD_HEADER_BYTES) {
+      return false;
+    }
+    int start = record.position() + 4;
+    for (int i = 0; i < HASH_BYTES; i++) {
+      if (record.get(start + i) != hash[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,113 @@
+package org.xrpl.xrpl4j.codec.binary.archive;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedInteger;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
+import org.xrpl.xrpl4j.crypto.HashingUtils;
+import org.xrpl.xrpl4j.crypto.signing.SignedTransaction;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+
+/**
+ * A validated transaction and its metadata as stored in a transaction archive, in canonical XRPL binary.
+ */
+@Value.Immutable
+public interface ArchivedTransaction {
+
+  /**
+   * Construct a {@code ArchivedTransaction} builder.
+   *
+   * @return An {@link ImmutableArchivedTransaction.Builder}.
+   */
+  static ImmutableArchivedTransaction.Builder builder() {
+    return ImmutableArchivedTransaction.builder();
+  }
+
+  /**
+   * The index of the ledger that contains the transaction.
+   *
+   * @return An {@link UnsignedInteger}.
+   */
+  UnsignedInteger ledgerIndex();
+
+  /**
+   * The canonical binary encoding of the signed transaction, such as a {@code tx_blob}.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  UnsignedByteArray transactionBytes();
+
+  /**
+   * The canonical binary encoding of the transaction's metadata, such as a {@code meta_blob}.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  UnsignedByteArray metadataBytes();
+
+  /**
+   * The hash of the transaction. If not supplied, this is computed from {@link #transactionBytes()} in the same way as
+   * {@link org.xrpl.xrpl4j.crypto.signing.SignedTransaction#hash()}.
+   *
+   * @return A {@link Hash256}.
+   */
+  @Value.Default
+  default Hash256 hash() {
+    UnsignedByteArray prefixedBytes = UnsignedByteArray.withCapacity(4 + transactionBytes().length())
+      .append(UnsignedByteArray.fromHex(SignedTransaction.SIGNED_TRANSACTION_HASH_PREFIX))
+      .append(transactionBytes());
+    return Hash256.of(HashingUtils.sha512Half(prefixedBytes).hexValue());
+  }
+
+  /**
+   * Decode {@link #transactionBytes()}.
+   *
+   * @return The decoded {@link Transaction}.
+   * @throws JsonProcessingException if the bytes cannot be bound to a {@link Transaction}.
+   */
+  default Transaction transaction() throws JsonProcessingException {
+    return TransactionCodec.getInstance().decode(transactionBytes());
+  }
+
+  /**
+   * Decode {@link #metadataBytes()}.
+   *
+   * @return The decoded {@link TransactionMetadata}.
+   * @throws JsonProcessingException if the bytes cannot be bound to a {@link TransactionMetadata}.
+   */
+  default TransactionMetadata metadata() throws JsonProcessingException {
+    return TransactionCodec.getInstance().decodeMetadata(metadataBytes());
+  }
+
+  /**
+   * Validates that the transaction is not empty.
+   */
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(transactionBytes().length() > 0, "transactionBytes must not be empty.");
+  }
+
+}
@@ -0,0 +1,217 @@
+package org.xrpl.xrpl4j.codec.binary.archive;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryObjectFileReader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads an archive segment written by {@link TransactionArchiveWriter}, either sequentially or by seeking with its
+ * sparse index. The index is read into memory when the reader is constructed; the segment itself is memory-mapped by a
+ * {@link BinaryObjectFileReader} and only the records that are visited are decoded. Instances are not thread-safe.
+ */
+public class TransactionArchiveReader implements Closeable {
+
+  private final BinaryObjectFileReader segment;
+
+  private final int blockCount;
+  private final UnsignedInteger[] blockFirstLedgerIndexes;
+  private final long[] blockOffsets;
+  private final long[] blockEnds;
+  private final long[][] blockBlooms;
+  private final long indexedEnd;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param segment A {@link BinaryObjectFileReader} positioned at the start of a segment file.
+   * @param index   A {@link ByteBuffer} containing the segment's index file. Entries that refer past the end of the
+   *                segment, for example because the segment was not flushed after its index, are ignored.
+   *
+   * @throws IOException if the segment cannot be read.
+   */
+  public TransactionArchiveReader(final BinaryObjectFileReader segment, final ByteBuffer index) throws IOException {
+    this.segment = Objects.requireNonNull(segment);
+    ByteBuffer entries = Objects.requireNonNull(index).duplicate();
+
+    long segmentSize = segment.size();
+    int maxBlocks = entries.remaining() / ArchiveFormat.INDEX_ENTRY_BYTES;
+    UnsignedInteger[] firstLedgerIndexes = new UnsignedInteger[maxBlocks];
+    long[] offsets = new long[maxBlocks];
+    long[] ends = new long[maxBlocks];
+    long[][] blooms = new long[maxBlocks][];
+    int count = 0;
+    long end = 0;
+    for (int i = 0; i < maxBlocks; i++) {
+      UnsignedInteger firstLedgerIndex = UnsignedInteger.fromIntBits(entries.getInt());
+      long offset = entries.getLong();
+      long length = entries.getLong();
+      long[] bloom = new long[ArchiveFormat.BLOOM_LONGS];
+      for (int j = 0; j < bloom.length; j++) {
+        bloom[j] = entries.getLong();
+      }
+      if (offset != end || length < 0 || offset + length > segmentSize) {
+        break;
+      }
+      firstLedgerIndexes[count] = firstLedgerIndex;
+      offsets[count] = offset;
+      ends[count] = offset + length;
+      blooms[count] = bloom;
+      end = offset + length;
+      count++;
+    }
+    this.blockCount = count;
+    this.blockFirstLedgerIndexes = firstLedgerIndexes;
+    this.blockOffsets = offsets;
+    this.blockEnds = ends;
+    this.blockBlooms = blooms;
+    this.indexedEnd = end;
+  }
+
+  /**
+   * Open the segment at {@code segmentPath} and the index file alongside it. A missing index file is treated as empty,
+   * in which case lookups scan the whole segment.
+   *
+   * @param segmentPath The {@link Path} of a segment file.
+   *
+   * @return A {@link TransactionArchiveReader}.
+   * @throws IOException if the segment or index file cannot be read.
+   */
+  public static TransactionArchiveReader open(final Path segmentPath) throws IOException {
+    Objects.requireNonNull(segmentPath);
+    Path indexPath = ArchiveFormat.indexPath(segmentPath);
+    ByteBuffer index = ByteBuffer.allocate(0);
+    if (Files.exists(indexPath)) {
+      index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+    }
+    BinaryObjectFileReader segment = BinaryObjectFileReader.open(segmentPath);
+    try {
+      return new TransactionArchiveReader(segment, index);
+    } catch (IOException | RuntimeException exception) {
+      segment.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Whether there is another transaction to read.
+   *
+   * @return {@code true} if {@link #next()} will return a transaction; {@code false} at the end of the segment.
+   */
+  public boolean hasNext() {
+    return segment.hasNext();
+  }
+
+  /**
+   * Read the next transaction.
+   *
+   * @return The next {@link ArchivedTransaction}.
+   * @throws java.util.NoSuchElementException if there are no more transactions.
+   * @throws IOException                      if the segment cannot be read.
+   */
+  public ArchivedTransaction next() throws IOException {
+    return ArchiveFormat.fromRecord(segment.next());
+  }
+
+  /**
+   * Move to the first transaction in a ledger with an index of at least {@code ledgerIndex}, so that the following
+   * calls to {@link #next()} return that ledger's transactions and those of later ledgers.
+   *
+   * @param ledgerIndex The index of a ledger.
+   *
+   * @return {@code true} if there is such a transaction; {@code false} if every transaction in the segment is in an
+   *   earlier ledger, in which case the reader is positioned at the end of the segment.
+   * @throws IOException if the segment cannot be read.
+   */
+  public boolean seekToLedger(final UnsignedInteger ledgerIndex) throws IOException {
+    Objects.requireNonNull(ledgerIndex);
+    // Find the last block that starts before the requested ledger; the ledger's first transaction cannot be earlier.
+    int low = 0;
+    int high = blockCount - 1;
+    int block = -1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (blockFirstLedgerIndexes[middle].compareTo(ledgerIndex) < 0) {
+        block = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    segment.seek(block < 0 ? 0 : blockOffsets[block]);
+    while (segment.hasNext()) {
+      long position = segment.position();
+      if (ArchiveFormat.ledgerIndexOf(segment.next()).compareTo(ledgerIndex) >= 0) {
+        segment.seek(position);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Find the transaction with the given hash. Only the blocks whose Bloom filter matches {@code hash}, and any
+   * transactions written after the last indexed block, are scanned. This moves the position of the reader.
+   *
+   * @param hash The {@link Hash256} of a transaction.
+   *
+   * @return The matching {@link ArchivedTransaction}, or empty if the segment does not contain it.
+   * @throws IOException if the segment cannot be read.
+   */
+  public Optional<ArchivedTransaction> findByHash(final Hash256 hash) throws IOException {
+    byte[] hashBytes = ArchiveFormat.hashBytes(Objects.requireNonNull(hash));
+    for (int i = 0; i < blockCount; i++) {
+      if (ArchiveFormat.mightContain(blockBlooms[i], hashBytes)) {
+        Optional<ArchivedTransaction> found = scan(blockOffsets[i], blockEnds[i], hashBytes);
+        if (found.isPresent()) {
+          return found;
+        }
+      }
+    }
+    return scan(indexedEnd, Long.MAX_VALUE, hashBytes);
+  }
+
+  @Override
+  public void close() throws IOException {
+    segment.close();
+  }
+
+  private Optional<ArchivedTransaction> scan(final long from, final long to, final byte[] hash) throws IOException {
+    segment.seek(from);
+    while (segment.hasNext() && segment.position() < to) {
+      ByteBuffer record = segment.next();
+      if (ArchiveFormat.hasHash(record, hash)) {
+        return Optional.of(ArchiveFormat.fromRecord(record));
+      }
+    }
+    return Optional.empty();
+  }
+
+}
@@ -0,0 +1,179 @@
+package org.xrpl.xrpl4j.codec.binary.archive;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryObjectFileWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writes {@link ArchivedTransaction}s to an append-only archive segment and its sparse index. See
+ * {@link TransactionArchiveReader} for reading a segment back.
+ *
+ * <p>Transactions must be appended in non-decreasing ledger index order, which is the order in which they are
+ * validated. A new segment is started for each writer; index entries are written as each block of
+ * {@code indexInterval} transactions fills up, and for the final, partial block on {@link #close()}. Transactions in a
+ * block that has not been indexed yet, for example after a crash, can still be read and searched by the reader.
+ * Instances are not thread-safe.</p>
+ */
+public class TransactionArchiveWriter implements Closeable, Flushable {
+
+  /**
+   * The default number of transactions in each indexed block.
+   */
+  public static final int DEFAULT_INDEX_INTERVAL = 64;
+
+  private static final int SEGMENT_BUFFER_SIZE = 64 * 1024;
+
+  private final BinaryObjectFileWriter segment;
+  private final FileChannel index;
+  private final int indexInterval;
+
+  private final long[] bloom = new long[ArchiveFormat.BLOOM_LONGS];
+  private long blockOffset;
+  private UnsignedInteger blockFirstLedgerIndex;
+  private int blockCount;
+  private UnsignedInteger lastLedgerIndex = UnsignedInteger.ZERO;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param segment       A {@link BinaryObjectFileWriter} for the segment file.
+   * @param index         A {@link FileChannel} opened for writing the segment's index file.
+   * @param indexInterval The number of transactions in each indexed block.
+   */
+  public TransactionArchiveWriter(
+    final BinaryObjectFileWriter segment,
+    final FileChannel index,
+    final int indexInterval
+  ) {
+    this.segment = Objects.requireNonNull(segment);
+    this.index = Objects.requireNonNull(index);
+    if (indexInterval < 1) {
+      throw new IllegalArgumentException("indexInterval must be positive");
+    }
+    this.indexInterval = indexInterval;
+  }
+
+  /**
+   * Create a new segment at {@code segmentPath}, with its index file alongside it.
+   *
+   * @param segmentPath The {@link Path} of the segment file, which must not already exist.
+   *
+   * @return A {@link TransactionArchiveWriter}.
+   * @throws IOException if the segment or index file cannot be created.
+   */
+  public static TransactionArchiveWriter create(final Path segmentPath) throws IOException {
+    Objects.requireNonNull(segmentPath);
+    final Path indexPath = ArchiveFormat.indexPath(segmentPath);
+    FileChannel index = FileChannel.open(indexPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    try {
+      FileChannel segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+      return new TransactionArchiveWriter(
+        new BinaryObjectFileWriter(segment, SEGMENT_BUFFER_SIZE), index, DEFAULT_INDEX_INTERVAL
+      );
+    } catch (IOException | RuntimeException exception) {
+      // Remove the index file created above, so that creating the segment can be retried.
+      try {
+        index.close();
+        Files.deleteIfExists(indexPath);
+      } catch (IOException cleanupException) {
+        exception.addSuppressed(cleanupException);
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Append a transaction to the segment.
+   *
+   * @param transaction An {@link ArchivedTransaction}.
+   *
+   * @return The offset of the transaction's record in the segment file.
+   * @throws IllegalArgumentException if the transaction's ledger index is lower than that of the previous transaction.
+   * @throws IOException              if the transaction cannot be written.
+   */
+  public long append(final ArchivedTransaction transaction) throws IOException {
+    Objects.requireNonNull(transaction);
+    if (transaction.ledgerIndex().compareTo(lastLedgerIndex) < 0) {
+      throw new IllegalArgumentException(
+        "Transactions must be appended in ledger order, but ledger " + transaction.ledgerIndex() +
+          " follows ledger " + lastLedgerIndex
+      );
+    }
+    byte[] hash = ArchiveFormat.hashBytes(transaction.hash());
+    byte[] record = ArchiveFormat.toRecord(transaction, hash);
+    long offset = segment.write(record, 0, record.length);
+
+    if (blockCount == 0) {
+      blockOffset = offset;
+      blockFirstLedgerIndex = transaction.ledgerIndex();
+    }
+    ArchiveFormat.addToBloom(bloom, hash);
+    lastLedgerIndex = transaction.ledgerIndex();
+    if (++blockCount == indexInterval) {
+      writeIndexEntry();
+    }
+    return offset;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    segment.flush();
+    index.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try (FileChannel indexChannel = index; BinaryObjectFileWriter segmentWriter = segment) {
+      if (blockCount > 0) {
+        writeIndexEntry();
+      }
+    }
+  }
+
+  private void writeIndexEntry() throws IOException {
+    ByteBuffer entry = ByteBuffer.allocate(ArchiveFormat.INDEX_ENTRY_BYTES);
+    entry.putInt(blockFirstLedgerIndex.intValue());
+    entry.putLong(blockOffset);
+    entry.putLong(segment.position() - blockOffset);
+    for (long bits : bloom) {
+      entry.putLong(bits);
+    }
+    entry.flip();
+    while (entry.hasRemaining()) {
+      index.write(entry);
+    }
+    Arrays.fill(bloom, 0);
+    blockCount = 0;
+  }
+
+}
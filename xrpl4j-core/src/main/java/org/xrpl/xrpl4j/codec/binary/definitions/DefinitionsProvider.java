@@ -26,6 +26,9 @@ import java.util.function.Supplier;
 
 /**
  * Provider for {@link Definitions}.
+ *
+ * <p>An implementation registered with {@link java.util.ServiceLoader} replaces the definitions used by
+ * {@link DefinitionsService#getInstance()}, for example for a network with custom fields or transaction types.</p>
  */
 public interface DefinitionsProvider extends Supplier<Definitions> {
 
@@ -22,32 +22,52 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 
 /**
  * Service for accessing XRPL type and field metadata from definitions.json.
+ *
+ * <p>By default, {@link #getInstance()} is built from definitions that were compiled from the bundled
+ * {@code definitions.json} at build time, so no JSON is parsed at class initialization. Networks with custom
+ * definitions can override them by registering a {@link DefinitionsProvider} with {@link ServiceLoader}, in a
+ * {@code META-INF/services/org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsProvider} file.</p>
  */
 public class DefinitionsService {
 
-  private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
-
-  private final Definitions definitions;
+  private static final DefinitionsService INSTANCE = load(ServiceLoader.load(DefinitionsProvider.class));
 
   private final Map<String, FieldInfo> fieldInfoMap;
 
   private final Map<FieldHeader, String> fieldIdNameMap;
 
+  private final Map<String, FieldInstance> fieldInstanceMap;
+
+  /**
+   * Dense lookup table indexed by {@code [typeCode][fieldCode]}. Entries for unknown fields hold
+   * {@link Optional#empty()} so that a lookup never allocates.
+   */
+  private final Optional<FieldInstance>[][] fieldInstanceTable;
+
   private final Map<String, Integer> typeOrdinalMap;
 
+  private final Map<String, Integer> ledgerEntryTypeMap;
+
+  private final Map<String, Integer> transactionTypeMap;
+
+  private final Map<String, Integer> transactionResultMap;
+
   private final Map<Integer, String> transactionTypeReverseLookupMap;
 
   private final Map<Integer, String> transactionResultReverseLookupNap;
@@ -60,30 +80,100 @@ public class DefinitionsService {
    * @param definitionsProvider A {@link DefinitionsProvider}.
    * @param mapper              An {@link ObjectMapper}.
    */
-  DefinitionsService(DefinitionsProvider definitionsProvider, ObjectMapper mapper) {
-    this.definitions = definitionsProvider.get();
-    this.typeOrdinalMap = ImmutableMap.copyOf(definitions.types());
+  public DefinitionsService(DefinitionsProvider definitionsProvider, ObjectMapper mapper) {
+    this(definitionsProvider.get(), mapper);
+  }
+
+  private DefinitionsService(Definitions definitions, ObjectMapper mapper) {
+    this(
+      definitions.types(),
+      readFieldInfos(definitions, mapper),
+      definitions.ledgerEntryTypes(),
+      definitions.transactionTypes(),
+      definitions.transactionResults()
+    );
+  }
+
+  /**
+   * Construct a service from already-parsed definitions.
+   *
+   * @param types              A {@link Map} of type names to type codes.
+   * @param fields             A {@link Map} of field names to {@link FieldInfo}.
+   * @param ledgerEntryTypes   A {@link Map} of ledger entry type names to codes.
+   * @param transactionTypes   A {@link Map} of transaction type names to codes.
+   * @param transactionResults A {@link Map} of transaction result names to codes.
+   */
+  DefinitionsService(
+    Map<String, Integer> types,
+    Map<String, FieldInfo> fields,
+    Map<String, Integer> ledgerEntryTypes,
+    Map<String, Integer> transactionTypes,
+    Map<String, Integer> transactionResults
+  ) {
+    this.typeOrdinalMap = ImmutableMap.copyOf(types);
+    this.fieldInfoMap = ImmutableMap.copyOf(fields);
 
-    Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
     Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
-    this.definitions.fields().forEach(field -> {
+    Map<String, FieldInstance> tempFieldInstanceMap = new HashMap<>();
+    fieldInfoMap.forEach((fieldName, metadata) -> {
+      FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
+        .typeCode(typeOrdinalMap.get(metadata.type()))
+        .build();
+      FieldInstance fieldInstance = FieldInstance.builder()
+        .header(fieldHeader)
+        .isSerialized(metadata.isSerialized())
+        .isSigningField(metadata.isSigningField())
+        .isVariableLengthEncoded(metadata.isVariableLengthEncoded())
+        .nth(metadata.nth())
+        .name(fieldName)
+        .type(metadata.type())
+        .build();
+      tempFieldIdNameMap.put(fieldHeader, fieldName);
+      tempFieldInstanceMap.put(fieldName, fieldInstance);
+    });
+    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldInstanceMap = ImmutableMap.copyOf(tempFieldInstanceMap);
+    this.fieldInstanceTable = buildFieldInstanceTable(fieldInstanceMap.values());
+    this.ledgerEntryTypeMap = ImmutableMap.copyOf(ledgerEntryTypes);
+    this.transactionTypeMap = ImmutableMap.copyOf(transactionTypes);
+    this.transactionResultMap = ImmutableMap.copyOf(transactionResults);
+    this.transactionTypeReverseLookupMap = inverse(transactionTypeMap);
+    this.transactionResultReverseLookupNap = inverse(transactionResultMap);
+    this.ledgerEntryTypeReverseLookupMap = inverse(ledgerEntryTypeMap);
+  }
+
+  /**
+   * Build the JVM-wide instance from the first {@link DefinitionsProvider} in {@code overrides} or, if there is none,
+   * from {@link GeneratedDefinitions}.
+   *
+   * @param overrides The {@link DefinitionsProvider}s registered with {@link ServiceLoader}.
+   *
+   * @return A {@link DefinitionsService}.
+   */
+  static DefinitionsService load(Iterable<DefinitionsProvider> overrides) {
+    Iterator<DefinitionsProvider> iterator = overrides.iterator();
+    if (iterator.hasNext()) {
+      return new DefinitionsService(iterator.next(), BinaryCodecObjectMapperFactory.getObjectMapper());
+    }
+    return new DefinitionsService(
+      GeneratedDefinitions.TYPES,
+      GeneratedDefinitions.FIELDS,
+      GeneratedDefinitions.LEDGER_ENTRY_TYPES,
+      GeneratedDefinitions.TRANSACTION_TYPES,
+      GeneratedDefinitions.TRANSACTION_RESULTS
+    );
+  }
+
+  private static Map<String, FieldInfo> readFieldInfos(Definitions definitions, ObjectMapper mapper) {
+    Map<String, FieldInfo> fieldInfos = new LinkedHashMap<>();
+    definitions.fields().forEach(field -> {
       try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        tempFieldInfoMap.put(fieldName, metadata);
-        tempFieldIdNameMap.put(fieldHeader, fieldName);
+        fieldInfos.put(field.get(0).textValue(), mapper.treeToValue(field.get(1), FieldInfo.class));
       } catch (JsonProcessingException e) {
         throw new IllegalArgumentException("invalid json", e);
       }
     });
-    this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
-    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
-    this.transactionTypeReverseLookupMap = inverse(definitions.transactionTypes());
-    this.transactionResultReverseLookupNap = inverse(definitions.transactionResults());
-    this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
+    return fieldInfos;
   }
 
   /**
@@ -136,33 +226,50 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldHeader}.
    */
   public Optional<FieldHeader> getFieldHeader(String fieldName) {
-    return getFieldInfo(fieldName).map(info -> {
-      Integer typeCode = getTypeOrdinal(info.type());
-      Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-      return FieldHeader.builder().typeCode(typeCode).fieldCode(info.nth()).build();
-    });
+    return getFieldInstance(fieldName).map(FieldInstance::header);
   }
 
   /**
-   * Obtain an optionally-present field instance with the specified field header name.
+   * Obtain an optionally-present field instance with the specified field header name. Every call for the same field
+   * returns the same {@link FieldInstance}, which is built once when this service is constructed.
    *
    * @param fieldName A {@link String} for the field instance to obtain.
    *
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    return Optional.ofNullable(fieldInstanceMap.get(fieldName));
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified field header.
+   *
+   * @param fieldHeader A {@link FieldHeader} for the field instance to obtain.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(FieldHeader fieldHeader) {
+    return getFieldInstance(fieldHeader.typeCode(), fieldHeader.fieldCode());
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type code and field code. This lookup is backed by
+   * an array and does not allocate, which makes it suitable for use on every field header read from binary.
+   *
+   * @param typeCode  An int representing the type code of a field header.
+   * @param fieldCode An int representing the field code of a field header.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode >= fieldInstanceTable.length) {
+      return Optional.empty();
+    }
+    Optional<FieldInstance>[] row = fieldInstanceTable[typeCode];
+    if (fieldCode < 0 || fieldCode >= row.length) {
+      return Optional.empty();
+    }
+    return row[fieldCode];
   }
 
   /**
@@ -179,11 +286,11 @@ public class DefinitionsService {
     }
     switch (fieldName) {
       case "LedgerEntryType":
-        return Optional.ofNullable(definitions.ledgerEntryTypes().get(value));
+        return Optional.ofNullable(ledgerEntryTypeMap.get(value));
       case "TransactionResult":
-        return Optional.ofNullable(definitions.transactionResults().get(value));
+        return Optional.ofNullable(transactionResultMap.get(value));
       case "TransactionType":
-        return Optional.ofNullable(definitions.transactionTypes().get(value));
+        return Optional.ofNullable(transactionTypeMap.get(value));
       default:
         return Optional.empty();
     }
@@ -213,6 +320,42 @@ public class DefinitionsService {
     }
   }
 
+  /**
+   * Build the {@code [typeCode][fieldCode]} table backing {@link #getFieldInstance(int, int)}. Only fields whose codes
+   * fit in a binary field header (0 to 255) are included; all others can never be read from binary.
+   */
+  @SuppressWarnings("unchecked")
+  private static Optional<FieldInstance>[][] buildFieldInstanceTable(Collection<FieldInstance> fieldInstances) {
+    int[] rowLengths = new int[256];
+    int maxTypeCode = -1;
+    for (FieldInstance fieldInstance : fieldInstances) {
+      int typeCode = fieldInstance.header().typeCode();
+      int fieldCode = fieldInstance.header().fieldCode();
+      if (isEncodable(typeCode) && isEncodable(fieldCode)) {
+        rowLengths[typeCode] = Math.max(rowLengths[typeCode], fieldCode + 1);
+        maxTypeCode = Math.max(maxTypeCode, typeCode);
+      }
+    }
+
+    Optional<FieldInstance>[][] table = new Optional[maxTypeCode + 1][];
+    for (int typeCode = 0; typeCode < table.length; typeCode++) {
+      table[typeCode] = new Optional[rowLengths[typeCode]];
+      Arrays.fill(table[typeCode], Optional.empty());
+    }
+    for (FieldInstance fieldInstance : fieldInstances) {
+      int typeCode = fieldInstance.header().typeCode();
+      int fieldCode = fieldInstance.header().fieldCode();
+      if (isEncodable(typeCode) && isEncodable(fieldCode)) {
+        table[typeCode][fieldCode] = Optional.of(fieldInstance);
+      }
+    }
+    return table;
+  }
+
+  private static boolean isEncodable(int code) {
+    return code >= 0 && code <= 255;
+  }
+
   private Map<Integer, String> inverse(Map<String, Integer> map) {
     return map.entrySet()
       .stream()
@@ -0,0 +1,72 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+import java.util.Objects;
+
+/**
+ * The binary encoding of a {@link FieldHeader}. Instances are shared by every encoder in the JVM, so the encoded bytes
+ * are never exposed directly; they can only be copied or written to a sink.
+ */
+public final class EncodedFieldHeader {
+
+  private final byte[] bytes;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param header The {@link FieldHeader} to encode.
+   */
+  EncodedFieldHeader(final FieldHeader header) {
+    this.bytes = Objects.requireNonNull(header).toBytes();
+  }
+
+  /**
+   * The number of bytes in the encoded header.
+   *
+   * @return An int between 1 and 3.
+   */
+  public int length() {
+    return bytes.length;
+  }
+
+  /**
+   * A copy of the encoded header.
+   *
+   * @return A new byte array containing the encoded header.
+   */
+  public byte[] toByteArray() {
+    return bytes.clone();
+  }
+
+  /**
+   * Append the encoded header to {@code sink}.
+   *
+   * @param sink An {@link UnsignedByteArray} to append to.
+   */
+  public void writeTo(final UnsignedByteArray sink) {
+    Objects.requireNonNull(sink).append(bytes);
+  }
+
+}
@@ -20,6 +20,7 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
  * =========================LICENSE_END==================================
  */
 
+import org.immutables.value.Value;
 import org.immutables.value.Value.Immutable;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
@@ -80,8 +81,12 @@ public interface FieldInstance extends Comparable<FieldInstance> {
   /**
    * Globally unique ordinal position based on type code and field code.
    *
+   * <p>Computed once per instance because it is the sort key used every time an STObject is canonicalized.</p>
+   *
    * @return An int representing the ordinal of this FieldInstance.
    */
+  @Value.Derived
+  @Value.Auxiliary
   default int ordinal() {
     return (header().typeCode() << 16) | nth();
   }
@@ -93,6 +98,17 @@ public interface FieldInstance extends Comparable<FieldInstance> {
    */
   FieldHeader header();
 
+  /**
+   * The binary encoding of {@link #header()}, computed once per instance.
+   *
+   * @return An {@link EncodedFieldHeader} containing the encoded field header.
+   */
+  @Value.Derived
+  @Value.Auxiliary
+  default EncodedFieldHeader encodedHeader() {
+    return new EncodedFieldHeader(header());
+  }
+
   @Override
   default int compareTo(FieldInstance other) {
     return Integer.compare(this.ordinal(), other.ordinal());
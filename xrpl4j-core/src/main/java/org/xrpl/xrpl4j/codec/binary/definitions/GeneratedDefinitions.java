@@ -0,0 +1,468 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * The type, field, ledger entry type, transaction type and transaction result definitions from
+ * {@code definitions.json}, compiled to Java so that {@link DefinitionsService} does not need to
+ * parse JSON when it is initialized.
+ *
+ * <p>This file is generated by {@code DefinitionsGenerator} and must not be edited by hand. After
+ * changing {@code definitions.json}, regenerate it with
+ * {@code mvn -Pgenerate-definitions process-test-classes}.</p>
+ */
+final class GeneratedDefinitions {
+
+  static final Map<String, Integer> TYPES = types();
+
+  static final Map<String, FieldInfo> FIELDS = fields();
+
+  static final Map<String, Integer> LEDGER_ENTRY_TYPES = ledgerEntryTypes();
+
+  static final Map<String, Integer> TRANSACTION_TYPES = transactionTypes();
+
+  static final Map<String, Integer> TRANSACTION_RESULTS = transactionResults();
+
+  private GeneratedDefinitions() {
+  }
+
+  private static Map<String, Integer> types() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    builder.put("Validation", 10003);
+    builder.put("Done", -1);
+    builder.put("Hash128", 4);
+    builder.put("Blob", 7);
+    builder.put("AccountID", 8);
+    builder.put("Amount", 6);
+    builder.put("Hash256", 5);
+    builder.put("UInt8", 16);
+    builder.put("Vector256", 19);
+    builder.put("STObject", 14);
+    builder.put("Unknown", -2);
+    builder.put("Transaction", 10001);
+    builder.put("Hash160", 17);
+    builder.put("PathSet", 18);
+    builder.put("LedgerEntry", 10002);
+    builder.put("UInt16", 1);
+    builder.put("NotPresent", 0);
+    builder.put("UInt64", 3);
+    builder.put("UInt32", 2);
+    builder.put("STArray", 15);
+    return builder.build();
+  }
+
+  private static Map<String, FieldInfo> fields() {
+    ImmutableMap.Builder<String, FieldInfo> builder = ImmutableMap.builder();
+    builder.put("Generic", field(0, "Unknown", false, false, false));
+    builder.put("Invalid", field(-1, "Unknown", false, false, false));
+    builder.put("LedgerEntryType", field(1, "UInt16", false, true, true));
+    builder.put("TransactionType", field(2, "UInt16", false, true, true));
+    builder.put("SignerWeight", field(3, "UInt16", false, true, true));
+    builder.put("TransferFee", field(4, "UInt16", false, true, true));
+    builder.put("Flags", field(2, "UInt32", false, true, true));
+    builder.put("SourceTag", field(3, "UInt32", false, true, true));
+    builder.put("Sequence", field(4, "UInt32", false, true, true));
+    builder.put("PreviousTxnLgrSeq", field(5, "UInt32", false, true, true));
+    builder.put("LedgerSequence", field(6, "UInt32", false, true, true));
+    builder.put("CloseTime", field(7, "UInt32", false, true, true));
+    builder.put("ParentCloseTime", field(8, "UInt32", false, true, true));
+    builder.put("SigningTime", field(9, "UInt32", false, true, true));
+    builder.put("Expiration", field(10, "UInt32", false, true, true));
+    builder.put("TransferRate", field(11, "UInt32", false, true, true));
+    builder.put("WalletSize", field(12, "UInt32", false, true, true));
+    builder.put("OwnerCount", field(13, "UInt32", false, true, true));
+    builder.put("DestinationTag", field(14, "UInt32", false, true, true));
+    builder.put("HighQualityIn", field(16, "UInt32", false, true, true));
+    builder.put("HighQualityOut", field(17, "UInt32", false, true, true));
+    builder.put("LowQualityIn", field(18, "UInt32", false, true, true));
+    builder.put("LowQualityOut", field(19, "UInt32", false, true, true));
+    builder.put("QualityIn", field(20, "UInt32", false, true, true));
+    builder.put("QualityOut", field(21, "UInt32", false, true, true));
+    builder.put("StampEscrow", field(22, "UInt32", false, true, true));
+    builder.put("BondAmount", field(23, "UInt32", false, true, true));
+    builder.put("LoadFee", field(24, "UInt32", false, true, true));
+    builder.put("OfferSequence", field(25, "UInt32", false, true, true));
+    builder.put("FirstLedgerSequence", field(26, "UInt32", false, true, true));
+    builder.put("LastLedgerSequence", field(27, "UInt32", false, true, true));
+    builder.put("TransactionIndex", field(28, "UInt32", false, true, true));
+    builder.put("OperationLimit", field(29, "UInt32", false, true, true));
+    builder.put("ReferenceFeeUnits", field(30, "UInt32", false, true, true));
+    builder.put("ReserveBase", field(31, "UInt32", false, true, true));
+    builder.put("ReserveIncrement", field(32, "UInt32", false, true, true));
+    builder.put("SetFlag", field(33, "UInt32", false, true, true));
+    builder.put("ClearFlag", field(34, "UInt32", false, true, true));
+    builder.put("SignerQuorum", field(35, "UInt32", false, true, true));
+    builder.put("CancelAfter", field(36, "UInt32", false, true, true));
+    builder.put("FinishAfter", field(37, "UInt32", false, true, true));
+    builder.put("IndexNext", field(1, "UInt64", false, true, true));
+    builder.put("IndexPrevious", field(2, "UInt64", false, true, true));
+    builder.put("BookNode", field(3, "UInt64", false, true, true));
+    builder.put("OwnerNode", field(4, "UInt64", false, true, true));
+    builder.put("BaseFee", field(5, "UInt64", false, true, true));
+    builder.put("ExchangeRate", field(6, "UInt64", false, true, true));
+    builder.put("LowNode", field(7, "UInt64", false, true, true));
+    builder.put("HighNode", field(8, "UInt64", false, true, true));
+    builder.put("EmailHash", field(1, "Hash128", false, true, true));
+    builder.put("LedgerHash", field(1, "Hash256", false, true, true));
+    builder.put("ParentHash", field(2, "Hash256", false, true, true));
+    builder.put("TransactionHash", field(3, "Hash256", false, true, true));
+    builder.put("AccountHash", field(4, "Hash256", false, true, true));
+    builder.put("PreviousTxnID", field(5, "Hash256", false, true, true));
+    builder.put("LedgerIndex", field(6, "Hash256", false, true, true));
+    builder.put("WalletLocator", field(7, "Hash256", false, true, true));
+    builder.put("RootIndex", field(8, "Hash256", false, true, true));
+    builder.put("AccountTxnID", field(9, "Hash256", false, true, true));
+    builder.put("NFTokenID", field(10, "Hash256", false, true, true));
+    builder.put("BookDirectory", field(16, "Hash256", false, true, true));
+    builder.put("InvoiceID", field(17, "Hash256", false, true, true));
+    builder.put("Nickname", field(18, "Hash256", false, true, true));
+    builder.put("Amendment", field(19, "Hash256", false, true, true));
+    builder.put("TicketID", field(20, "Hash256", false, true, true));
+    builder.put("Digest", field(21, "Hash256", false, true, true));
+    builder.put("hash", field(257, "Hash256", false, false, false));
+    builder.put("index", field(258, "Hash256", false, false, false));
+    builder.put("Amount", field(1, "Amount", false, true, true));
+    builder.put("Balance", field(2, "Amount", false, true, true));
+    builder.put("LimitAmount", field(3, "Amount", false, true, true));
+    builder.put("TakerPays", field(4, "Amount", false, true, true));
+    builder.put("TakerGets", field(5, "Amount", false, true, true));
+    builder.put("LowLimit", field(6, "Amount", false, true, true));
+    builder.put("HighLimit", field(7, "Amount", false, true, true));
+    builder.put("Fee", field(8, "Amount", false, true, true));
+    builder.put("SendMax", field(9, "Amount", false, true, true));
+    builder.put("DeliverMin", field(10, "Amount", false, true, true));
+    builder.put("MinimumOffer", field(16, "Amount", false, true, true));
+    builder.put("RippleEscrow", field(17, "Amount", false, true, true));
+    builder.put("DeliveredAmount", field(18, "Amount", false, true, true));
+    builder.put("NFTokenBrokerFee", field(19, "Amount", false, true, true));
+    builder.put("taker_gets_funded", field(258, "Amount", false, false, false));
+    builder.put("taker_pays_funded", field(259, "Amount", false, false, false));
+    builder.put("PublicKey", field(1, "Blob", true, true, true));
+    builder.put("MessageKey", field(2, "Blob", true, true, true));
+    builder.put("SigningPubKey", field(3, "Blob", true, true, true));
+    builder.put("TxnSignature", field(4, "Blob", true, true, false));
+    builder.put("URI", field(5, "Blob", true, true, true));
+    builder.put("Signature", field(6, "Blob", true, true, false));
+    builder.put("Domain", field(7, "Blob", true, true, true));
+    builder.put("FundCode", field(8, "Blob", true, true, true));
+    builder.put("RemoveCode", field(9, "Blob", true, true, true));
+    builder.put("ExpireCode", field(10, "Blob", true, true, true));
+    builder.put("CreateCode", field(11, "Blob", true, true, true));
+    builder.put("MemoType", field(12, "Blob", true, true, true));
+    builder.put("MemoData", field(13, "Blob", true, true, true));
+    builder.put("MemoFormat", field(14, "Blob", true, true, true));
+    builder.put("Fulfillment", field(16, "Blob", true, true, true));
+    builder.put("Condition", field(17, "Blob", true, true, true));
+    builder.put("MasterSignature", field(18, "Blob", true, true, false));
+    builder.put("UNLModifyValidator", field(19, "Blob", true, true, true));
+    builder.put("ValidatorToDisable", field(20, "Blob", true, true, true));
+    builder.put("ValidatorToReEnable", field(21, "Blob", true, true, true));
+    builder.put("Account", field(1, "AccountID", true, true, true));
+    builder.put("Owner", field(2, "AccountID", true, true, true));
+    builder.put("Destination", field(3, "AccountID", true, true, true));
+    builder.put("Issuer", field(4, "AccountID", true, true, true));
+    builder.put("Authorize", field(5, "AccountID", true, true, true));
+    builder.put("Unauthorize", field(6, "AccountID", true, true, true));
+    builder.put("Target", field(7, "AccountID", true, true, true));
+    builder.put("RegularKey", field(8, "AccountID", true, true, true));
+    builder.put("NFTokenMinter", field(9, "AccountID", true, true, true));
+    builder.put("ObjectEndMarker", field(1, "STObject", false, true, true));
+    builder.put("TransactionMetaData", field(2, "STObject", false, true, true));
+    builder.put("CreatedNode", field(3, "STObject", false, true, true));
+    builder.put("DeletedNode", field(4, "STObject", false, true, true));
+    builder.put("ModifiedNode", field(5, "STObject", false, true, true));
+    builder.put("PreviousFields", field(6, "STObject", false, true, true));
+    builder.put("FinalFields", field(7, "STObject", false, true, true));
+    builder.put("NewFields", field(8, "STObject", false, true, true));
+    builder.put("TemplateEntry", field(9, "STObject", false, true, true));
+    builder.put("Memo", field(10, "STObject", false, true, true));
+    builder.put("SignerEntry", field(11, "STObject", false, true, true));
+    builder.put("NFToken", field(12, "STObject", false, true, true));
+    builder.put("Signer", field(16, "STObject", false, true, true));
+    builder.put("Majority", field(18, "STObject", false, true, true));
+    builder.put("DisabledValidator", field(19, "STObject", false, true, true));
+    builder.put("ArrayEndMarker", field(1, "STArray", false, true, true));
+    builder.put("Signers", field(3, "STArray", false, true, false));
+    builder.put("SignerEntries", field(4, "STArray", false, true, true));
+    builder.put("Template", field(5, "STArray", false, true, true));
+    builder.put("Necessary", field(6, "STArray", false, true, true));
+    builder.put("Sufficient", field(7, "STArray", false, true, true));
+    builder.put("AffectedNodes", field(8, "STArray", false, true, true));
+    builder.put("Memos", field(9, "STArray", false, true, true));
+    builder.put("NFTokens", field(10, "STArray", false, true, true));
+    builder.put("Majorities", field(16, "STArray", false, true, true));
+    builder.put("DisabledValidators", field(17, "STArray", false, true, true));
+    builder.put("CloseResolution", field(1, "UInt8", false, true, true));
+    builder.put("Method", field(2, "UInt8", false, true, true));
+    builder.put("TransactionResult", field(3, "UInt8", false, true, true));
+    builder.put("TakerPaysCurrency", field(1, "Hash160", false, true, true));
+    builder.put("TakerPaysIssuer", field(2, "Hash160", false, true, true));
+    builder.put("TakerGetsCurrency", field(3, "Hash160", false, true, true));
+    builder.put("TakerGetsIssuer", field(4, "Hash160", false, true, true));
+    builder.put("Paths", field(1, "PathSet", false, true, true));
+    builder.put("Indexes", field(1, "Vector256", true, true, true));
+    builder.put("Hashes", field(2, "Vector256", true, true, true));
+    builder.put("Amendments", field(3, "Vector256", true, true, true));
+    builder.put("NFTokenOffers", field(4, "Vector256", true, true, true));
+    builder.put("Transaction", field(1, "Transaction", false, false, false));
+    builder.put("LedgerEntry", field(1, "LedgerEntry", false, false, false));
+    builder.put("Validation", field(1, "Validation", false, false, false));
+    builder.put("SignerListID", field(38, "UInt32", false, true, true));
+    builder.put("SettleDelay", field(39, "UInt32", false, true, true));
+    builder.put("TicketCount", field(40, "UInt32", false, true, true));
+    builder.put("TicketSequence", field(41, "UInt32", false, true, true));
+    builder.put("NFTokenTaxon", field(42, "UInt32", false, true, true));
+    builder.put("MintedNFTokens", field(43, "UInt32", false, true, true));
+    builder.put("BurnedNFTokens", field(44, "UInt32", false, true, true));
+    builder.put("Channel", field(22, "Hash256", false, true, true));
+    builder.put("ConsensusHash", field(23, "Hash256", false, true, true));
+    builder.put("CheckID", field(24, "Hash256", false, true, true));
+    builder.put("ValidatedHash", field(25, "Hash256", false, true, true));
+    builder.put("PreviousPageMin", field(26, "Hash256", false, true, true));
+    builder.put("NextPageMin", field(27, "Hash256", false, true, true));
+    builder.put("NFTokenBuyOffer", field(28, "Hash256", false, true, true));
+    builder.put("NFTokenSellOffer", field(29, "Hash256", false, true, true));
+    builder.put("TickSize", field(16, "UInt8", false, true, true));
+    builder.put("UNLModifyDisabling", field(17, "UInt8", false, true, true));
+    builder.put("DestinationNode", field(9, "UInt64", false, true, true));
+    builder.put("Cookie", field(10, "UInt64", false, true, true));
+    builder.put("ServerVersion", field(11, "UInt64", false, true, true));
+    builder.put("NFTokenOfferNode", field(12, "UInt64", false, true, true));
+    return builder.build();
+  }
+
+  private static Map<String, Integer> ledgerEntryTypes() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    builder.put("Any", -3);
+    builder.put("Child", -2);
+    builder.put("Invalid", -1);
+    builder.put("AccountRoot", 97);
+    builder.put("DirectoryNode", 100);
+    builder.put("RippleState", 114);
+    builder.put("Ticket", 84);
+    builder.put("SignerList", 83);
+    builder.put("Offer", 111);
+    builder.put("LedgerHashes", 104);
+    builder.put("Amendments", 102);
+    builder.put("FeeSettings", 115);
+    builder.put("Escrow", 117);
+    builder.put("PayChannel", 120);
+    builder.put("DepositPreauth", 112);
+    builder.put("Check", 67);
+    builder.put("Nickname", 110);
+    builder.put("Contract", 99);
+    builder.put("NFTokenPage", 80);
+    builder.put("NFTokenOffer", 55);
+    builder.put("NegativeUNL", 78);
+    return builder.build();
+  }
+
+  private static Map<String, Integer> transactionTypes() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    builder.put("Invalid", -1);
+    builder.put("Payment", 0);
+    builder.put("EscrowCreate", 1);
+    builder.put("EscrowFinish", 2);
+    builder.put("AccountSet", 3);
+    builder.put("EscrowCancel", 4);
+    builder.put("SetRegularKey", 5);
+    builder.put("NickNameSet", 6);
+    builder.put("OfferCreate", 7);
+    builder.put("OfferCancel", 8);
+    builder.put("Contract", 9);
+    builder.put("TicketCreate", 10);
+    builder.put("TicketCancel", 11);
+    builder.put("SignerListSet", 12);
+    builder.put("PaymentChannelCreate", 13);
+    builder.put("PaymentChannelFund", 14);
+    builder.put("PaymentChannelClaim", 15);
+    builder.put("CheckCreate", 16);
+    builder.put("CheckCash", 17);
+    builder.put("CheckCancel", 18);
+    builder.put("DepositPreauth", 19);
+    builder.put("TrustSet", 20);
+    builder.put("AccountDelete", 21);
+    builder.put("NFTokenMint", 25);
+    builder.put("NFTokenBurn", 26);
+    builder.put("NFTokenCreateOffer", 27);
+    builder.put("NFTokenCancelOffer", 28);
+    builder.put("NFTokenAcceptOffer", 29);
+    builder.put("EnableAmendment", 100);
+    builder.put("SetFee", 101);
+    builder.put("UNLModify", 102);
+    return builder.build();
+  }
+
+  private static Map<String, Integer> transactionResults() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    builder.put("telLOCAL_ERROR", -399);
+    builder.put("telBAD_DOMAIN", -398);
+    builder.put("telBAD_PATH_COUNT", -397);
+    builder.put("telBAD_PUBLIC_KEY", -396);
+    builder.put("telFAILED_PROCESSING", -395);
+    builder.put("telINSUF_FEE_P", -394);
+    builder.put("telNO_DST_PARTIAL", -393);
+    builder.put("telCAN_NOT_QUEUE", -392);
+    builder.put("telCAN_NOT_QUEUE_BALANCE", -391);
+    builder.put("telCAN_NOT_QUEUE_BLOCKS", -390);
+    builder.put("telCAN_NOT_QUEUE_BLOCKED", -389);
+    builder.put("telCAN_NOT_QUEUE_FEE", -388);
+    builder.put("telCAN_NOT_QUEUE_FULL", -387);
+    builder.put("temMALFORMED", -299);
+    builder.put("temBAD_AMOUNT", -298);
+    builder.put("temBAD_CURRENCY", -297);
+    builder.put("temBAD_EXPIRATION", -296);
+    builder.put("temBAD_FEE", -295);
+    builder.put("temBAD_ISSUER", -294);
+    builder.put("temBAD_LIMIT", -293);
+    builder.put("temBAD_OFFER", -292);
+    builder.put("temBAD_PATH", -291);
+    builder.put("temBAD_PATH_LOOP", -290);
+    builder.put("temBAD_REGKEY", -289);
+    builder.put("temBAD_SEND_XRP_LIMIT", -288);
+    builder.put("temBAD_SEND_XRP_MAX", -287);
+    builder.put("temBAD_SEND_XRP_NO_DIRECT", -286);
+    builder.put("temBAD_SEND_XRP_PARTIAL", -285);
+    builder.put("temBAD_SEND_XRP_PATHS", -284);
+    builder.put("temBAD_SEQUENCE", -283);
+    builder.put("temBAD_SIGNATURE", -282);
+    builder.put("temBAD_SRC_ACCOUNT", -281);
+    builder.put("temBAD_TRANSFER_RATE", -280);
+    builder.put("temDST_IS_SRC", -279);
+    builder.put("temDST_NEEDED", -278);
+    builder.put("temINVALID", -277);
+    builder.put("temINVALID_FLAG", -276);
+    builder.put("temREDUNDANT", -275);
+    builder.put("temRIPPLE_EMPTY", -274);
+    builder.put("temDISABLED", -273);
+    builder.put("temBAD_SIGNER", -272);
+    builder.put("temBAD_QUORUM", -271);
+    builder.put("temBAD_WEIGHT", -270);
+    builder.put("temBAD_TICK_SIZE", -269);
+    builder.put("temINVALID_ACCOUNT_ID", -268);
+    builder.put("temCANNOT_PREAUTH_SELF", -267);
+    builder.put("temUNCERTAIN", -266);
+    builder.put("temUNKNOWN", -265);
+    builder.put("tefFAILURE", -199);
+    builder.put("tefALREADY", -198);
+    builder.put("tefBAD_ADD_AUTH", -197);
+    builder.put("tefBAD_AUTH", -196);
+    builder.put("tefBAD_LEDGER", -195);
+    builder.put("tefCREATED", -194);
+    builder.put("tefEXCEPTION", -193);
+    builder.put("tefINTERNAL", -192);
+    builder.put("tefNO_AUTH_REQUIRED", -191);
+    builder.put("tefPAST_SEQ", -190);
+    builder.put("tefWRONG_PRIOR", -189);
+    builder.put("tefMASTER_DISABLED", -188);
+    builder.put("tefMAX_LEDGER", -187);
+    builder.put("tefBAD_SIGNATURE", -186);
+    builder.put("tefBAD_QUORUM", -185);
+    builder.put("tefNOT_MULTI_SIGNING", -184);
+    builder.put("tefBAD_AUTH_MASTER", -183);
+    builder.put("tefINVARIANT_FAILED", -182);
+    builder.put("tefTOO_BIG", -181);
+    builder.put("tefNO_TICKET", -180);
+    builder.put("tefTOKEN_IS_NOT_TRANSFERABLE", -179);
+    builder.put("terRETRY", -99);
+    builder.put("terFUNDS_SPENT", -98);
+    builder.put("terINSUF_FEE_B", -97);
+    builder.put("terNO_ACCOUNT", -96);
+    builder.put("terNO_AUTH", -95);
+    builder.put("terNO_LINE", -94);
+    builder.put("terOWNERS", -93);
+    builder.put("terPRE_SEQ", -92);
+    builder.put("terLAST", -91);
+    builder.put("terNO_RIPPLE", -90);
+    builder.put("terQUEUED", -89);
+    builder.put("tesSUCCESS", 0);
+    builder.put("tecCLAIM", 100);
+    builder.put("tecPATH_PARTIAL", 101);
+    builder.put("tecUNFUNDED_ADD", 102);
+    builder.put("tecUNFUNDED_OFFER", 103);
+    builder.put("tecUNFUNDED_PAYMENT", 104);
+    builder.put("tecFAILED_PROCESSING", 105);
+    builder.put("tecDIR_FULL", 121);
+    builder.put("tecINSUF_RESERVE_LINE", 122);
+    builder.put("tecINSUF_RESERVE_OFFER", 123);
+    builder.put("tecNO_DST", 124);
+    builder.put("tecNO_DST_INSUF_XRP", 125);
+    builder.put("tecNO_LINE_INSUF_RESERVE", 126);
+    builder.put("tecNO_LINE_REDUNDANT", 127);
+    builder.put("tecPATH_DRY", 128);
+    builder.put("tecUNFUNDED", 129);
+    builder.put("tecNO_ALTERNATIVE_KEY", 130);
+    builder.put("tecNO_REGULAR_KEY", 131);
+    builder.put("tecOWNERS", 132);
+    builder.put("tecNO_ISSUER", 133);
+    builder.put("tecNO_AUTH", 134);
+    builder.put("tecNO_LINE", 135);
+    builder.put("tecINSUFF_FEE", 136);
+    builder.put("tecFROZEN", 137);
+    builder.put("tecNO_TARGET", 138);
+    builder.put("tecNO_PERMISSION", 139);
+    builder.put("tecNO_ENTRY", 140);
+    builder.put("tecINSUFFICIENT_RESERVE", 141);
+    builder.put("tecNEED_MASTER_KEY", 142);
+    builder.put("tecDST_TAG_NEEDED", 143);
+    builder.put("tecINTERNAL", 144);
+    builder.put("tecOVERSIZE", 145);
+    builder.put("tecCRYPTOCONDITION_ERROR", 146);
+    builder.put("tecINVARIANT_FAILED", 147);
+    builder.put("tecEXPIRED", 148);
+    builder.put("tecDUPLICATE", 149);
+    builder.put("tecKILLED", 150);
+    builder.put("tecHAS_OBLIGATIONS", 151);
+    builder.put("tecTOO_SOON", 152);
+    builder.put("tecMAX_SEQUENCE_REACHED", 154);
+    builder.put("tecNO_SUITABLE_PAGE", 155);
+    builder.put("tecBUY_SELL_MISMATCH", 156);
+    builder.put("tecOFFER_TYPE_MISMATCH", 157);
+    builder.put("tecCANT_ACCEPT_OWN_OFFER", 158);
+    builder.put("tecINSUFFICIENT_FUNDS", 159);
+    builder.put("tecOBJECT_NOT_FOUND", 160);
+    builder.put("tecINSUFFICIENT_PAYMENT", 161);
+    builder.put("tecINCORRECT_ASSET", 162);
+    builder.put("tecTOO_MANY", 163);
+    return builder.build();
+  }
+
+  private static FieldInfo field(
+    int nth,
+    String type,
+    boolean isVariableLengthEncoded,
+    boolean isSerialized,
+    boolean isSigningField
+  ) {
+    return ImmutableFieldInfo.builder()
+      .nth(nth)
+      .type(type)
+      .isVariableLengthEncoded(isVariableLengthEncoded)
+      .isSerialized(isSerialized)
+      .isSigningField(isSigningField)
+      .build();
+  }
+
+}
@@ -0,0 +1,241 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.xrpl.xrpl4j.codec.binary.serdes.BinaryObjectFileWriter.LENGTH_PREFIX_BYTES;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads the length-prefixed XRPL binary objects written by {@link BinaryObjectFileWriter} from a memory-mapped file.
+ *
+ * <p>The file is mapped in windows of at most {@code windowSize} bytes rather than read onto the heap, so files larger
+ * than the heap, or larger than the 2 GiB limit of a single {@link MappedByteBuffer}, can be read. {@link #next()}
+ * returns each object as a read-only slice of the mapping without copying it; the other {@code next} methods decode the
+ * object, copying only that object's bytes. Instances are not thread-safe.</p>
+ */
+public class BinaryObjectFileReader implements Closeable {
+
+  private static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+  private final FileChannel channel;
+  private final long size;
+  private final int windowSize;
+
+  private MappedByteBuffer window;
+  private long windowStart;
+  private long position;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param channel    A {@link FileChannel} opened for reading. Objects are read from its current position up to its
+   *                   size at the time of construction.
+   * @param windowSize The maximum number of bytes to map at once. A window is grown past this size only when a single
+   *                   object does not fit in it.
+   *
+   * @throws IOException if the size or position of {@code channel} cannot be read.
+   */
+  public BinaryObjectFileReader(final FileChannel channel, final int windowSize) throws IOException {
+    this.channel = Objects.requireNonNull(channel);
+    if (windowSize < LENGTH_PREFIX_BYTES) {
+      throw new IllegalArgumentException("windowSize must be at least " + LENGTH_PREFIX_BYTES);
+    }
+    this.windowSize = windowSize;
+    this.size = channel.size();
+    this.position = channel.position();
+    this.windowStart = position;
+  }
+
+  /**
+   * Open {@code path} for reading.
+   *
+   * @param path The {@link Path} of a file written by {@link BinaryObjectFileWriter}.
+   *
+   * @return A {@link BinaryObjectFileReader}.
+   * @throws IOException if the file cannot be opened.
+   */
+  public static BinaryObjectFileReader open(final Path path) throws IOException {
+    return new BinaryObjectFileReader(
+      FileChannel.open(Objects.requireNonNull(path), StandardOpenOption.READ), DEFAULT_WINDOW_SIZE
+    );
+  }
+
+  /**
+   * Whether there is another object to read.
+   *
+   * @return {@code true} if {@link #next()} will return an object; {@code false} if the end of the file was reached.
+   */
+  public boolean hasNext() {
+    return position < size;
+  }
+
+  /**
+   * The size of the file when this reader was constructed. Objects appended after that are not read.
+   *
+   * @return The number of bytes in the file.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * The offset in the file of the next object's length prefix. This is the value {@link BinaryObjectFileWriter}
+   * returned when the object was written, and can be passed to {@link #seek(long)}.
+   *
+   * @return A file offset.
+   */
+  public long position() {
+    return position;
+  }
+
+  /**
+   * Move to the object whose length prefix starts at {@code offset}.
+   *
+   * @param offset A file offset returned by {@link BinaryObjectFileWriter} or {@link #position()}.
+   */
+  public void seek(final long offset) {
+    if (offset < 0 || offset > size) {
+      throw new IllegalArgumentException("offset " + offset + " is outside of the file of size " + size);
+    }
+    this.position = offset;
+  }
+
+  /**
+   * Read the next object without copying or decoding it.
+   *
+   * @return A read-only {@link ByteBuffer} containing the canonical binary encoding of the next object. The buffer
+   *   remains valid after further reads.
+   * @throws NoSuchElementException if there are no more objects.
+   * @throws EOFException           if the file ends part way through an object.
+   * @throws IOException            if the file cannot be mapped.
+   */
+  public ByteBuffer next() throws IOException {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    if (size - position < LENGTH_PREFIX_BYTES) {
+      throw new EOFException("Truncated length prefix at offset " + position);
+    }
+    ensureMapped(LENGTH_PREFIX_BYTES);
+    int length = window.getInt((int) (position - windowStart));
+    if (length < 0 || length > Integer.MAX_VALUE - LENGTH_PREFIX_BYTES) {
+      throw new IOException("Invalid object length " + length + " at offset " + position);
+    }
+    if (size - position - LENGTH_PREFIX_BYTES < length) {
+      throw new EOFException(
+        "Object at offset " + position + " of length " + length + " runs past the end of the file"
+      );
+    }
+    ensureMapped(LENGTH_PREFIX_BYTES + length);
+
+    ByteBuffer object = window.duplicate();
+    int start = (int) (position - windowStart) + LENGTH_PREFIX_BYTES;
+    object.position(start);
+    object.limit(start + length);
+    position += LENGTH_PREFIX_BYTES + length;
+    return object.slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Read the next object into an {@link UnsignedByteArray}.
+   *
+   * @return An {@link UnsignedByteArray} containing the canonical binary encoding of the next object.
+   * @throws IOException if the object cannot be read.
+   */
+  public UnsignedByteArray nextBytes() throws IOException {
+    return UnsignedByteArray.of(toArray(next()));
+  }
+
+  /**
+   * Read the next object as a lazily-decoded {@link STObjectView}.
+   *
+   * @return An {@link STObjectView} over the next object.
+   * @throws IOException if the object cannot be read.
+   */
+  public STObjectView nextView() throws IOException {
+    return STObjectView.of(toArray(next()));
+  }
+
+  /**
+   * Read and fully decode the next object.
+   *
+   * @return The next object as an {@link STObjectType}.
+   * @throws IOException if the object cannot be read.
+   */
+  @SuppressWarnings("AbbreviationAsWordInName")
+  public STObjectType nextSTObject() throws IOException {
+    return new BinaryParser(toArray(next())).readType(STObjectType.class);
+  }
+
+  /**
+   * Read the next object and decode it as a {@link Transaction} using {@link TransactionCodec}.
+   *
+   * @return The next object as a {@link Transaction}.
+   * @throws JsonProcessingException if the object is not a valid transaction.
+   * @throws IOException             if the object cannot be read.
+   */
+  public Transaction nextTransaction() throws IOException {
+    return TransactionCodec.getInstance().decode(nextBytes());
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+
+  /**
+   * Make sure that the {@code length} bytes starting at {@link #position} are inside {@link #window}, remapping the
+   * window to start at {@link #position} if they are not.
+   */
+  private void ensureMapped(final int length) throws IOException {
+    if (window != null && position >= windowStart && position + length <= windowStart + window.limit()) {
+      return;
+    }
+    long mapSize = Math.min(Math.max(windowSize, length), size - position);
+    window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapSize);
+    windowStart = position;
+  }
+
+  private static byte[] toArray(final ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,193 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Appends XRPL binary objects, such as transactions or transaction metadata, to a file. Each object is written as a
+ * 4-byte big-endian length followed by its canonical binary encoding, which is the format read by
+ * {@link BinaryObjectFileReader}.
+ *
+ * <p>Writes are buffered; call {@link #flush()} or {@link #close()} to make sure everything written so far has reached
+ * the file. Instances are not thread-safe.</p>
+ */
+public class BinaryObjectFileWriter implements Closeable, Flushable {
+
+  /**
+   * The number of bytes in the length prefix of each object.
+   */
+  public static final int LENGTH_PREFIX_BYTES = 4;
+
+  private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param channel    A {@link FileChannel} opened for writing. Objects are written at its current position.
+   * @param bufferSize The number of bytes to buffer before writing to {@code channel}.
+   */
+  public BinaryObjectFileWriter(final FileChannel channel, final int bufferSize) {
+    this.channel = Objects.requireNonNull(channel);
+    if (bufferSize < LENGTH_PREFIX_BYTES) {
+      throw new IllegalArgumentException("bufferSize must be at least " + LENGTH_PREFIX_BYTES);
+    }
+    this.buffer = ByteBuffer.allocate(bufferSize);
+  }
+
+  /**
+   * Open {@code path} for appending, creating it if it does not exist.
+   *
+   * @param path The {@link Path} of the file to append to.
+   *
+   * @return A {@link BinaryObjectFileWriter}.
+   * @throws IOException if the file cannot be opened.
+   */
+  public static BinaryObjectFileWriter open(final Path path) throws IOException {
+    Objects.requireNonNull(path);
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    channel.position(channel.size());
+    return new BinaryObjectFileWriter(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Append an encoded object.
+   *
+   * @param object An {@link UnsignedByteArray} containing the canonical binary encoding of an XRPL object.
+   *
+   * @return The offset in the file at which the object's length prefix was written.
+   * @throws IOException if the object cannot be written.
+   */
+  public long write(final UnsignedByteArray object) throws IOException {
+    Objects.requireNonNull(object);
+    long offset = position();
+    writeLength(object.length());
+    if (object.length() <= buffer.remaining()) {
+      object.writeTo(buffer);
+    } else {
+      drain();
+      ByteBuffer objectBuffer = ByteBuffer.allocate(object.length());
+      object.writeTo(objectBuffer);
+      objectBuffer.flip();
+      writeFully(objectBuffer);
+    }
+    return offset;
+  }
+
+  /**
+   * Append a range of a byte array as an encoded object.
+   *
+   * @param bytes  A byte array.
+   * @param offset The index of the first byte of the encoded object.
+   * @param length The number of bytes in the encoded object.
+   *
+   * @return The offset in the file at which the object's length prefix was written.
+   * @throws IOException if the object cannot be written.
+   */
+  public long write(final byte[] bytes, final int offset, final int length) throws IOException {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + " and length " + length + " out of bounds for array of length " + bytes.length
+      );
+    }
+    long fileOffset = position();
+    writeLength(length);
+    if (length <= buffer.remaining()) {
+      buffer.put(bytes, offset, length);
+    } else {
+      drain();
+      writeFully(ByteBuffer.wrap(bytes, offset, length));
+    }
+    return fileOffset;
+  }
+
+  /**
+   * Encode {@code transaction} with {@link TransactionCodec} and append it.
+   *
+   * @param transaction A {@link Transaction}.
+   *
+   * @return The offset in the file at which the transaction's length prefix was written.
+   * @throws IOException if the transaction cannot be written.
+   */
+  public long write(final Transaction transaction) throws IOException {
+    return write(TransactionCodec.getInstance().encode(Objects.requireNonNull(transaction)));
+  }
+
+  /**
+   * The offset in the file at which the next object will be written, including any bytes that are still buffered.
+   *
+   * @return A file offset.
+   * @throws IOException if the position of the underlying channel cannot be read.
+   */
+  public long position() throws IOException {
+    return channel.position() + buffer.position();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    drain();
+    channel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      drain();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void writeLength(final int length) throws IOException {
+    if (buffer.remaining() < LENGTH_PREFIX_BYTES) {
+      drain();
+    }
+    buffer.putInt(length);
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    writeFully(buffer);
+    buffer.clear();
+  }
+
+  private void writeFully(final ByteBuffer source) throws IOException {
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+}
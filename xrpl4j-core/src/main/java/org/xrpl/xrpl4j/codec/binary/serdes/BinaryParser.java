@@ -21,22 +21,30 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
  */
 
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.HexCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
+import org.xrpl.xrpl4j.codec.binary.types.Hash128Type;
+import org.xrpl.xrpl4j.codec.binary.types.Hash160Type;
+import org.xrpl.xrpl4j.codec.binary.types.Hash256Type;
+import org.xrpl.xrpl4j.codec.binary.types.HopType;
+import org.xrpl.xrpl4j.codec.binary.types.PathSetType;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values. The parser reads directly from a {@code byte[]} using an int cursor; hex input is
+ * decoded to bytes once, up front.
  */
 public class BinaryParser {
 
@@ -50,22 +58,107 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
 
-  private int cursor = 0;
+  private static final int NATIVE_AMOUNT_BYTE_LENGTH = 8;
+  private static final int CURRENCY_AMOUNT_BYTE_LENGTH = 48;
 
+  private final byte[] bytes;
+  private final int start;
+  private final int end;
+
+  private int cursor;
+
+  /**
+   * Construct a parser over hex-encoded binary. The hex is decoded to bytes once.
+   *
+   * @param hex A hex-encoded {@link String}.
+   */
   public BinaryParser(String hex) {
-    this.hex = hex;
+    this(HexCodec.decode(hex));
+  }
+
+  /**
+   * Construct a parser over the supplied bytes. The array is not copied, so it must not be modified while this parser
+   * is in use.
+   *
+   * @param bytes A byte array.
+   */
+  public BinaryParser(byte[] bytes) {
+    this(bytes, 0, Objects.requireNonNull(bytes).length);
+  }
+
+  /**
+   * Construct a parser over a range of the supplied bytes. The array is not copied, so it must not be modified while
+   * this parser is in use.
+   *
+   * @param bytes  A byte array.
+   * @param offset The index of the first byte to parse.
+   * @param length The number of bytes to parse.
+   */
+  public BinaryParser(byte[] bytes, int offset, int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + " and length " + length + " out of bounds for array of length " + bytes.length
+      );
+    }
+    this.bytes = bytes;
+    this.start = offset;
+    this.end = offset + length;
+    this.cursor = offset;
+  }
+
+  /**
+   * Construct a parser over the bytes of an {@link UnsignedByteArray}.
+   *
+   * @param bytes An {@link UnsignedByteArray}.
+   */
+  public BinaryParser(UnsignedByteArray bytes) {
+    this(Objects.requireNonNull(bytes).toByteArray());
+  }
+
+  /**
+   * Construct a parser over the remaining bytes of a {@link ByteBuffer}. Heap buffers are parsed in place; other
+   * buffers are copied. The position of {@code buffer} is not modified.
+   *
+   * @param buffer A {@link ByteBuffer}.
+   */
+  public BinaryParser(ByteBuffer buffer) {
+    this(toArray(buffer), arrayOffset(buffer), Objects.requireNonNull(buffer).remaining());
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return copy;
+  }
+
+  private static int arrayOffset(ByteBuffer buffer) {
+    return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0;
   }
 
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    return UnsignedByte.of(peekByte());
+  }
+
+  /**
+   * Get the next byte without advancing the cursor.
+   *
+   * @return The next byte.
+   */
+  public byte peekByte() {
+    if (cursor >= end) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
+    return bytes[cursor];
   }
 
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    cursor += bytesToSkip;
   }
 
   /**
@@ -76,39 +169,115 @@ public class BinaryParser {
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
-      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
-    }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
-    }
-    return new UnsignedByteArray(result);
+    checkAvailable(bytesToRead);
+    UnsignedByteArray result = UnsignedByteArray.of(bytes, cursor, bytesToRead);
+    cursor += bytesToRead;
+    return result;
+  }
+
+  /**
+   * Read {@code bytesToRead} bytes into {@code sink}, without any intermediate copy.
+   *
+   * @param bytesToRead An int representing the number of bytes to read.
+   * @param sink        An {@link UnsignedByteArray} to append the bytes to.
+   */
+  public void readInto(int bytesToRead, UnsignedByteArray sink) {
+    checkAvailable(bytesToRead);
+    sink.append(bytes, cursor, bytesToRead);
+    cursor += bytesToRead;
   }
 
   public UnsignedLong readUInt8() {
-    return readUInt(1);
+    return UnsignedLong.fromLongBits(readUInt8AsInt());
   }
 
   public UnsignedLong readUInt16() {
-    return readUInt(2);
+    return UnsignedLong.fromLongBits(readUInt16AsInt());
   }
 
   public UnsignedLong readUInt32() {
-    return readUInt(4);
+    return UnsignedLong.fromLongBits(readUInt32AsLong());
   }
 
   public UnsignedLong readUInt64() {
-    return readUInt(8);
+    return UnsignedLong.fromLongBits(readUInt64AsLong());
+  }
+
+  /**
+   * Read an unsigned 8-bit integer.
+   *
+   * @return The value, in the range 0 to 255.
+   */
+  public int readUInt8AsInt() {
+    checkAvailable(1);
+    return bytes[cursor++] & 0xFF;
+  }
+
+  /**
+   * Read a big-endian unsigned 16-bit integer.
+   *
+   * @return The value, in the range 0 to 65535.
+   */
+  public int readUInt16AsInt() {
+    checkAvailable(2);
+    int value = ((bytes[cursor] & 0xFF) << 8) | (bytes[cursor + 1] & 0xFF);
+    cursor += 2;
+    return value;
+  }
+
+  /**
+   * Read a big-endian unsigned 32-bit integer.
+   *
+   * @return The value, in the range 0 to 4294967295.
+   */
+  public long readUInt32AsLong() {
+    checkAvailable(4);
+    long value = ((bytes[cursor] & 0xFFL) << 24) |
+      ((bytes[cursor + 1] & 0xFFL) << 16) |
+      ((bytes[cursor + 2] & 0xFFL) << 8) |
+      (bytes[cursor + 3] & 0xFFL);
+    cursor += 4;
+    return value;
+  }
+
+  /**
+   * Read a big-endian unsigned 64-bit integer. Values greater than {@link Long#MAX_VALUE} are returned as their two's
+   * complement bit pattern; use {@link UnsignedLong#fromLongBits(long)} or {@link Long#toUnsignedString(long)} to
+   * interpret them.
+   *
+   * @return The raw 64 bits of the value.
+   */
+  public long readUInt64AsLong() {
+    checkAvailable(8);
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[cursor + i] & 0xFFL);
+    }
+    cursor += 8;
+    return value;
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return end - start;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < end;
+  }
+
+  /**
+   * The index, in the array this parser reads from, of the next byte to be read.
+   *
+   * @return An int representing the current position of this parser.
+   */
+  public int position() {
+    return cursor;
+  }
+
+  private void checkAvailable(int count) {
+    if (cursor >= end || cursor + count > end) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
   }
 
   /**
@@ -117,15 +286,15 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    int firstByte = this.readUInt8AsInt();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = this.readUInt8AsInt();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = this.readUInt8AsInt();
+      int b3 = this.readUInt8AsInt();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -139,36 +308,44 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
+    int ordinal = readFieldOrdinal();
+    return FieldHeader.builder().fieldCode(ordinal & 0xFFFF).typeCode(ordinal >>> 16).build();
+  }
+
+  /**
+   * Read the field from the BinaryParser. The header is decoded into its type and field codes and resolved through
+   * {@link DefinitionsService#getFieldInstance(int, int)}, so no intermediate {@link FieldHeader} is built.
+   *
+   * @return The field represented by the bytes at the head of the BinaryParser.
+   */
+  public Optional<FieldInstance> readField() {
+    int ordinal = readFieldOrdinal();
+    return DefinitionsService.getInstance().getFieldInstance(ordinal >>> 16, ordinal & 0xFFFF);
+  }
+
+  /**
+   * Read a 1 to 3 byte field header, returning its type code in the high 16 bits and its field code in the low 16.
+   */
+  private int readFieldOrdinal() {
+    int type = this.readUInt8AsInt();
     int nth = type & 15;
     type >>= 4;
 
     if (type == 0) {
-      type = this.readUInt8().intValue();
+      type = this.readUInt8AsInt();
       if (type == 0 || type < 16) {
         throw new Error("Cannot read FieldOrdinal, type_code out of range");
       }
     }
 
     if (nth == 0) {
-      nth = this.readUInt8().intValue();
+      nth = this.readUInt8AsInt();
       if (nth == 0 || nth < 16) {
         throw new Error("Cannot read FieldOrdinal, field_code out of range");
       }
     }
 
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
-  }
-
-  /**
-   * Read the field from the BinaryParser.
-   *
-   * @return The field represented by the bytes at the head of the BinaryParser.
-   */
-  public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    return (type << 16) | nth;
   }
 
   /**
@@ -195,7 +372,8 @@ public class BinaryParser {
    * @return The type associated with the given field.
    */
   public SerializedType typeForField(FieldInstance field) {
-    return SerializedType.getTypeByName(field.type());
+    Supplier<SerializedType<?>> factory = SerializedType.getTypeFactory(field.header().typeCode());
+    return factory == null ? null : factory.get();
   }
 
   /**
@@ -210,7 +388,7 @@ public class BinaryParser {
 
     SerializedType type = this.typeForField(field);
     if (type == null) {
-      throw new IllegalArgumentException("unsupported type " + type);
+      throw new IllegalArgumentException("unsupported type " + field.type());
     }
 
     try {
@@ -225,6 +403,99 @@ public class BinaryParser {
     }
   }
 
+  /**
+   * Advance past the value of {@code field} without decoding it. Fixed-width values are skipped by their width,
+   * variable-length values by their length prefix, and nested objects, arrays and path sets are walked header by
+   * header, including their end markers. Nothing is allocated.
+   *
+   * @param field The field whose value is at the head of the BinaryParser.
+   */
+  public void skipFieldValue(final FieldInstance field) {
+    Objects.requireNonNull(field);
+    if (field.isVariableLengthEncoded()) {
+      skipChecked(this.readVariableLengthLength());
+      return;
+    }
+    switch (field.type()) {
+      case "UInt8":
+        skipChecked(1);
+        return;
+      case "UInt16":
+        skipChecked(2);
+        return;
+      case "UInt32":
+        skipChecked(4);
+        return;
+      case "UInt64":
+        skipChecked(8);
+        return;
+      case "Hash128":
+        skipChecked(Hash128Type.WIDTH);
+        return;
+      case "Hash160":
+      case "Currency":
+        skipChecked(Hash160Type.WIDTH);
+        return;
+      case "Hash256":
+        skipChecked(Hash256Type.WIDTH);
+        return;
+      case "Amount":
+        boolean isXrp = (peekByte() & 0x80) == 0;
+        skipChecked(isXrp ? NATIVE_AMOUNT_BYTE_LENGTH : CURRENCY_AMOUNT_BYTE_LENGTH);
+        return;
+      case "STObject":
+        skipUntilEndMarker(STObjectType.OBJECT_END_MARKER_BYTE);
+        return;
+      case "STArray":
+        skipUntilEndMarker(STArrayType.ARRAY_END_MARKER_BYTE);
+        return;
+      case "PathSet":
+        skipPathSet();
+        return;
+      default:
+        throw new IllegalArgumentException("unsupported type " + field.type());
+    }
+  }
+
+  private void skipChecked(int count) {
+    if (count > 0) {
+      checkAvailable(count);
+      cursor += count;
+    }
+  }
+
+  private void skipUntilEndMarker(byte endMarker) {
+    while (hasMore()) {
+      if (peekByte() == endMarker) {
+        cursor++;
+        return;
+      }
+      FieldInstance field = readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      skipFieldValue(field);
+    }
+  }
+
+  private void skipPathSet() {
+    while (hasMore()) {
+      int type = readUInt8AsInt();
+      if (type == (PathSetType.PATHSET_END_BYTE & 0xFF)) {
+        return;
+      }
+      if (type == (PathSetType.PATH_SEPARATOR_BYTE & 0xFF)) {
+        continue;
+      }
+      if ((type & HopType.TYPE_ACCOUNT) > 0) {
+        skipChecked(Hash160Type.WIDTH);
+      }
+      if ((type & HopType.TYPE_CURRENCY) > 0) {
+        skipChecked(Hash160Type.WIDTH);
+      }
+      if ((type & HopType.TYPE_ISSUER) > 0) {
+        skipChecked(Hash160Type.WIDTH);
+      }
+    }
+  }
+
   /**
    * Get the next field and value from the BinaryParser.
    *
@@ -239,8 +510,4 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
-  }
-
 }
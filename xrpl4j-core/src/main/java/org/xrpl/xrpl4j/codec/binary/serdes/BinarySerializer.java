@@ -22,9 +22,7 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
@@ -50,31 +48,49 @@ public class BinarySerializer {
     sink.append(UnsignedByteArray.fromHex(hexBytes));
   }
 
+  /**
+   * Write a single raw byte to the sink.
+   *
+   * @param value The byte to write.
+   */
+  public void put(final byte value) {
+    sink.append(value);
+  }
+
   public void write(final UnsignedByteArray list) {
     this.sink.append(list);
   }
 
   /**
-   * Calculate the header of Variable Length encoded bytes.
+   * Write the header of Variable Length encoded bytes directly to the sink.
    *
    * @param length the length of the bytes.
    */
-  private UnsignedByteArray encodeVariableLength(int length) {
+  private void writeVariableLength(int length) {
     if (length <= 192) {
-      return UnsignedByteArray.of(UnsignedByte.of(length));
+      sink.append((byte) length);
     } else if (length <= 12480) {
       length -= 193;
-      int byte1 = 193 + (length >>> 8);
-      int byte2 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2));
+      sink.append((byte) (193 + (length >>> 8)));
+      sink.append((byte) (length & 0xff));
     } else if (length <= 918744) {
       length -= 12481;
-      int byte1 = 241 + (length >>> 16);
-      int byte2 = (length >> 8) & 0xff;
-      int byte3 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2), UnsignedByte.of(byte3));
+      sink.append((byte) (241 + (length >>> 16)));
+      sink.append((byte) ((length >> 8) & 0xff));
+      sink.append((byte) (length & 0xff));
+    } else {
+      throw new Error("Overflow error");
     }
-    throw new Error("Overflow error");
+  }
+
+  /**
+   * Write only the header of the given field to the sink.
+   *
+   * @param field A {@link FieldInstance} whose header should be written.
+   */
+  public void writeFieldHeader(final FieldInstance field) {
+    Objects.requireNonNull(field);
+    field.encodedHeader().writeTo(this.sink);
   }
 
   /**
@@ -86,8 +102,7 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final SerializedType value) {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    String fieldHeaderHex = FieldHeaderCodec.getInstance().encode(field.name());
-    this.sink.append(UnsignedByteArray.fromHex(fieldHeaderHex));
+    writeFieldHeader(field);
 
     if (field.isVariableLengthEncoded()) {
       this.writeLengthEncoded(value);
@@ -125,7 +140,7 @@ public class BinarySerializer {
     Objects.requireNonNull(value);
     UnsignedByteArray bytes = UnsignedByteArray.empty();
     value.toBytesSink(bytes);
-    this.put(this.encodeVariableLength(bytes.length()).hexValue());
+    this.writeVariableLength(bytes.length());
     this.write(bytes);
   }
 
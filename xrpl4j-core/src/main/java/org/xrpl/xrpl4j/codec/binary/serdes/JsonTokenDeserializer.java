@@ -0,0 +1,130 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Deserializes XRPL binary into a stream of Jackson tokens written to a {@link JsonGenerator}, which is the inverse of
+ * {@link JsonTokenSerializer}.
+ *
+ * <p>Fields are read from a {@link BinaryParser} and written to the generator in the order they are encoded. Nested
+ * STObject and STArray values are written recursively straight from the parser, so no intermediate {@link JsonNode}
+ * tree or JSON text is built. Writing into a {@link com.fasterxml.jackson.databind.util.TokenBuffer} and binding its
+ * parser with an {@link ObjectMapper} therefore decodes binary into model objects in a single pass. Only leaf values
+ * (for example, an Amount) are materialized, by their {@link org.xrpl.xrpl4j.codec.binary.types.SerializedType}, and
+ * they produce the same JSON as {@link STObjectType#toJson()}.</p>
+ */
+public class JsonTokenDeserializer {
+
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final String ARRAY_END_MARKER = "ArrayEndMarker";
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+  private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  /**
+   * Write the STObject at the head of {@code parser} to {@code generator} as a JSON object. Fields are read until
+   * {@code parser} has no more bytes or an object end marker is read.
+   *
+   * @param parser    A {@link BinaryParser} positioned at the first field of an STObject.
+   * @param generator The {@link JsonGenerator} to write to. It does not need an
+   *                  {@link com.fasterxml.jackson.core.ObjectCodec}.
+   *
+   * @throws IOException if {@code generator} cannot be written to.
+   */
+  public void writeObject(final BinaryParser parser, final JsonGenerator generator) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(generator);
+    generator.writeStartObject();
+    writeObjectFields(parser, generator);
+    generator.writeEndObject();
+  }
+
+  private void writeObjectFields(final BinaryParser parser, final JsonGenerator generator) throws IOException {
+    while (parser.hasMore()) {
+      final FieldInstance field = parser.readField()
+        .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+      generator.writeFieldName(field.name());
+      if (field.type().equals(ST_OBJECT)) {
+        writeObject(parser, generator);
+      } else if (field.type().equals(ST_ARRAY)) {
+        writeArrayElements(parser, generator);
+      } else {
+        writeLeaf(field, parser, generator);
+      }
+    }
+  }
+
+  /**
+   * Writes the elements of an STArray, each of which is a single-field object wrapping an STObject, until the array
+   * end marker is read.
+   */
+  private void writeArrayElements(final BinaryParser parser, final JsonGenerator generator) throws IOException {
+    generator.writeStartArray();
+    while (parser.hasMore()) {
+      final FieldInstance field = parser.readField()
+        .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(ARRAY_END_MARKER)) {
+        break;
+      }
+      generator.writeStartObject();
+      generator.writeFieldName(field.name());
+      writeObject(parser, generator);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeLeaf(
+    final FieldInstance field,
+    final BinaryParser parser,
+    final JsonGenerator generator
+  ) throws IOException {
+    final JsonNode value = parser.readFieldValue(field).toJson();
+    final Optional<String> specialization = definitionsService.mapFieldRawValueToSpecialization(
+      field.name(), value.asText()
+    );
+    if (specialization.isPresent()) {
+      generator.writeString(specialization.get());
+    } else if (value.isTextual()) {
+      generator.writeString(value.textValue());
+    } else {
+      objectMapper.writeTree(generator, value);
+    }
+  }
+
+}
@@ -0,0 +1,363 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Serializes a JSON object to XRPL binary format in canonical field order, either from a stream of Jackson
+ * {@link JsonToken}s or from an already-built {@link JsonNode} tree.
+ *
+ * <p>Each object's fields are serialized into a single scratch buffer as they are encountered, together with the
+ * position of each field in that buffer. Once the object has been read, the fields are copied to the sink in canonical
+ * order. Nested STObject and STArray values are serialized recursively in the same way, so they never pass through an
+ * intermediate JSON tree or hex {@link String}. Only leaf values (for example, an Amount) are materialized as
+ * {@link JsonNode}s so that they can be handed to the matching
+ * {@link org.xrpl.xrpl4j.codec.binary.types.SerializedType}.</p>
+ *
+ * <p>This is also the implementation behind {@link STObjectType#fromJson(JsonNode)}.</p>
+ */
+public class JsonTokenSerializer {
+
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final String TRANSACTION_TYPE = "TransactionType";
+  private static final String UNL_MODIFY = "UNLModify";
+  private static final String ACCOUNT = "Account";
+  private static final String SIGNERS = "Signers";
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+  private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  /**
+   * Serialize the JSON object that {@code parser} is positioned at (or whose {@link JsonToken#START_OBJECT} is the
+   * next token) into {@code sink}.
+   *
+   * @param parser      A {@link JsonParser} over the JSON object to serialize. It does not need an
+   *                    {@link com.fasterxml.jackson.core.ObjectCodec}.
+   * @param sink        The {@link UnsignedByteArray} to write to.
+   * @param fieldFilter A {@link Predicate} deciding which of the top-level fields are serialized. Nested fields are
+   *                    always serialized.
+   *
+   * @throws IOException if the JSON cannot be read.
+   */
+  public void writeObject(
+    final JsonParser parser,
+    final UnsignedByteArray sink,
+    final Predicate<FieldInstance> fieldFilter
+  ) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(sink);
+    Objects.requireNonNull(fieldFilter);
+    JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+    if (token != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("JSON object required");
+    }
+    writeObjectFields(parser, sink, fieldFilter);
+  }
+
+  /**
+   * Serialize the given JSON object into {@code sink}.
+   *
+   * @param node        A {@link JsonNode} containing the JSON object to serialize.
+   * @param sink        The {@link UnsignedByteArray} to write to.
+   * @param fieldFilter A {@link Predicate} deciding which of the top-level fields are serialized. Nested fields are
+   *                    always serialized.
+   */
+  public void writeObject(
+    final JsonNode node,
+    final UnsignedByteArray sink,
+    final Predicate<FieldInstance> fieldFilter
+  ) {
+    Objects.requireNonNull(node);
+    Objects.requireNonNull(sink);
+    Objects.requireNonNull(fieldFilter);
+    writeObjectFields(node, sink, fieldFilter);
+  }
+
+  /**
+   * Reads the fields of an object from {@code parser}, which must be positioned at the object's
+   * {@link JsonToken#START_OBJECT}. On return, {@code parser} is positioned at the matching
+   * {@link JsonToken#END_OBJECT}.
+   */
+  private void writeObjectFields(
+    final JsonParser parser,
+    final UnsignedByteArray sink,
+    final Predicate<FieldInstance> fieldFilter
+  ) throws IOException {
+    final ObjectFields fields = new ObjectFields();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken valueToken = parser.nextToken();
+      if (fieldName.equals(TRANSACTION_TYPE)) {
+        fields.isUnlModify = UNL_MODIFY.equals(parser.getValueAsString());
+      }
+
+      Optional<FieldInstance> field = serializedField(fieldName, fieldFilter);
+      if (!field.isPresent()) {
+        parser.skipChildren();
+        continue;
+      }
+
+      int start = fields.scratch.length();
+      if (field.get().type().equals(ST_OBJECT) && valueToken == JsonToken.START_OBJECT) {
+        new BinarySerializer(fields.scratch).writeFieldHeader(field.get());
+        writeObjectFields(parser, fields.scratch, all -> true);
+        fields.scratch.append(STObjectType.OBJECT_END_MARKER_BYTE);
+      } else if (field.get().type().equals(ST_ARRAY) && valueToken == JsonToken.START_ARRAY) {
+        new BinarySerializer(fields.scratch).writeFieldHeader(field.get());
+        writeArrayElements(parser, field.get(), fields.scratch);
+      } else {
+        writeLeaf(field.get(), objectMapper.readTree(parser), fields.scratch);
+      }
+      fields.add(field.get(), start);
+    }
+    fields.writeTo(sink);
+  }
+
+  private void writeObjectFields(
+    final JsonNode node,
+    final UnsignedByteArray sink,
+    final Predicate<FieldInstance> fieldFilter
+  ) {
+    final ObjectFields fields = new ObjectFields();
+    final Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, JsonNode> entry = iterator.next();
+      final String fieldName = entry.getKey();
+      final JsonNode value = entry.getValue();
+      if (fieldName.equals(TRANSACTION_TYPE)) {
+        fields.isUnlModify = UNL_MODIFY.equals(value.asText());
+      }
+
+      Optional<FieldInstance> field = serializedField(fieldName, fieldFilter);
+      if (!field.isPresent()) {
+        continue;
+      }
+
+      int start = fields.scratch.length();
+      if (field.get().type().equals(ST_OBJECT) && value.isObject()) {
+        new BinarySerializer(fields.scratch).writeFieldHeader(field.get());
+        writeObjectFields(value, fields.scratch, all -> true);
+        fields.scratch.append(STObjectType.OBJECT_END_MARKER_BYTE);
+      } else if (field.get().type().equals(ST_ARRAY) && value.isArray()) {
+        new BinarySerializer(fields.scratch).writeFieldHeader(field.get());
+        final ArrayElements elements = new ArrayElements(field.get());
+        for (JsonNode element : value) {
+          int elementStart = elements.scratch.length();
+          if (element.isObject()) {
+            writeObjectFields(element, elements.scratch, all -> true);
+          }
+          elements.add(elementStart);
+        }
+        elements.writeTo(fields.scratch);
+      } else {
+        writeLeaf(field.get(), value, fields.scratch);
+      }
+      fields.add(field.get(), start);
+    }
+    fields.writeTo(sink);
+  }
+
+  /**
+   * Reads the elements of an STArray from {@code parser}, which must be positioned at the array's
+   * {@link JsonToken#START_ARRAY}. On return, {@code parser} is positioned at the matching {@link JsonToken#END_ARRAY}.
+   */
+  private void writeArrayElements(
+    final JsonParser parser,
+    final FieldInstance field,
+    final UnsignedByteArray sink
+  ) throws IOException {
+    final ArrayElements elements = new ArrayElements(field);
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      int start = elements.scratch.length();
+      if (parser.currentToken() == JsonToken.START_OBJECT) {
+        writeObjectFields(parser, elements.scratch, all -> true);
+      } else {
+        parser.skipChildren();
+      }
+      elements.add(start);
+    }
+    elements.writeTo(sink);
+  }
+
+  private Optional<FieldInstance> serializedField(
+    final String fieldName,
+    final Predicate<FieldInstance> fieldFilter
+  ) {
+    return definitionsService.getFieldInstance(fieldName)
+      .filter(FieldInstance::isSerialized)
+      .filter(fieldFilter);
+  }
+
+  private void writeLeaf(final FieldInstance field, final JsonNode value, final UnsignedByteArray sink) {
+    try {
+      new BinarySerializer(sink).writeFieldAndValue(field, mapSpecializedValues(field.name(), value));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("invalid json", e);
+    }
+    if (field.type().equals(ST_OBJECT)) {
+      sink.append(STObjectType.OBJECT_END_MARKER_BYTE);
+    }
+  }
+
+  /**
+   * Maps (if necessary) a JSON value to its canonical value. Some fields (e.g. TransactionType) can be specified in
+   * JSON as an ordinal value or an enum (e.g. OfferCreate); enum values need to be converted to the ordinal value.
+   */
+  private JsonNode mapSpecializedValues(final String fieldName, final JsonNode fieldNode) {
+    return definitionsService.mapFieldSpecialization(fieldName, fieldNode.asText())
+      .map(value -> new TextNode("" + value))
+      .map(JsonNode.class::cast)
+      .orElse(fieldNode);
+  }
+
+  /**
+   * The serialized fields of a single object, held in one scratch buffer until the whole object has been read.
+   */
+  private static class ObjectFields {
+
+    private final UnsignedByteArray scratch = UnsignedByteArray.empty();
+    private final List<SerializedField> fields = new ArrayList<>();
+    private boolean isUnlModify;
+
+    void add(final FieldInstance field, final int start) {
+      // As with a JsonNode tree, the last of any duplicate fields wins.
+      fields.removeIf(existing -> existing.field.name().equals(field.name()));
+      fields.add(new SerializedField(field, start, scratch.length() - start));
+    }
+
+    void writeTo(final UnsignedByteArray sink) {
+      // The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
+      if (isUnlModify) {
+        fields.removeIf(serializedField -> serializedField.field.name().equals(ACCOUNT));
+      }
+      Collections.sort(fields);
+      for (SerializedField serializedField : fields) {
+        sink.append(scratch, serializedField.start, serializedField.length);
+      }
+    }
+  }
+
+  /**
+   * The serialized elements of a single STArray, held in one scratch buffer until the whole array has been read.
+   */
+  private static class ArrayElements {
+
+    private final UnsignedByteArray scratch = UnsignedByteArray.empty();
+    private final List<SerializedElement> elements = new ArrayList<>();
+    private final boolean sortBySignerAccount;
+
+    ArrayElements(final FieldInstance field) {
+      // rippled expects signers canonically based on address
+      this.sortBySignerAccount = field.name().equals(SIGNERS);
+    }
+
+    void add(final int start) {
+      elements.add(new SerializedElement(start, scratch.length() - start));
+    }
+
+    void writeTo(final UnsignedByteArray sink) {
+      if (sortBySignerAccount) {
+        byte[] bytes = scratch.toByteArray();
+        elements.forEach(element -> element.sortKey = signerAccountHex(bytes, element.start, element.length));
+        Collections.sort(elements);
+      }
+      for (SerializedElement element : elements) {
+        sink.append(scratch, element.start, element.length);
+      }
+      sink.append(STArrayType.ARRAY_END_MARKER_BYTE);
+    }
+
+    /**
+     * Finds the Account field of the Signer object serialized at the given range of {@code bytes}. AccountIDs are
+     * fixed width, so ordering their hex values orders them numerically.
+     */
+    private String signerAccountHex(final byte[] bytes, final int start, final int length) {
+      BinaryParser parser = new BinaryParser(bytes, start, length);
+      parser.readField();
+      while (parser.hasMore()) {
+        FieldInstance field = parser.readField()
+          .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+        if (field.name().equals(ACCOUNT)) {
+          return parser.readFieldValue(field).toHex();
+        }
+        parser.readFieldValue(field);
+      }
+      throw new IllegalArgumentException("Signer must have an Account");
+    }
+  }
+
+  private static class SerializedField implements Comparable<SerializedField> {
+
+    private final FieldInstance field;
+    private final int start;
+    private final int length;
+
+    SerializedField(final FieldInstance field, final int start, final int length) {
+      this.field = field;
+      this.start = start;
+      this.length = length;
+    }
+
+    @Override
+    public int compareTo(SerializedField other) {
+      return this.field.compareTo(other.field);
+    }
+  }
+
+  private static class SerializedElement implements Comparable<SerializedElement> {
+
+    private final int start;
+    private final int length;
+    private String sortKey = "";
+
+    SerializedElement(final int start, final int length) {
+      this.start = start;
+      this.length = length;
+    }
+
+    @Override
+    public int compareTo(SerializedElement other) {
+      return this.sortKey.compareTo(other.sortKey);
+    }
+  }
+}
@@ -32,7 +32,7 @@ import org.xrpl.xrpl4j.model.transactions.Address;
  */
 public class AccountIdType extends Hash160Type {
 
-  private static final AddressCodec addressCodec = new AddressCodec();
+  private static final AddressCodec addressCodec = AddressCodec.getInstance();
 
   public AccountIdType() {
     this(UnsignedByteArray.ofSize(20));
@@ -53,11 +53,27 @@ public class AccountIdType extends Hash160Type {
     if (textValue.isEmpty()) {
       return new AccountIdType();
     }
-    return HEX_REGEX.matcher(textValue).matches() ?
+    return isAccountIdHex(textValue) ?
       new AccountIdType(UnsignedByteArray.fromHex(textValue))
       : new AccountIdType(addressCodec.decodeAccountId(Address.of(textValue)));
   }
 
+  /**
+   * Equivalent to matching {@link #HEX_REGEX}, without the cost of a regex match on every AccountID field.
+   */
+  private static boolean isAccountIdHex(String value) {
+    if (value.length() != 40) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      if (!((ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9'))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public JsonNode toJson() {
     return new TextNode(addressCodec.encodeAccountId(value()).value());
@@ -23,6 +23,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
@@ -48,6 +49,17 @@ class AmountType extends SerializedType<AmountType> {
   public static final int CURRENCY_AMOUNT_BYTE_LENGTH = 48;
   private static final int MAX_IOU_PRECISION = 16;
 
+  private static final long NOT_XRP_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final long MANTISSA_MASK = 0x003FFFFFFFFFFFFFL;
+  private static final long ZERO_CURRENCY_AMOUNT_BITS = NOT_XRP_BIT;
+  private static final long IOU_NOT_ENCODED = 0;
+  private static final long[] POWERS_OF_TEN = {
+    1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+    10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+    1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+  };
+
   /**
    * According to <a href=https://xrpl.org/currency-formats.html#currency-formats>xrpl.org</a>,
    * the minimum token value exponent is -96. However, because the value field is converted from a {@link String}
@@ -93,45 +105,9 @@ class AmountType extends SerializedType<AmountType> {
     }
   }
 
-  /**
-   * Validate IOU.value amount
-   *
-   * @param decimal Decimal.js object representing IOU.value
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void assertIouIsValid(BigDecimal decimal) {
-    if (!decimal.equals(BigDecimal.ZERO)) {
-      int precision = decimal.precision();
-      int exponent = MathUtils.getExponent(decimal);
-      if (precision > MAX_IOU_PRECISION ||
-        exponent > MAX_IOU_EXPONENT ||
-        exponent < MIN_IOU_EXPONENT
-      ) {
-        throw new Error("Decimal precision out of range");
-      }
-      verifyNoDecimal(decimal);
-    }
-  }
-
-  /**
-   * Ensure that the value after being multiplied by the exponent does not contain a decimal.
-   *
-   * @param decimal a Decimal object
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void verifyNoDecimal(BigDecimal decimal) {
-    BigDecimal exponent = new BigDecimal("1e" + -(MathUtils.getExponent(decimal) - 15));
-    String integerNumberString = decimal.multiply(exponent).toPlainString();
-    if (integerNumberString.indexOf(".") > 0) {
-      throw new Error("Decimal place found in integerNumberString");
-    }
-  }
-
   @Override
   public AmountType fromParser(BinaryParser parser) {
-    boolean isXrp = !parser.peek().isNthBitSet(1);
+    boolean isXrp = (parser.peekByte() & 0x80) == 0;
     int numBytes = isXrp ? NATIVE_AMOUNT_BYTE_LENGTH : CURRENCY_AMOUNT_BYTE_LENGTH;
     return new AmountType(parser.read(numBytes));
   }
@@ -147,11 +123,7 @@ class AmountType extends SerializedType<AmountType> {
     }
 
     Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
-
-    UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
-      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
-      getAmountBytes(number);
+    UnsignedByteArray result = getAmountBytes(amount.value());
 
     UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
     UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
@@ -162,6 +134,30 @@ class AmountType extends SerializedType<AmountType> {
     return new AmountType(result);
   }
 
+  /**
+   * Encode the value of an issued currency amount into its 8 byte form. Plain decimal values with at most 18
+   * significant digits, which covers every canonical amount, are normalized with {@code long} arithmetic; anything
+   * else goes through {@link BigDecimal}, which also produces the error for values that cannot be represented.
+   *
+   * @param value The {@code value} of an issued currency amount.
+   *
+   * @return An {@link UnsignedByteArray} holding the 8 byte mantissa, sign and exponent.
+   */
+  private UnsignedByteArray getAmountBytes(String value) {
+    long encoded = encodeIouValue(value);
+    if (encoded != IOU_NOT_ENCODED) {
+      UnsignedByteArray result = UnsignedByteArray.empty();
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        result.append((byte) (encoded >>> shift));
+      }
+      return result;
+    }
+    BigDecimal number = new BigDecimal(value);
+    return number.unscaledValue().equals(BigInteger.ZERO) ?
+      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
+      getAmountBytes(number);
+  }
+
   private UnsignedByteArray getAmountBytes(BigDecimal number) {
     BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
     byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
@@ -181,66 +177,186 @@ class AmountType extends SerializedType<AmountType> {
     return UnsignedByteArray.of(amountBytes);
   }
 
-  @Override
-  public JsonNode toJson() {
-    if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
-      }
-      return new TextNode(value.toString());
-    } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
-      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
-      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
-
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
-
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
-
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
+  /**
+   * Normalize a decimal string to a 54-bit mantissa in [10^15, 10^16) and an exponent, and pack them with the
+   * not-XRP and sign bits into the first 8 bytes of an issued currency amount.
+   *
+   * @param value A decimal {@link String}, optionally signed and optionally in scientific notation.
+   *
+   * @return The packed bits, or {@link #IOU_NOT_ENCODED} if {@code value} is not a plain decimal with at most 18
+   *   significant digits, or has more than 16 significant digits once trailing zeros are removed.
+   */
+  private static long encodeIouValue(String value) {
+    int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+      negative = value.charAt(index) == '-';
+      index++;
+    }
 
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
+    long unscaled = 0;
+    int significantDigits = 0;
+    int scale = 0;
+    boolean seenDigit = false;
+    boolean seenPoint = false;
+    for (; index < length; index++) {
+      char ch = value.charAt(index);
+      if (ch >= '0' && ch <= '9') {
+        seenDigit = true;
+        if (seenPoint) {
+          scale++;
+        }
+        if (significantDigits == 0 && ch == '0') {
+          continue;
+        }
+        if (++significantDigits > 18) {
+          return IOU_NOT_ENCODED;
+        }
+        unscaled = unscaled * 10 + (ch - '0');
+      } else if (ch == '.' && !seenPoint) {
+        seenPoint = true;
+      } else {
+        break;
+      }
+    }
+    if (!seenDigit) {
+      return IOU_NOT_ENCODED;
+    }
 
-      assertIouIsValid(value);
+    if (index < length) {
+      char ch = value.charAt(index++);
+      if (ch != 'e' && ch != 'E') {
+        return IOU_NOT_ENCODED;
+      }
+      boolean negativeExponent = false;
+      if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+        negativeExponent = value.charAt(index) == '-';
+        index++;
+      }
+      int exponentDigits = 0;
+      int exponent = 0;
+      for (; index < length; index++) {
+        ch = value.charAt(index);
+        if (ch < '0' || ch > '9' || ++exponentDigits > 4) {
+          return IOU_NOT_ENCODED;
+        }
+        exponent = exponent * 10 + (ch - '0');
+      }
+      if (exponentDigits == 0) {
+        return IOU_NOT_ENCODED;
+      }
+      scale += negativeExponent ? exponent : -exponent;
+    }
 
-      Amount amount = Amount.builder()
-        .currency(currency.toJson().asText())
-        .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
-        .build();
+    if (unscaled == 0) {
+      return ZERO_CURRENCY_AMOUNT_BITS;
+    }
+    while (unscaled % 10 == 0) {
+      unscaled /= 10;
+      scale--;
+    }
+    int digits = digitCount(unscaled);
+    if (digits > MAX_IOU_PRECISION) {
+      return IOU_NOT_ENCODED;
+    }
 
-      return objectMapper.valueToTree(amount);
+    int exponent = digits - 1 - scale;
+    if (exponent > MAX_IOU_EXPONENT || exponent < MIN_IOU_EXPONENT) {
+      throw new IllegalArgumentException("exponent out of range");
     }
+    long mantissa = unscaled * POWERS_OF_TEN[MAX_IOU_PRECISION - digits];
+    long bits = mantissa | NOT_XRP_BIT | ((long) (97 + exponent - 15) << 54);
+    return negative ? bits : bits | POSITIVE_BIT;
   }
 
   /**
-   * Returns true if this amount is a "native" XRP amount.
+   * Decode the first 8 bytes of an issued currency amount to the plain decimal string that
+   * {@code BigDecimal.stripTrailingZeros().toPlainString()} would produce for it.
    *
-   * @return {@code true} if this AmountType is native; {@code false} otherwise.
+   * @param bits The first 8 bytes of an issued currency amount.
+   *
+   * @return A decimal {@link String}.
    */
-  private boolean isNative() {
-    // 1st bit in 1st byte is set to 0 for native XRP
-    return (toBytes()[0] & 0x80) == 0;
+  private static String decodeIouValue(long bits) {
+    long mantissa = bits & MANTISSA_MASK;
+    if (mantissa == 0) {
+      return "0";
+    }
+    int exponent = (int) ((bits >>> 54) & 0xFF) - 97;
+    while (mantissa % 10 == 0) {
+      mantissa /= 10;
+      exponent++;
+    }
+    int digits = digitCount(mantissa);
+    int normalizedExponent = digits + exponent - 1;
+    if (digits > MAX_IOU_PRECISION ||
+      normalizedExponent > MAX_IOU_EXPONENT ||
+      normalizedExponent < MIN_IOU_EXPONENT
+    ) {
+      throw new Error("Decimal precision out of range");
+    }
+
+    String mantissaDigits = Long.toString(mantissa);
+    StringBuilder builder = new StringBuilder(digits + Math.abs(exponent) + 3);
+    if ((bits & POSITIVE_BIT) == 0) {
+      builder.append('-');
+    }
+    if (exponent >= 0) {
+      builder.append(mantissaDigits);
+      for (int i = 0; i < exponent; i++) {
+        builder.append('0');
+      }
+    } else {
+      int integerDigits = digits + exponent;
+      if (integerDigits > 0) {
+        builder.append(mantissaDigits, 0, integerDigits).append('.').append(mantissaDigits, integerDigits, digits);
+      } else {
+        builder.append("0.");
+        for (int i = 0; i < -integerDigits; i++) {
+          builder.append('0');
+        }
+        builder.append(mantissaDigits);
+      }
+    }
+    return builder.toString();
   }
 
-  /**
-   * Determines if this AmountType is positive.
-   *
-   * @return {@code true} if this AmountType is positive; {@code false} otherwise.
-   */
-  private boolean isPositive() {
-    // 2nd bit in 1st byte is set to 1 for positive amounts
-    return (toBytes()[0] & 0x40) > 0;
+  private static int digitCount(long value) {
+    int digits = 1;
+    while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+      digits++;
+    }
+    return digits;
+  }
+
+  @Override
+  public JsonNode toJson() {
+    long bits = firstEightBytes();
+    if ((bits & NOT_XRP_BIT) == 0) {
+      long drops = bits & ~(NOT_XRP_BIT | POSITIVE_BIT);
+      return new TextNode(Long.toString((bits & POSITIVE_BIT) != 0 ? drops : -drops));
+    } else {
+      BinaryParser parser = new BinaryParser(this.value());
+      parser.skip(8);
+      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
+      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
+
+      ObjectNode amount = objectMapper.createObjectNode();
+      amount.put("currency", currency.toJson().asText());
+      amount.put("value", decodeIouValue(bits));
+      amount.put("issuer", issuer.toJson().asText());
+      return amount;
+    }
+  }
+
+  private long firstEightBytes() {
+    UnsignedByteArray bytes = this.value();
+    long bits = 0;
+    for (int i = 0; i < 8; i++) {
+      bits = (bits << 8) | (bytes.getByte(i) & 0xFFL);
+    }
+    return bits;
   }
 
 }
@@ -22,7 +22,6 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
@@ -77,13 +76,12 @@ public class CurrencyType extends Hash160Type {
   }
 
   private boolean isNative(UnsignedByteArray byteList) {
-    String iso = byteList.slice(12, 15).hexValue();
-    return onlyIso(byteList) && iso.equals("000000");
+    return onlyIso(byteList) && byteList.getByte(12) == 0 && byteList.getByte(13) == 0 && byteList.getByte(14) == 0;
   }
 
   private boolean onlyIso(UnsignedByteArray byteList) {
     for (int i = byteList.length() - 1; i >= 0; i--) {
-      if (byteList.get(i).asInt() != 0 && !(i == 12 || i == 13 || i == 14)) {
+      if (byteList.getByte(i) != 0 && !(i == 12 || i == 13 || i == 14)) {
         return false;
       }
     }
@@ -146,7 +144,7 @@ public class CurrencyType extends Hash160Type {
     UnsignedByteArray bytes = UnsignedByteArray.ofSize(20);
     if (!iso.equals("XRP")) {
       for (int i = 0; i < iso.length(); i++) {
-        bytes.set(12 + i, UnsignedByte.of(iso.charAt(i)));
+        bytes.set(12 + i, (byte) iso.charAt(i));
       }
     }
     return bytes;
@@ -38,7 +38,7 @@ public abstract class HashType<T extends HashType<T>> extends SerializedType<T>
    */
   public HashType(final UnsignedByteArray bytes, final int width) {
     super(bytes);
-    Preconditions.checkArgument(bytes.length() == width, "Invalid hash length " + bytes.length());
+    Preconditions.checkArgument(bytes.length() == width, "Invalid hash length %s", bytes.length());
     this.width = width;
   }
 
@@ -52,6 +52,11 @@ public abstract class HashType<T extends HashType<T>> extends SerializedType<T>
     return super.fromHex(hex, width);
   }
 
+  @Override
+  public T fromBytes(UnsignedByteArray bytes) {
+    return super.fromBytes(bytes, width);
+  }
+
   public int getWidth() {
     return width;
   }
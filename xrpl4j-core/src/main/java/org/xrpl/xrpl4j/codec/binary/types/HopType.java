@@ -23,7 +23,6 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
@@ -52,8 +51,8 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
-    UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
+    int type = parser.readUInt8AsInt();
+    UnsignedByteArray byteArray = UnsignedByteArray.empty().append((byte) type);
 
     if ((type & TYPE_ACCOUNT) > 0) {
       byteArray.append(parser.read(AccountIdType.WIDTH));
@@ -82,17 +81,17 @@ public class HopType extends SerializedType<HopType> {
 
     hop.account().ifPresent(account -> {
       byteArray.append(new AccountIdType().fromJson(account).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ACCOUNT)));
+      byteArray.set(0, (byte) (byteArray.getByte(0) | TYPE_ACCOUNT));
     });
 
     hop.currency().ifPresent(currency -> {
       byteArray.append(new CurrencyType().fromJson(currency).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_CURRENCY)));
+      byteArray.set(0, (byte) (byteArray.getByte(0) | TYPE_CURRENCY));
     });
 
     hop.issuer().ifPresent(issuer -> {
       byteArray.append(new AccountIdType().fromJson(issuer).value());
-      byteArray.set(0, byteArray.get(0).or(UnsignedByte.of(TYPE_ISSUER)));
+      byteArray.set(0, (byte) (byteArray.getByte(0) | TYPE_ISSUER));
     });
 
     return new HopType(byteArray);
@@ -100,8 +99,8 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+    BinaryParser parser = new BinaryParser(this.value());
+    int type = parser.readUInt8AsInt();
 
     ImmutableHop.Builder builder = Hop.builder();
 
@@ -23,7 +23,6 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
@@ -42,6 +41,8 @@ public class PathSetType extends SerializedType<PathSetType> {
    */
   public static final String PATHSET_END_HEX = "00";
   public static final String PATH_SEPARATOR_HEX = "FF";
+  public static final byte PATHSET_END_BYTE = (byte) 0x00;
+  public static final byte PATH_SEPARATOR_BYTE = (byte) 0xFF;
 
   public PathSetType() {
     this(UnsignedByteArray.empty());
@@ -58,7 +59,7 @@ public class PathSetType extends SerializedType<PathSetType> {
       byteArray.append(new PathType().fromParser(parser).value());
       UnsignedByteArray nextByte = parser.read(1);
       byteArray.append(nextByte);
-      if (nextByte.hexValue().equals(PATHSET_END_HEX)) {
+      if (nextByte.getByte(0) == PATHSET_END_BYTE) {
         break;
       }
     }
@@ -77,16 +78,16 @@ public class PathSetType extends SerializedType<PathSetType> {
     while (nodeIterator.hasNext()) {
       JsonNode child = nodeIterator.next();
       byteArray.append(new PathType().fromJson(child).value());
-      byteArray.append(UnsignedByteArray.fromHex(PATH_SEPARATOR_HEX));
+      byteArray.append(PATH_SEPARATOR_BYTE);
     }
 
-    byteArray.set(byteArray.length() - 1, UnsignedByte.of(PATHSET_END_HEX));
+    byteArray.set(byteArray.length() - 1, PATHSET_END_BYTE);
     return new PathSetType(byteArray);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.value());
     List<JsonNode> values = new ArrayList<>();
 
     while (parser.hasMore()) {
@@ -56,8 +56,8 @@ public class PathType extends SerializedType<PathType> {
 
     while (parser.hasMore()) {
       byteArray.append(new HopType().fromParser(parser).value());
-      String nextByte = parser.peek().hexValue();
-      if (nextByte.equals(PATH_SEPARATOR_HEX) || nextByte.equals(PATHSET_END_HEX)) {
+      byte nextByte = parser.peekByte();
+      if (nextByte == PathSetType.PATH_SEPARATOR_BYTE || nextByte == PathSetType.PATHSET_END_BYTE) {
         break;
       }
     }
@@ -81,7 +81,7 @@ public class PathType extends SerializedType<PathType> {
   @Override
   public JsonNode toJson() {
     List<JsonNode> values = new ArrayList<>();
-    BinaryParser parser = new BinaryParser(this.toHex());
+    BinaryParser parser = new BinaryParser(this.value());
     while (parser.hasMore()) {
       values.add(new HopType().fromParser(parser).toJson());
     }
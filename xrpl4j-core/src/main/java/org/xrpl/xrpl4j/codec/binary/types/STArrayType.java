@@ -41,6 +41,7 @@ import java.util.List;
 public class STArrayType extends SerializedType<STArrayType> {
 
   public static final String ARRAY_END_MARKER_HEX = "F1";
+  public static final byte ARRAY_END_MARKER_BYTE = (byte) 0xF1;
 
   public static final String ARRAY_END_MARKER_NAME = "ArrayEndMarker";
 
@@ -65,9 +66,9 @@ public class STArrayType extends SerializedType<STArrayType> {
       }
       SerializedType<?> associatedValue = parser.readFieldValue(fieldInstance);
       serializer.writeFieldAndValue(fieldInstance, associatedValue);
-      serializer.put(STObjectType.OBJECT_END_MARKER_HEX);
+      serializer.put(STObjectType.OBJECT_END_MARKER_BYTE);
     }
-    serializer.put(ARRAY_END_MARKER_HEX);
+    serializer.put(ARRAY_END_MARKER_BYTE);
     return new STArrayType(byteArray);
   }
 
@@ -82,15 +83,15 @@ public class STArrayType extends SerializedType<STArrayType> {
     Iterator<JsonNode> nodeIterator = node.elements();
     while (nodeIterator.hasNext()) {
       JsonNode child = nodeIterator.next();
-      serializer.put(new STObjectType().fromJson(child).value().hexValue());
+      serializer.write(new STObjectType().fromJson(child).value());
     }
-    serializer.put(ARRAY_END_MARKER_HEX);
+    serializer.put(ARRAY_END_MARKER_BYTE);
     return new STArrayType(byteList);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.value());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
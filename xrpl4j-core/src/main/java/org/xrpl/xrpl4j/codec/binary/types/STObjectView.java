@@ -0,0 +1,244 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read-only view over the binary encoding of an STObject, such as a transaction or ledger entry.
+ *
+ * <p>Constructing a view walks the encoding once, recording where each top-level field's value starts and how long
+ * it is, without decoding any value. Individual fields are then decoded only when asked for, so a caller that needs
+ * just {@code TransactionType} or {@code Account} pays nothing for the rest of the object. The underlying array is not
+ * copied and must not be modified while the view is in use.</p>
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+public final class STObjectView {
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final byte[] bytes;
+  private final FieldInstance[] fields;
+  private final int[] valueOffsets;
+  private final int[] valueLengths;
+
+  private STObjectView(byte[] bytes, FieldInstance[] fields, int[] valueOffsets, int[] valueLengths) {
+    this.bytes = bytes;
+    this.fields = fields;
+    this.valueOffsets = valueOffsets;
+    this.valueLengths = valueLengths;
+  }
+
+  /**
+   * Index the fields of the STObject encoded in {@code bytes}.
+   *
+   * @param bytes A byte array containing an encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(byte[] bytes) {
+    return of(bytes, 0, Objects.requireNonNull(bytes).length);
+  }
+
+  /**
+   * Index the fields of the STObject encoded in a range of {@code bytes}.
+   *
+   * @param bytes  A byte array.
+   * @param offset The index of the first byte of the encoded STObject.
+   * @param length The number of bytes in the encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(byte[] bytes, int offset, int length) {
+    BinaryParser parser = new BinaryParser(bytes, offset, length);
+    FieldInstance[] fields = new FieldInstance[16];
+    int[] valueOffsets = new int[16];
+    int[] valueLengths = new int[16];
+    int count = 0;
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+      int valueOffset;
+      int valueLength;
+      if (field.isVariableLengthEncoded()) {
+        valueLength = parser.readVariableLengthLength();
+        valueOffset = parser.position();
+        if (valueLength > offset + length - valueOffset) {
+          throw new IllegalArgumentException(field.name() + " is longer than the remaining bytes");
+        }
+        parser.skip(valueLength);
+      } else {
+        valueOffset = parser.position();
+        parser.skipFieldValue(field);
+        valueLength = parser.position() - valueOffset;
+        if (field.type().equals(ST_OBJECT) || field.type().equals(ST_ARRAY)) {
+          // The value of a nested object or array does not include its end marker.
+          valueLength--;
+        }
+      }
+      if (count == fields.length) {
+        fields = Arrays.copyOf(fields, count * 2);
+        valueOffsets = Arrays.copyOf(valueOffsets, count * 2);
+        valueLengths = Arrays.copyOf(valueLengths, count * 2);
+      }
+      fields[count] = field;
+      valueOffsets[count] = valueOffset;
+      valueLengths[count] = valueLength;
+      count++;
+    }
+    return new STObjectView(
+      bytes, Arrays.copyOf(fields, count), Arrays.copyOf(valueOffsets, count), Arrays.copyOf(valueLengths, count)
+    );
+  }
+
+  /**
+   * Index the fields of the STObject encoded in {@code bytes}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing an encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(UnsignedByteArray bytes) {
+    return of(Objects.requireNonNull(bytes).toByteArray());
+  }
+
+  /**
+   * The top-level fields of this object, in the order they are encoded.
+   *
+   * @return An unmodifiable {@link List} of {@link FieldInstance}.
+   */
+  public List<FieldInstance> fields() {
+    return Collections.unmodifiableList(Arrays.asList(fields));
+  }
+
+  /**
+   * Whether this object contains the named field.
+   *
+   * @param fieldName The name of a field, e.g. {@code Account}.
+   *
+   * @return {@code true} if the field is present; {@code false} otherwise.
+   */
+  public boolean has(String fieldName) {
+    return indexOf(fieldName) >= 0;
+  }
+
+  /**
+   * Decode the value of the named field.
+   *
+   * @param fieldName The name of a field, e.g. {@code Account}.
+   *
+   * @return The decoded {@link SerializedType}, or empty if the field is not present.
+   */
+  public Optional<SerializedType<?>> get(String fieldName) {
+    int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    FieldInstance field = fields[index];
+    BinaryParser parser = new BinaryParser(bytes, valueOffsets[index], valueLengths[index]);
+    SerializedType<?> type = parser.typeForField(field);
+    if (type == null) {
+      throw new IllegalArgumentException("unsupported type " + field.type());
+    }
+    if (field.isVariableLengthEncoded()) {
+      return Optional.of(type.fromParser(parser, valueLengths[index]));
+    }
+    return Optional.of(type.fromParser(parser));
+  }
+
+  /**
+   * Decode the value of the named field to the same JSON that {@link STObjectType#toJson()} produces for it, including
+   * the mapping of {@code TransactionType}, {@code TransactionResult} and {@code LedgerEntryType} to their names.
+   *
+   * @param fieldName The name of a field, e.g. {@code TransactionType}.
+   *
+   * @return The field's {@link JsonNode}, or empty if the field is not present.
+   */
+  public Optional<JsonNode> getJson(String fieldName) {
+    return get(fieldName).map(value -> {
+      JsonNode json = value.toJson();
+      return definitionsService.mapFieldRawValueToSpecialization(fieldName, json.asText())
+        .map(TextNode::new)
+        .map(JsonNode.class::cast)
+        .orElse(json);
+    });
+  }
+
+  /**
+   * Copy the encoded value of the named field, without its field header or length prefix.
+   *
+   * @param fieldName The name of a field.
+   *
+   * @return An {@link UnsignedByteArray}, or empty if the field is not present.
+   */
+  public Optional<UnsignedByteArray> getBytes(String fieldName) {
+    int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(UnsignedByteArray.of(bytes, valueOffsets[index], valueLengths[index]));
+  }
+
+  /**
+   * Obtain a view over a nested STObject field, sharing this view's underlying array.
+   *
+   * @param fieldName The name of an STObject field.
+   *
+   * @return An {@link STObjectView}, or empty if the field is not present.
+   */
+  public Optional<STObjectView> getObject(String fieldName) {
+    int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    if (!fields[index].type().equals(ST_OBJECT)) {
+      throw new IllegalArgumentException(fieldName + " is not an STObject field");
+    }
+    return Optional.of(of(bytes, valueOffsets[index], valueLengths[index]));
+  }
+
+  private int indexOf(String fieldName) {
+    Objects.requireNonNull(fieldName);
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].name().equals(fieldName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 import java.util.Map;
@@ -58,12 +59,27 @@ public abstract class SerializedType<T extends SerializedType<T>> {
       .put("UInt64", () -> new UInt64Type())
       .put("Vector256", () -> new Vector256Type())
       .build();
+
+  /**
+   * The entries of {@link #typeMap} indexed by type code, so that a factory can be found from a decoded field header
+   * without a hash lookup. Type codes that cannot appear in a field header, or have no factory, hold {@code null}.
+   */
+  private static final Supplier<SerializedType<?>>[] typeCodeFactories = buildTypeCodeFactories();
+
   private final UnsignedByteArray bytes;
 
   public SerializedType(UnsignedByteArray bytes) {
     this.bytes = bytes;
   }
 
+  /**
+   * Constructor for types that hold their value as primitives rather than as bytes. Such types must override
+   * {@link #value()} and {@link #toBytesSink(UnsignedByteArray)}.
+   */
+  protected SerializedType() {
+    this.bytes = null;
+  }
+
   /**
    * Get the {@link SerializedType} for the supplied {@code name}.
    *
@@ -75,6 +91,33 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     return typeMap.get(name).get();
   }
 
+  /**
+   * Get the factory for the {@link SerializedType} with the supplied type code.
+   *
+   * @param typeCode An int representing the type code of a field header.
+   *
+   * @return A {@link Supplier} of new {@link SerializedType} instances, or {@code null} if no serialized type exists
+   *   for {@code typeCode}.
+   */
+  public static Supplier<SerializedType<?>> getTypeFactory(int typeCode) {
+    if (typeCode < 0 || typeCode >= typeCodeFactories.length) {
+      return null;
+    }
+    return typeCodeFactories[typeCode];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Supplier<SerializedType<?>>[] buildTypeCodeFactories() {
+    Supplier<SerializedType<?>>[] factories = new Supplier[256];
+    typeMap.forEach((name, factory) -> {
+      Integer typeCode = DefinitionsService.getInstance().getTypeOrdinal(name);
+      if (typeCode != null && typeCode >= 0 && typeCode < factories.length) {
+        factories[typeCode] = factory;
+      }
+    });
+    return factories;
+  }
+
   /**
    * Get the name of the supplied type.
    *
@@ -167,6 +210,31 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     return fromParser(new BinaryParser(hex), lengthHint);
   }
 
+  /**
+   * Construct a concrete instance of {@link SerializedType} from the supplied {@code bytes}.
+   *
+   * @param bytes An {@link UnsignedByteArray} of binary data.
+   *
+   * @return A {@link T}.
+   */
+  public T fromBytes(UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    return fromParser(new BinaryParser(bytes));
+  }
+
+  /**
+   * Construct a concrete instance of {@link SerializedType} from the supplied {@code bytes}.
+   *
+   * @param bytes      An {@link UnsignedByteArray} of binary data.
+   * @param lengthHint An int representing the expected length of {@code bytes}.
+   *
+   * @return A {@link T}.
+   */
+  public T fromBytes(UnsignedByteArray bytes, int lengthHint) {
+    Objects.requireNonNull(bytes);
+    return fromParser(new BinaryParser(bytes), lengthHint);
+  }
+
   /**
    * Append this type's bytes to {@code list}.
    *
@@ -174,7 +242,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    */
   public void toBytesSink(final UnsignedByteArray list) {
     Objects.requireNonNull(list);
-    list.append(this.bytes);
+    list.append(value());
   }
 
   /**
@@ -183,7 +251,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    * @return An array of bytes.
    */
   public byte[] toBytes() {
-    return bytes.toByteArray();
+    return value().toByteArray();
   }
 
   /**
@@ -201,7 +269,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
    * @return A {@link String}.
    */
   public final String toHex() {
-    return bytes.hexValue();
+    return value().hexValue();
   }
 
   /**
@@ -38,19 +38,23 @@ public class UInt16Type extends UIntType<UInt16Type> {
     super(value, 16);
   }
 
+  UInt16Type(long value) {
+    super(value, 16);
+  }
+
   @Override
   public UInt16Type fromParser(BinaryParser parser) {
-    return new UInt16Type(parser.readUInt16());
+    return new UInt16Type(parser.readUInt16AsInt());
   }
 
   @Override
   public UInt16Type fromJson(JsonNode value) {
-    return new UInt16Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt16Type(parseUnsigned(value));
   }
 
   @Override
   public JsonNode toJson() {
-    return new IntNode(UnsignedLong.valueOf(toHex(), 16).intValue());
+    return new IntNode((int) longValue());
   }
 
 }
@@ -38,18 +38,22 @@ public class UInt32Type extends UIntType<UInt32Type> {
     super(value, 32);
   }
 
+  UInt32Type(long value) {
+    super(value, 32);
+  }
+
   @Override
   public UInt32Type fromParser(BinaryParser parser) {
-    return new UInt32Type(parser.readUInt32());
+    return new UInt32Type(parser.readUInt32AsLong());
   }
 
   @Override
   public UInt32Type fromJson(JsonNode value) {
-    return new UInt32Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt32Type(parseUnsigned(value));
   }
 
   @Override
   public JsonNode toJson() {
-    return new LongNode(UnsignedLong.valueOf(toHex(), 16).longValue());
+    return new LongNode(longValue());
   }
 }
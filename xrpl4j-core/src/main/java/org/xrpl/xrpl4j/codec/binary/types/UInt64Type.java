@@ -37,14 +37,18 @@ public class UInt64Type extends UIntType<UInt64Type> {
     super(value, 64);
   }
 
+  UInt64Type(long value) {
+    super(value, 64);
+  }
+
   @Override
   public UInt64Type fromParser(BinaryParser parser) {
-    return new UInt64Type(parser.readUInt64());
+    return new UInt64Type(parser.readUInt64AsLong());
   }
 
   @Override
   public UInt64Type fromJson(JsonNode value) {
-    return new UInt64Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt64Type(parseUnsigned(value));
   }
 
 }
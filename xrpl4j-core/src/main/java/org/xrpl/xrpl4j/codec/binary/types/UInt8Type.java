@@ -38,19 +38,23 @@ public class UInt8Type extends UIntType<UInt8Type> {
     super(value, 8);
   }
 
+  UInt8Type(long value) {
+    super(value, 8);
+  }
+
   @Override
   public UInt8Type fromParser(BinaryParser parser) {
-    return new UInt8Type(parser.readUInt8());
+    return new UInt8Type(parser.readUInt8AsInt());
   }
 
   @Override
   public UInt8Type fromJson(JsonNode value) {
-    return new UInt8Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt8Type(parseUnsigned(value));
   }
 
   @Override
   public JsonNode toJson() {
-    return new IntNode(UnsignedLong.valueOf(toHex(), 16).intValue());
+    return new IntNode((int) longValue());
   }
 
 }
@@ -23,31 +23,92 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 
+import java.util.Objects;
+
 /**
- * Base codec for XRPL UInt types.
+ * Base codec for XRPL UInt types. Values are held as a primitive {@code long} and written big-endian straight into
+ * the destination buffer, so reading or writing a UInt field allocates nothing beyond the type instance itself.
  */
 abstract class UIntType<T extends UIntType<T>> extends SerializedType<T> {
 
-  private final UnsignedLong value;
+  private final long value;
+
+  private final int byteWidth;
 
   public UIntType(UnsignedLong value, int bitSize) {
-    super(UnsignedByteArray.fromHex(ByteUtils.padded(value.toString(16), bitSizeToHexLength(bitSize))));
+    this(value.longValue(), bitSize);
+  }
+
+  /**
+   * Construct from the raw bits of an unsigned value.
+   *
+   * @param value   The unsigned value, as the bits of a {@code long}.
+   * @param bitSize The number of bits in this type.
+   */
+  UIntType(long value, int bitSize) {
+    super();
+    if (bitSize < 64 && (value >>> bitSize) != 0) {
+      throw new IllegalArgumentException(
+        "Value " + Long.toUnsignedString(value) + " does not fit in a UInt" + bitSize
+      );
+    }
     this.value = value;
+    this.byteWidth = bitSize / 8;
   }
 
-  private static int bitSizeToHexLength(int bitSize) {
-    return bitSize / 4;
+  /**
+   * Parse an unsigned integer from a JSON number or a decimal string.
+   *
+   * @param node A {@link JsonNode}.
+   *
+   * @return The unsigned value, as the bits of a {@code long}.
+   */
+  static long parseUnsigned(JsonNode node) {
+    Objects.requireNonNull(node);
+    if (node.isIntegralNumber() && node.canConvertToLong()) {
+      long value = node.longValue();
+      if (value < 0) {
+        throw new IllegalArgumentException("Value " + value + " is negative");
+      }
+      return value;
+    }
+    return Long.parseUnsignedLong(node.asText());
   }
 
   UnsignedLong valueOf() {
+    return UnsignedLong.fromLongBits(value);
+  }
+
+  long longValue() {
     return value;
   }
 
+  @Override
+  public void toBytesSink(UnsignedByteArray list) {
+    Objects.requireNonNull(list);
+    for (int shift = (byteWidth - 1) * 8; shift >= 0; shift -= 8) {
+      list.append((byte) (value >>> shift));
+    }
+  }
+
+  @Override
+  public byte[] toBytes() {
+    byte[] bytes = new byte[byteWidth];
+    for (int i = 0; i < byteWidth; i++) {
+      bytes[i] = (byte) (value >>> ((byteWidth - 1 - i) * 8));
+    }
+    return bytes;
+  }
+
+  @Override
+  protected UnsignedByteArray value() {
+    return UnsignedByteArray.of(toBytes());
+  }
+
   @Override
   public JsonNode toJson() {
-    return new TextNode(UnsignedLong.valueOf(toHex(), 16).toString());
+    return new TextNode(Long.toUnsignedString(value));
   }
 }
@@ -0,0 +1,68 @@
+package org.xrpl.xrpl4j.crypto;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Utility methods for waiting on the {@link CompletableFuture}s of parallel key derivation, signing and verification.
+ */
+public final class FutureUtils {
+
+  /**
+   * No-args constructor, to prevent instantiation.
+   */
+  private FutureUtils() {
+  }
+
+  /**
+   * Wait for every future in {@code futures} to complete. If any of them fails, the remaining futures are cancelled and
+   * the exception that future failed with is rethrown without its {@link CompletionException} wrapper.
+   *
+   * @param futures A {@link List} of futures.
+   * @param <V>     The type of result.
+   *
+   * @return A {@link List} of the results of {@code futures}, in the same order.
+   * @throws RuntimeException the exception thrown by the first future that failed.
+   */
+  public static <V> List<V> joinAll(final List<CompletableFuture<V>> futures) {
+    Objects.requireNonNull(futures);
+    final List<V> results = new ArrayList<>(futures.size());
+    try {
+      futures.forEach(future -> results.add(future.join()));
+    } catch (CompletionException e) {
+      futures.forEach(future -> future.cancel(false));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+    return results;
+  }
+
+}
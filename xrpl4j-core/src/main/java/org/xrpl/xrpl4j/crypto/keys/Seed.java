@@ -29,6 +29,9 @@ import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 import org.xrpl.xrpl4j.codec.addresses.AddressBase58;
 import org.xrpl.xrpl4j.codec.addresses.Base58;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
@@ -38,11 +41,18 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.Version;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
+import org.xrpl.xrpl4j.crypto.FutureUtils;
 import org.xrpl.xrpl4j.crypto.HashingUtils;
+import org.xrpl.xrpl4j.model.transactions.Address;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * A compact value that is used to derive the actual private and public keys for an XRPL account.
@@ -180,6 +190,45 @@ public interface Seed extends javax.security.auth.Destroyable {
     return new DefaultSeed(base58EncodedSecret.decodedValueBytes());
   }
 
+  /**
+   * Derive a {@link KeyPair} from each of {@code seeds} in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param seeds A {@link List} of {@link Seed}s, which may use either key type.
+   *
+   * @return A {@link List} containing the {@link KeyPair} derived from each of {@code seeds}, in the same order.
+   * @see #deriveKeyPairs(List, Executor)
+   */
+  static List<KeyPair> deriveKeyPairs(final List<Seed> seeds) {
+    return deriveKeyPairs(seeds, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Derive a {@link KeyPair} from each of {@code seeds} in parallel on {@code executor}. Each key pair is the same as
+   * the one returned by {@link #deriveKeyPair()}, and the {@link Address} of each public key is also derived on
+   * {@code executor}, so {@link PublicKey#deriveAddress()} returns it without further work.
+   *
+   * @param seeds    A {@link List} of {@link Seed}s, which may use either key type.
+   * @param executor The {@link Executor} to derive keys on.
+   *
+   * @return A {@link List} containing the {@link KeyPair} derived from each of {@code seeds}, in the same order.
+   * @throws RuntimeException the exception thrown deriving the first key pair that failed.
+   */
+  static List<KeyPair> deriveKeyPairs(final List<Seed> seeds, final Executor executor) {
+    Objects.requireNonNull(seeds);
+    Objects.requireNonNull(executor);
+
+    final List<CompletableFuture<KeyPair>> futures = seeds.stream()
+      .map(Objects::requireNonNull)
+      .map(seed -> CompletableFuture.supplyAsync(() -> {
+        final KeyPair keyPair = seed.deriveKeyPair();
+        keyPair.publicKey().deriveAddress();
+        return keyPair;
+      }, executor))
+      .collect(Collectors.toList());
+
+    return FutureUtils.joinAll(futures);
+  }
+
   /**
    * A default implementation of a {@link Seed}.
    */
@@ -345,6 +394,13 @@ public interface Seed extends javax.security.auth.Destroyable {
         EC_PARAMETERS.getH()
       );
 
+      /**
+       * Multiplies the generator point using a fixed-base comb. The comb's table of multiples of G is computed on first
+       * use and kept on {@link ECDomainParameters#getG()}, so every later multiplication by G, on any thread, reuses
+       * it instead of computing a window of multiples of G for each key.
+       */
+      private static final ECMultiplier G_MULTIPLIER = new FixedPointCombMultiplier();
+
       /**
        * Private, no-args constructor to prevent instantiation.
        */
@@ -403,7 +459,7 @@ public interface Seed extends javax.security.auth.Destroyable {
        */
       private static UnsignedByteArray derivePublicKey(final BigInteger privateKey) {
         Objects.requireNonNull(privateKey);
-        return UnsignedByteArray.of(EC_DOMAIN_PARAMETERS.getG().multiply(privateKey).getEncoded(true));
+        return UnsignedByteArray.of(multiplyG(privateKey).getEncoded(true));
       }
 
       /**
@@ -422,13 +478,23 @@ public interface Seed extends javax.security.auth.Destroyable {
           return privateGen;
         }
 
-        UnsignedByteArray publicGen = UnsignedByteArray
-          .of(EC_DOMAIN_PARAMETERS.getG().multiply(privateGen).getEncoded(true));
+        UnsignedByteArray publicGen = UnsignedByteArray.of(multiplyG(privateGen).getEncoded(true));
         return deriveScalar(publicGen, accountNumber)
           .add(privateGen)
           .mod(EC_DOMAIN_PARAMETERS.getN());
       }
 
+      /**
+       * Multiply the generator point of secp256k1 by {@code scalar}.
+       *
+       * @param scalar A {@link BigInteger} greater than zero and less than the order of the curve.
+       *
+       * @return The {@link ECPoint} {@code scalar * G}.
+       */
+      private static ECPoint multiplyG(final BigInteger scalar) {
+        return G_MULTIPLIER.multiply(EC_DOMAIN_PARAMETERS.getG(), scalar);
+      }
+
       /**
        * Helper to derive a scalar component for secp256k1.
        *
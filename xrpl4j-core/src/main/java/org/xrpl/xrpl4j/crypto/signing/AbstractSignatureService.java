@@ -29,11 +29,18 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that subclasses can utilize.
+ *
+ * <p>{@link #verifyMultiSigned(Set, Transaction, int, Executor)} verifies the signers in parallel, so subclasses that
+ * are used with it must implement {@link #edDsaVerify} and {@link #ecDsaVerify} in a thread-safe way.</p>
  */
 public abstract class AbstractSignatureService<P extends PrivateKeyable> implements SignatureService<P> {
 
@@ -61,6 +68,11 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
       public PublicKey derivePublicKey(P privateKey) {
         return AbstractSignatureService.this.derivePublicKey(privateKey);
       }
+
+      @Override
+      protected Function<UnsignedByteArray, Signature> signingFunction(P privateKey) {
+        return AbstractSignatureService.this.signingFunction(privateKey);
+      }
     };
 
     this.abstractTransactionVerifier = new AbstractTransactionVerifier(signatureUtils) {
@@ -101,6 +113,13 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
     return this.abstractTransactionSigner.sign(privateKeyable, unsignedClaim);
   }
 
+  @Override
+  public <T extends Transaction> Map<P, List<SingleSignedTransaction<T>>> signAll(
+    final Map<P, List<T>> transactionsByKey, final Executor executor
+  ) {
+    return this.abstractTransactionSigner.signAll(transactionsByKey, executor);
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(final P privateKeyable, final T transaction) {
     return abstractTransactionSigner.multiSign(privateKeyable, transaction);
@@ -120,6 +139,30 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
     return abstractTransactionVerifier.verifyMultiSigned(signerSet, unsignedTransaction, minSigners);
   }
 
+  @Override
+  public <T extends Transaction> boolean verifyMultiSigned(
+    final Set<Signer> signerSet,
+    final T unsignedTransaction,
+    final int minSigners,
+    final Executor executor
+  ) {
+    return abstractTransactionVerifier.verifyMultiSigned(signerSet, unsignedTransaction, minSigners, executor);
+  }
+
+  /**
+   * Prepare {@code privateKey} for signing, in the same way as {@link AbstractTransactionSigner#signingFunction}.
+   *
+   * @param privateKey A {@link P} used for signing.
+   *
+   * @return A {@link Function} that signs an {@link UnsignedByteArray} with {@code privateKey}.
+   */
+  protected Function<UnsignedByteArray, Signature> signingFunction(final P privateKey) {
+    Objects.requireNonNull(privateKey);
+    return AbstractTransactionSigner.signingFunctionForKeyType(
+      privateKey, derivePublicKey(privateKey), this::edDsaSign, this::ecDsaSign
+    );
+  }
+
   /**
    * Does the actual work of computing a signature using a ed25519 private-key, as locatable using {@code privateKey}.
    *
@@ -28,7 +28,15 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that sub-classes can utilize.
@@ -53,7 +61,7 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
 
     final UnsignedByteArray signableTransactionBytes = this.signatureUtils.toSignableBytes(transaction);
     final Signature signature = this.signingHelper(privateKeyable, signableTransactionBytes);
-    return this.signatureUtils.addSignatureToTransaction(transaction, signature);
+    return this.signatureUtils.addSignatureToTransaction(transaction, signature, signableTransactionBytes);
   }
 
   @Override
@@ -65,6 +73,36 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     return this.signingHelper(privateKeyable, signableBytes);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each key is prepared for signing once, using {@link #signingFunction(PrivateKeyable)}, and that preparation is
+   * shared by all of the key's transactions.</p>
+   */
+  @Override
+  public <T extends Transaction> Map<P, List<SingleSignedTransaction<T>>> signAll(
+    final Map<P, List<T>> transactionsByKey, final Executor executor
+  ) {
+    Objects.requireNonNull(transactionsByKey);
+    Objects.requireNonNull(executor);
+
+    final Map<P, List<CompletableFuture<SingleSignedTransaction<T>>>> futures = new LinkedHashMap<>();
+    transactionsByKey.forEach((privateKeyable, transactions) -> {
+      Objects.requireNonNull(privateKeyable);
+      final CompletableFuture<Function<UnsignedByteArray, Signature>> signingFunction =
+        CompletableFuture.supplyAsync(() -> this.signingFunction(privateKeyable), executor);
+      futures.put(privateKeyable, transactions.stream()
+        .map(Objects::requireNonNull)
+        .map(transaction -> signingFunction.thenApplyAsync(signer -> {
+          final UnsignedByteArray signableTransactionBytes = this.signatureUtils.toSignableBytes(transaction);
+          final Signature signature = signer.apply(signableTransactionBytes);
+          return this.signatureUtils.addSignatureToTransaction(transaction, signature, signableTransactionBytes);
+        }, executor))
+        .collect(Collectors.toList()));
+    });
+    return BatchSigning.joinAll(futures);
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(final P privateKeyable, final T transaction) {
     Objects.requireNonNull(privateKeyable);
@@ -90,13 +128,47 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final PublicKey publicKey = derivePublicKey(privateKey);
+    return this.signingFunction(privateKey).apply(signableTransactionBytes);
+  }
+
+  /**
+   * Prepare {@code privateKey} for signing. The returned function is used to sign every transaction in a batch, so
+   * subclasses can override this method to do per-key work, such as parsing or expanding the key, only once. The
+   * returned function must be safe to call from several threads at once.
+   *
+   * @param privateKey A {@link P} used for signing.
+   *
+   * @return A {@link Function} that signs an {@link UnsignedByteArray} with {@code privateKey}.
+   */
+  protected Function<UnsignedByteArray, Signature> signingFunction(final P privateKey) {
+    Objects.requireNonNull(privateKey);
+    return signingFunctionForKeyType(privateKey, derivePublicKey(privateKey), this::edDsaSign, this::ecDsaSign);
+  }
+
+  /**
+   * The default implementation of {@link #signingFunction(PrivateKeyable)}, which is shared with
+   * {@link AbstractSignatureService} so that both choose the signing algorithm in the same way.
+   *
+   * @param privateKey The {@link P} used for signing.
+   * @param publicKey  The {@link PublicKey} corresponding to {@code privateKey}, whose key type selects the algorithm.
+   * @param edDsaSign  A {@link BiFunction} that signs with an ed25519 {@code privateKey}.
+   * @param ecDsaSign  A {@link BiFunction} that signs with a secp256k1 {@code privateKey}.
+   * @param <P>        The type of {@link PrivateKeyable}.
+   *
+   * @return A {@link Function} that signs an {@link UnsignedByteArray} with {@code privateKey}.
+   */
+  static <P extends PrivateKeyable> Function<UnsignedByteArray, Signature> signingFunctionForKeyType(
+    final P privateKey,
+    final PublicKey publicKey,
+    final BiFunction<P, UnsignedByteArray, Signature> edDsaSign,
+    final BiFunction<P, UnsignedByteArray, Signature> ecDsaSign
+  ) {
     switch (publicKey.keyType()) {
       case ED25519: {
-        return this.edDsaSign(privateKey, signableTransactionBytes);
+        return signableTransactionBytes -> edDsaSign.apply(privateKey, signableTransactionBytes);
       }
       case SECP256K1: {
-        return this.ecDsaSign(privateKey, signableTransactionBytes);
+        return signableTransactionBytes -> ecDsaSign.apply(privateKey, signableTransactionBytes);
       }
       default: {
         throw new IllegalArgumentException("Unhandled PrivateKey KeyType: {}" + privateKey);
@@ -26,11 +26,20 @@ import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * An abstract implementation of {@link TransactionVerifier}.
+ *
+ * <p>{@link #verifyMultiSigned(Set, Transaction, int, Executor)} checks the signers in parallel, so subclasses that
+ * are used with it must implement {@link #edDsaVerify} and {@link #ecDsaVerify} in a thread-safe way. The other
+ * methods call them only on the calling thread.</p>
  */
 public abstract class AbstractTransactionVerifier implements TransactionVerifier {
 
@@ -76,22 +85,60 @@ public abstract class AbstractTransactionVerifier implements TransactionVerifier
     Objects.requireNonNull(unsignedTransaction);
     Preconditions.checkArgument(minSigners > 0);
 
+    // Encode the transaction once; each signer only adds its AccountID to the end of these bytes.
+    final UnsignedByteArray multiSignableBytes = this.getSignatureUtils()
+      .toMultiSignableBytesWithoutSigner(unsignedTransaction);
+
     final long numValidSignatures = signerSet.stream()
-      .map(signer -> {
-        // Check signature against all public keys, hoping for a valid verification against one.
-        final UnsignedByteArray unsignedTransactionBytes =
-          this.getSignatureUtils().toMultiSignableBytes(
-            unsignedTransaction, signer.signingPublicKey().deriveAddress()
-          );
-        final boolean oneValidSignature = verifyHelper(signer, unsignedTransactionBytes);
-        return oneValidSignature;
-      })
-      .filter($ -> $) // Only count it if it's 'true'
+      // Check signature against all public keys, hoping for a valid verification against one.
+      .filter(signer -> verifyMultiSigner(signer, multiSignableBytes))
       .count();
 
     return numValidSignatures >= minSigners;
   }
 
+  @Override
+  public <T extends Transaction> boolean verifyMultiSigned(
+    final Set<Signer> signerSet,
+    final T unsignedTransaction,
+    final int minSigners,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(signerSet);
+    Objects.requireNonNull(unsignedTransaction);
+    Preconditions.checkArgument(minSigners > 0);
+    Objects.requireNonNull(executor);
+
+    // Encode the transaction once; each signer only adds its AccountID to the end of these bytes.
+    final UnsignedByteArray multiSignableBytes = this.getSignatureUtils()
+      .toMultiSignableBytesWithoutSigner(unsignedTransaction);
+
+    final List<CompletableFuture<Boolean>> futures = signerSet.stream()
+      .map(signer -> CompletableFuture.supplyAsync(() -> verifyMultiSigner(signer, multiSignableBytes), executor))
+      .collect(Collectors.toList());
+    final long numValidSignatures = BatchSigning.joinAll(Collections.singletonMap(signerSet, futures))
+      .get(signerSet).stream()
+      .filter(valid -> valid)
+      .count();
+
+    return numValidSignatures >= minSigners;
+  }
+
+  /**
+   * Verify the signature of one signer of a multi-signed transaction.
+   *
+   * @param signer             A {@link Signer} used to verify a signature.
+   * @param multiSignableBytes The bytes returned by {@link SignatureUtils#toMultiSignableBytesWithoutSigner}.
+   *
+   * @return {@code true} if the signature of {@code signer} is valid; otherwise {@code false}.
+   */
+  private boolean verifyMultiSigner(final Signer signer, final UnsignedByteArray multiSignableBytes) {
+    final UnsignedByteArray unsignedTransactionBytes = this.getSignatureUtils().addSignerToMultiSignableBytes(
+      multiSignableBytes, signer.signingPublicKey().deriveAddress()
+    );
+    return verifyHelper(signer, unsignedTransactionBytes);
+  }
+
   /**
    * Helper to verify a signed transaction.
    *
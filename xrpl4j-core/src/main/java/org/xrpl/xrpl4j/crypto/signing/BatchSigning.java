@@ -0,0 +1,66 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.crypto.FutureUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Helpers for the batch signing methods of {@link TransactionSigner} and the parallel verification methods of
+ * {@link TransactionVerifier}.
+ */
+final class BatchSigning {
+
+  private BatchSigning() {
+  }
+
+  /**
+   * Wait for every future in {@code futuresByKey} to complete.
+   *
+   * @param futuresByKey A {@link Map} of keys to the futures of their results, in order.
+   * @param <K>          The type of key.
+   * @param <V>          The type of result.
+   *
+   * @return A {@link Map} with the same keys, in the same iteration order, as {@code futuresByKey}, whose values are
+   *   the results of each key's futures in order.
+   * @throws RuntimeException the exception thrown by the first future that failed.
+   */
+  static <K, V> Map<K, List<V>> joinAll(final Map<K, List<CompletableFuture<V>>> futuresByKey) {
+    final List<CompletableFuture<V>> allFutures = new ArrayList<>();
+    futuresByKey.values().forEach(allFutures::addAll);
+    final Iterator<V> values = FutureUtils.joinAll(allFutures).iterator();
+
+    final Map<K, List<V>> results = new LinkedHashMap<>();
+    futuresByKey.forEach((key, futures) -> {
+      final List<V> keyValues = new ArrayList<>(futures.size());
+      futures.forEach(future -> keyValues.add(values.next()));
+      results.put(key, keyValues);
+    });
+    return results;
+  }
+
+}
@@ -0,0 +1,64 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The encoded bytes of a signed {@link Transaction}, which {@link SignatureUtils} builds while signing so that
+ * {@link SingleSignedTransaction#signedTransactionBytes()} does not encode the transaction again.
+ *
+ * <p>Instances can only be created by {@link SignatureUtils}, and the bytes are only used for the exact transaction
+ * instance they were encoded from, so they can never disagree with {@link SingleSignedTransaction#signedTransaction()}.
+ * </p>
+ */
+public final class EncodedSignedTransaction {
+
+  private final Transaction signedTransaction;
+  private final UnsignedByteArray signedTransactionBytes;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param signedTransaction      The signed {@link Transaction}.
+   * @param signedTransactionBytes The canonical binary encoding of {@code signedTransaction}.
+   */
+  EncodedSignedTransaction(final Transaction signedTransaction, final UnsignedByteArray signedTransactionBytes) {
+    this.signedTransaction = Objects.requireNonNull(signedTransaction);
+    this.signedTransactionBytes = Objects.requireNonNull(signedTransactionBytes);
+  }
+
+  /**
+   * The encoded bytes of {@code signedTransaction}, if they were built from that same instance.
+   *
+   * @param signedTransaction A signed {@link Transaction}.
+   *
+   * @return An optionally-present {@link UnsignedByteArray}.
+   */
+  Optional<UnsignedByteArray> bytesOf(final Transaction signedTransaction) {
+    return this.signedTransaction == signedTransaction ? Optional.of(signedTransactionBytes) : Optional.empty();
+  }
+
+}
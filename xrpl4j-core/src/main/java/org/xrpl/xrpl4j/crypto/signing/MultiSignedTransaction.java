@@ -29,8 +29,9 @@ import org.xrpl.xrpl4j.model.transactions.SignerWrapper;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.math.BigInteger;
-import java.util.Comparator;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -71,15 +72,16 @@ public interface MultiSignedTransaction<T extends Transaction> extends SignedTra
   @Override
   @Value.Derived
   default T signedTransaction() {
+    // Decode each signer's AccountID once, rather than twice per comparison.
+    AddressCodec addressCodec = AddressCodec.getInstance();
     List<SignerWrapper> signers = signerSet().stream()
       .map(SignerWrapper::of)
-      .sorted(
-        Comparator.comparing(
-          signature -> new BigInteger(
-            AddressCodec.getInstance().decodeAccountId(signature.signer().account()).hexValue(), 16
-          )
-        )
-      )
+      .map(signer -> new SimpleImmutableEntry<>(
+        new BigInteger(1, addressCodec.decodeAccountId(signer.signer().account()).toByteArray()),
+        signer
+      ))
+      .sorted(Map.Entry.comparingByKey())
+      .map(Map.Entry::getValue)
       .collect(Collectors.toList());
 
     return SignatureUtils.getInstance().addMultiSignaturesToTransaction(unsignedTransaction(), signers);
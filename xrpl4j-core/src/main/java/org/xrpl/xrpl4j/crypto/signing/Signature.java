@@ -23,7 +23,6 @@ package org.xrpl.xrpl4j.crypto.signing;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Lazy;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
@@ -84,7 +83,7 @@ public interface Signature {
   @Lazy
   @JsonIgnore
   default String base16Value() {
-    return BaseEncoding.base16().encode(value().toByteArray());
+    return value().hexValue();
   }
 
   /**
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
@@ -80,6 +81,7 @@ public class SignatureUtils {
 
   private final ObjectMapper objectMapper;
   private final XrplBinaryCodec binaryCodec;
+  private final TransactionCodec transactionCodec;
 
   /**
    * Required-args constructor.
@@ -90,6 +92,7 @@ public class SignatureUtils {
   public SignatureUtils(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
     this.objectMapper = Objects.requireNonNull(objectMapper);
     this.binaryCodec = Objects.requireNonNull(binaryCodec);
+    this.transactionCodec = new TransactionCodec(objectMapper, binaryCodec);
   }
 
   /**
@@ -101,13 +104,7 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return transactionCodec.encodeForSigning(transaction);
   }
 
   /**
@@ -140,14 +137,41 @@ public class SignatureUtils {
   public UnsignedByteArray toMultiSignableBytes(final Transaction transaction, final Address signerAddress) {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signerAddress);
+    return transactionCodec.encodeForMultiSigning(transaction, signerAddress);
+  }
 
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress.value());
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+  /**
+   * Helper method to add the {@link Address} of one signer to bytes returned by
+   * {@link #toMultiSignableBytesWithoutSigner(Transaction)}. This returns the same bytes as
+   * {@link #toMultiSignableBytes(Transaction, Address)}, but without encoding the transaction again for each signer.
+   *
+   * @param multiSignableBytesWithoutSigner An {@link UnsignedByteArray} returned by
+   *                                        {@link #toMultiSignableBytesWithoutSigner(Transaction)}. It is not
+   *                                        modified.
+   * @param signerAddress                   The {@link Address} of the signer of the transaction.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray addSignerToMultiSignableBytes(
+    final UnsignedByteArray multiSignableBytesWithoutSigner, final Address signerAddress
+  ) {
+    Objects.requireNonNull(multiSignableBytesWithoutSigner);
+    Objects.requireNonNull(signerAddress);
+    return transactionCodec.addMultiSigningAccountId(multiSignableBytesWithoutSigner, signerAddress);
+  }
+
+  /**
+   * Helper method to convert a {@link Transaction} into the bytes that all of its signers sign, without the
+   * {@link Address} of any particular signer. Pass the result to
+   * {@link #addSignerToMultiSignableBytes(UnsignedByteArray, Address)} to obtain the bytes for each signer.
+   *
+   * @param transaction A {@link Transaction} to be signed.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray toMultiSignableBytesWithoutSigner(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    return transactionCodec.encodeForMultiSigningWithoutSigner(transaction);
   }
 
   /**
@@ -169,6 +193,54 @@ public class SignatureUtils {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signature);
 
+    return SingleSignedTransaction.<T>builder()
+      .unsignedTransaction(transaction)
+      .signature(signature)
+      .signedTransaction(withTransactionSignature(transaction, signature))
+      .build();
+  }
+
+  /**
+   * Add {@link Transaction#transactionSignature()} to the given transaction, reusing the bytes that were signed to
+   * build {@link SingleSignedTransaction#signedTransactionBytes()}. The signature is spliced into
+   * {@code signableBytes} at its canonical position, so the transaction does not need to be encoded again to be
+   * submitted or hashed. Transactions with other serialized fields that are not signing fields (such as
+   * {@code Signers}, or the {@code Signature} of a {@code PaymentChannelClaim}) are encoded again instead, because
+   * those fields are missing from {@code signableBytes}.
+   *
+   * @param transaction   An unsigned {@link Transaction} to add a signature to. Note that {@link
+   *                      Transaction#transactionSignature()} must not be provided, and {@link
+   *                      Transaction#signingPublicKey()} must be provided.
+   * @param signature     A {@link Signature} containing the transaction signature.
+   * @param signableBytes The bytes that were signed, as returned by {@link #toSignableBytes(Transaction)} for
+   *                      {@code transaction}.
+   * @param <T>           extends {@link Transaction}.
+   *
+   * @return A copy of {@code transaction} with the {@link Transaction#transactionSignature()} field added.
+   */
+  public <T extends Transaction> SingleSignedTransaction<T> addSignatureToTransaction(
+    final T transaction, final Signature signature, final UnsignedByteArray signableBytes
+  ) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(signature);
+    Objects.requireNonNull(signableBytes);
+
+    final T signedTransaction = withTransactionSignature(transaction, signature);
+    ImmutableSingleSignedTransaction.Builder<T> builder = SingleSignedTransaction.<T>builder()
+      .unsignedTransaction(transaction)
+      .signature(signature)
+      .signedTransaction(signedTransaction);
+    // Non-signing fields such as Signers are missing from signableBytes, so such transactions must be re-encoded.
+    if (!transactionCodec.hasNonSigningFields(transaction)) {
+      builder.encodedSignedTransaction(new EncodedSignedTransaction(
+        signedTransaction, binaryCodec.addTransactionSignature(signableBytes, signature.value())
+      ));
+    }
+    return builder.build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends Transaction> T withTransactionSignature(final T transaction, final Signature signature) {
     Preconditions.checkArgument(
       !transaction.transactionSignature().isPresent(),
       "Transactions to be signed must not already include a signature."
@@ -275,11 +347,7 @@ public class SignatureUtils {
       // Should never happen, but will in a unit test if we miss one.
       throw new IllegalArgumentException("Signing fields could not be added to the transaction.");
     }
-    return SingleSignedTransaction.<T>builder()
-      .unsignedTransaction(transaction)
-      .signature(signature)
-      .signedTransaction((T) transactionWithSignature)
-      .build();
+    return (T) transactionWithSignature;
   }
 
   /**
@@ -20,11 +20,16 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.immutables.value.Value;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Optional;
+
 /**
  * Holds the bytes for a signed XRPL transaction.
  *
@@ -53,4 +58,29 @@ public interface SingleSignedTransaction<T extends Transaction> extends SignedTr
    */
   Signature signature();
 
+  /**
+   * The bytes of {@link #signedTransaction()} that {@link SignatureUtils} encoded while signing. This is an
+   * implementation detail of {@link #signedTransactionBytes()} and is not part of this value's equality or JSON.
+   *
+   * @return An optionally-present {@link EncodedSignedTransaction}.
+   */
+  @Value.Auxiliary
+  @JsonIgnore
+  Optional<EncodedSignedTransaction> encodedSignedTransaction();
+
+  /**
+   * The {@link #signedTransaction()} encoded into bytes that are suitable for submission to the XRP Ledger. When this
+   * transaction was signed by {@link SignatureUtils}, the bytes built while signing are reused, so that submission and
+   * {@link #hash()} do not encode the transaction again.
+   *
+   * @return A byte-array containing the signed transaction blob.
+   */
+  @Override
+  @Value.Derived
+  default UnsignedByteArray signedTransactionBytes() {
+    return encodedSignedTransaction()
+      .flatMap(encoded -> encoded.bytesOf(signedTransaction()))
+      .orElseGet(() -> TransactionCodec.getInstance().encode(signedTransaction()));
+  }
+
 }
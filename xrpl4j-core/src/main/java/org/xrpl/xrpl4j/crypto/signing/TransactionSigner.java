@@ -26,7 +26,14 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * Defines how to sign an XRPL transaction using private key material supplied by the caller.
@@ -66,6 +73,54 @@ public interface TransactionSigner<P extends PrivateKeyable> {
    */
   Signature sign(P privateKeyable, UnsignedClaim unsignedClaim);
 
+  /**
+   * Sign every transaction in {@code transactions} using {@code privateKeyable} and the single-sign mechanism. The
+   * transactions are encoded and signed in parallel on {@code executor}.
+   *
+   * @param privateKeyable The {@link P} used to sign {@code transactions}.
+   * @param transactions   A {@link List} of {@link Transaction}s to sign.
+   * @param executor       The {@link Executor} to encode and sign on.
+   * @param <T>            The type {@link Transaction} to be signed.
+   *
+   * @return A {@link List} containing a {@link SingleSignedTransaction} for each of {@code transactions}, in the same
+   *   order.
+   */
+  default <T extends Transaction> List<SingleSignedTransaction<T>> signAll(
+    P privateKeyable, List<T> transactions, Executor executor
+  ) {
+    Objects.requireNonNull(privateKeyable);
+    Objects.requireNonNull(transactions);
+    return signAll(Collections.singletonMap(privateKeyable, transactions), executor).get(privateKeyable);
+  }
+
+  /**
+   * Sign every transaction in {@code transactionsByKey} using the key it is mapped from and the single-sign mechanism.
+   * The transactions for all keys are encoded and signed in parallel on {@code executor}.
+   *
+   * @param transactionsByKey A {@link Map} of each {@link P} to the {@link Transaction}s it should sign.
+   * @param executor          The {@link Executor} to encode and sign on.
+   * @param <T>               The type {@link Transaction} to be signed.
+   *
+   * @return A {@link Map} with the same keys, in the same iteration order, as {@code transactionsByKey}, whose values
+   *   contain a {@link SingleSignedTransaction} for each of that key's transactions, in the same order.
+   */
+  default <T extends Transaction> Map<P, List<SingleSignedTransaction<T>>> signAll(
+    Map<P, List<T>> transactionsByKey, Executor executor
+  ) {
+    Objects.requireNonNull(transactionsByKey);
+    Objects.requireNonNull(executor);
+
+    final Map<P, List<CompletableFuture<SingleSignedTransaction<T>>>> futures = new LinkedHashMap<>();
+    transactionsByKey.forEach((privateKeyable, transactions) -> futures.put(
+      Objects.requireNonNull(privateKeyable),
+      transactions.stream()
+        .map(Objects::requireNonNull)
+        .map(transaction -> CompletableFuture.supplyAsync(() -> sign(privateKeyable, transaction), executor))
+        .collect(Collectors.toList())
+    ));
+    return BatchSigning.joinAll(futures);
+  }
+
   /**
    * Obtain a signature for the supplied unsigned transaction using the supplied {@link P}. The primary reason this
    * method's signature diverges from {@link #sign(PrivateKeyable, Transaction)} is that for multi-sign scenarios, the
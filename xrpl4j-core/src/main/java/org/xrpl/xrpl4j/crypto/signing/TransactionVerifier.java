@@ -23,7 +23,9 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Defines how to verify an XRPL transaction using public key material supplied by the caller.
@@ -76,4 +78,28 @@ public interface TransactionVerifier {
     Set<Signer> signerSet, T unsignedTransaction, int minSigners
   );
 
+  /**
+   * Verify that {@code minSigners} from the collection of public keys have supplied signatures for a given signed
+   * transaction, checking the signers in parallel on {@code executor}.
+   *
+   * <p>The default implementation ignores {@code executor} and calls
+   * {@link #verifyMultiSigned(Set, Transaction, int)}. Implementations that override this method must be safe to use
+   * from the threads of {@code executor}.</p>
+   *
+   * @param signerSet           A {@link Set} of {@link Signer} objects used for verification.
+   * @param unsignedTransaction The transaction of type {@link T} that was signed.
+   * @param minSigners          The minimum number of signatures required to form a quorum.
+   * @param executor            The {@link Executor} to verify signatures on.
+   * @param <T>                 The actual type of {@link Transaction}.
+   *
+   * @return {@code true} if a minimum number of signatures are valid for the supplied transaction; {@code false}
+   *   otherwise.
+   */
+  default <T extends Transaction> boolean verifyMultiSigned(
+    final Set<Signer> signerSet, final T unsignedTransaction, final int minSigners, final Executor executor
+  ) {
+    Objects.requireNonNull(executor);
+    return verifyMultiSigned(signerSet, unsignedTransaction, minSigners);
+  }
+
 }
@@ -25,7 +25,6 @@ import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import com.google.common.hash.Hashing;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.signers.ECDSASigner;
@@ -49,9 +48,15 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * An implementation of {@link SignatureService} that uses an in-memory secret value to deterministically create a seed
@@ -101,8 +106,8 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
 
     this.commonBcSignatureService = new BcSignatureService(
       SignatureUtils.getInstance(),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
@@ -127,6 +132,48 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     return getTransactionSigner(privateKeyReference).sign(unsignedClaim);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each {@link PrivateKeyReference} is resolved to its derived private key once, and the transactions are then
+   * signed as a batch by the underlying {@link BcSignatureService}. The transactions of references that derive the
+   * same private key are signed together, but each reference still gets back the results for its own list.</p>
+   */
+  @Override
+  public <T extends Transaction> Map<PrivateKeyReference, List<SingleSignedTransaction<T>>> signAll(
+    final Map<PrivateKeyReference, List<T>> transactionsByKey, final Executor executor
+  ) {
+    Objects.requireNonNull(transactionsByKey);
+    Objects.requireNonNull(executor);
+
+    final Map<PrivateKeyReference, PrivateKey> privateKeys = new LinkedHashMap<>();
+    // The index in its private key's list of the first transaction of each reference.
+    final Map<PrivateKeyReference, Integer> offsets = new HashMap<>();
+    final Map<PrivateKey, List<T>> transactionsByPrivateKey = new LinkedHashMap<>();
+    transactionsByKey.forEach((privateKeyReference, transactions) -> {
+      Objects.requireNonNull(transactions);
+      final PrivateKey privateKey = getTransactionSigner(Objects.requireNonNull(privateKeyReference)).privateKey;
+      final List<T> privateKeyTransactions = transactionsByPrivateKey.computeIfAbsent(
+        privateKey, key -> new ArrayList<>()
+      );
+      offsets.put(privateKeyReference, privateKeyTransactions.size());
+      privateKeyTransactions.addAll(transactions);
+      privateKeys.put(privateKeyReference, privateKey);
+    });
+
+    final Map<PrivateKey, List<SingleSignedTransaction<T>>> signedByPrivateKey =
+      this.commonBcSignatureService.signAll(transactionsByPrivateKey, executor);
+    final Map<PrivateKeyReference, List<SingleSignedTransaction<T>>> signed = new LinkedHashMap<>();
+    privateKeys.forEach((privateKeyReference, privateKey) -> {
+      final int offset = offsets.get(privateKeyReference);
+      final int size = transactionsByKey.get(privateKeyReference).size();
+      signed.put(
+        privateKeyReference, new ArrayList<>(signedByPrivateKey.get(privateKey).subList(offset, offset + size))
+      );
+    });
+    return signed;
+  }
+
   @Override
   public <T extends Transaction> Signature multiSign(
     final PrivateKeyReference privateKeyReference, final T transaction
@@ -156,16 +203,23 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     Objects.requireNonNull(unsignedTransaction);
     Preconditions.checkArgument(minSigners > 0, "Valid multisigned transactions must have at least 1 signer");
 
-    final long numValidSignatures = signerSet.stream()
-      // Check signature against all public keys, hoping for a valid verification against one.
-      .map(signer -> this.commonBcSignatureService.verifyMultiSigned(
-          Sets.newHashSet(signer), unsignedTransaction, 1
-        )
-      )
-      .filter($ -> $) // Only count it if it's 'true'
-      .count();
+    // Signers are verified with their public keys, so no private key needs to be derived.
+    return this.commonBcSignatureService.verifyMultiSigned(signerSet, unsignedTransaction, minSigners);
+  }
+
+  @Override
+  public <T extends Transaction> boolean verifyMultiSigned(
+    final Set<Signer> signerSet,
+    final T unsignedTransaction,
+    final int minSigners,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(signerSet);
+    Objects.requireNonNull(unsignedTransaction);
+    Preconditions.checkArgument(minSigners > 0, "Valid multisigned transactions must have at least 1 signer");
+    Objects.requireNonNull(executor);
 
-    return numValidSignatures >= minSigners;
+    return this.commonBcSignatureService.verifyMultiSigned(signerSet, unsignedTransaction, minSigners, executor);
   }
 
   //////////////////
@@ -20,7 +20,12 @@ package org.xrpl.xrpl4j.crypto.signing.bc;
  * =========================LICENSE_END==================================
  */
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.AsymmetricKeyParameter;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
@@ -43,6 +48,8 @@ import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <p>A {@link SignatureService} that uses BouncyCastle internally to sign with an in-memory instance of
@@ -51,13 +58,30 @@ import java.util.Objects;
  * <p>WARNING: This implementation utilizes in-memory private-key material. Consider instead using a
  * {@link SignatureService} that uses instance of {@link PrivateKeyReference} for improved security.</p>
  *
+ * <p>BouncyCastle signers are stateful, so a signer instance can only be used by one thread at a time. Unless it is
+ * constructed with a specific pair of signers, this service gives each thread its own signers, so that signing and
+ * verification on different threads do not contend with each other.</p>
+ *
+ * <p>Public keys are converted to BouncyCastle key parameters once and kept in a bounded cache per key type, so
+ * verifying many signatures from the same keys does not decompress the same secp256k1 point every time. BouncyCastle
+ * also stores the precomputed multiples of a secp256k1 point that it uses for verification on the point itself, so
+ * those are reused for every key that stays in the cache.</p>
+ *
  * @see "https://www.bouncycastle.org/java.html"
  * @see "https://www.bouncycastle.org/fips-java/BCFipsIn100.pdf"
  */
 public class BcSignatureService extends AbstractSignatureService<PrivateKey> implements SignatureService<PrivateKey> {
 
-  private final Ed25519Signer ed25519Signer;
-  private final ECDSASigner ecdsaSigner;
+  /**
+   * The default {@link CaffeineSpec} of the cache of verification keys.
+   */
+  public static final String DEFAULT_VERIFICATION_KEY_CACHE_SPEC = "maximumSize=4096";
+
+  private final Supplier<Ed25519Signer> ed25519Signers;
+  private final Supplier<ECDSASigner> ecdsaSigners;
+  private final boolean sharedSigners;
+  private final LoadingCache<PublicKey, Ed25519PublicKeyParameters> ed25519VerificationKeys;
+  private final LoadingCache<PublicKey, ECPublicKeyParameters> ecVerificationKeys;
 
   /**
    * Required-args Constructor for use in development mode.
@@ -65,14 +89,18 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
   public BcSignatureService() {
     this(
       new SignatureUtils(ObjectMapperFactory.create(), XrplBinaryCodec.getInstance()),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
   /**
    * Required-args Constructor.
    *
+   * <p>The supplied signers are shared by every thread that uses this service, so calls that use the same signer are
+   * serialized. Prefer {@link #BcSignatureService(SignatureUtils, Supplier, Supplier)} when this service is used from
+   * more than one thread.</p>
+   *
    * @param signatureUtils An {@link SignatureUtils}.
    * @param ed25519Signer  An {@link Ed25519Signer}.
    * @param ecdsaSigner    An {@link ECDSASigner}.
@@ -83,56 +111,119 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
     final ECDSASigner ecdsaSigner
   ) {
     super(signatureUtils);
-    this.ed25519Signer = Objects.requireNonNull(ed25519Signer);
-    this.ecdsaSigner = Objects.requireNonNull(ecdsaSigner);
+    Objects.requireNonNull(ed25519Signer);
+    Objects.requireNonNull(ecdsaSigner);
+    this.ed25519Signers = () -> ed25519Signer;
+    this.ecdsaSigners = () -> ecdsaSigner;
+    this.sharedSigners = true;
+    this.ed25519VerificationKeys = newVerificationKeyCache(
+      CaffeineSpec.parse(DEFAULT_VERIFICATION_KEY_CACHE_SPEC), BcKeyUtils::toEd25519PublicKeyParameters
+    );
+    this.ecVerificationKeys = newVerificationKeyCache(
+      CaffeineSpec.parse(DEFAULT_VERIFICATION_KEY_CACHE_SPEC), BcKeyUtils::toEcPublicKeyParameters
+    );
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param signatureUtils        An {@link SignatureUtils}.
+   * @param ed25519SignerSupplier A {@link Supplier} of new {@link Ed25519Signer} instances. It is called at most once
+   *                              per thread that uses this service.
+   * @param ecdsaSignerSupplier   A {@link Supplier} of new {@link ECDSASigner} instances. It is called at most once per
+   *                              thread that uses this service.
+   */
+  public BcSignatureService(
+    final SignatureUtils signatureUtils,
+    final Supplier<Ed25519Signer> ed25519SignerSupplier,
+    final Supplier<ECDSASigner> ecdsaSignerSupplier
+  ) {
+    this(
+      signatureUtils,
+      ed25519SignerSupplier,
+      ecdsaSignerSupplier,
+      CaffeineSpec.parse(DEFAULT_VERIFICATION_KEY_CACHE_SPEC)
+    );
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param signatureUtils           An {@link SignatureUtils}.
+   * @param ed25519SignerSupplier    A {@link Supplier} of new {@link Ed25519Signer} instances. It is called at most
+   *                                 once per thread that uses this service.
+   * @param ecdsaSignerSupplier      A {@link Supplier} of new {@link ECDSASigner} instances. It is called at most once
+   *                                 per thread that uses this service.
+   * @param verificationKeyCacheSpec A {@link CaffeineSpec} that configures each of the caches of ed25519 and
+   *                                 secp256k1 public keys converted for verification, for example
+   *                                 {@code maximumSize=10000}. Use {@code maximumSize=0} to disable the caches.
+   */
+  public BcSignatureService(
+    final SignatureUtils signatureUtils,
+    final Supplier<Ed25519Signer> ed25519SignerSupplier,
+    final Supplier<ECDSASigner> ecdsaSignerSupplier,
+    final CaffeineSpec verificationKeyCacheSpec
+  ) {
+    super(signatureUtils);
+    final ThreadLocal<Ed25519Signer> ed25519Signer = ThreadLocal.withInitial(
+      Objects.requireNonNull(ed25519SignerSupplier)
+    );
+    final ThreadLocal<ECDSASigner> ecdsaSigner = ThreadLocal.withInitial(Objects.requireNonNull(ecdsaSignerSupplier));
+    this.ed25519Signers = ed25519Signer::get;
+    this.ecdsaSigners = ecdsaSigner::get;
+    this.sharedSigners = false;
+    Objects.requireNonNull(verificationKeyCacheSpec);
+    this.ed25519VerificationKeys = newVerificationKeyCache(
+      verificationKeyCacheSpec, BcKeyUtils::toEd25519PublicKeyParameters
+    );
+    this.ecVerificationKeys = newVerificationKeyCache(verificationKeyCacheSpec, BcKeyUtils::toEcPublicKeyParameters);
   }
 
   @Override
-  protected synchronized Signature edDsaSign(
+  protected Signature edDsaSign(
     final PrivateKey privateKey, final UnsignedByteArray signableTransactionBytes
   ) {
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final byte[] privateKeyBytes = new byte[32];
-    try {
-      // Remove ED prefix byte (if it's there)
-      System.arraycopy(privateKey.value().toByteArray(), 1, privateKeyBytes, 0, 32);
-      Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
-        privateKeyBytes, 0
-      );
+    return edDsaSign(toEd25519PrivateKeyParameters(privateKey), signableTransactionBytes);
+  }
+
+  private Signature edDsaSign(
+    final Ed25519PrivateKeyParameters privateKeyParameters, final UnsignedByteArray signableTransactionBytes
+  ) {
+    Objects.requireNonNull(signableTransactionBytes);
 
+    final byte[] signableBytes = signableTransactionBytes.toByteArray();
+    final UnsignedByteArray sigBytes = UnsignedByteArray.of(withSigner(ed25519Signers.get(), ed25519Signer -> {
       ed25519Signer.reset();
       ed25519Signer.init(true, privateKeyParameters);
-      ed25519Signer.update(
-        signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size()
-      );
-
-      final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
-      return Signature.builder()
-        .value(sigBytes)
-        .build();
-    } finally {
-      // Clear out the copied array, which was only used for signing.
-      for (int i = 0; i < 32; i++) {
-        privateKeyBytes[i] = (byte) 0;
-      }
-    }
+      ed25519Signer.update(signableBytes, 0, signableBytes.length);
+      return ed25519Signer.generateSignature();
+    }));
+    return Signature.builder()
+      .value(sigBytes)
+      .build();
   }
 
-  @SuppressWarnings("checkstyle:LocalVariableName")
   @Override
-  protected synchronized Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
+  protected Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(transactionBytes);
 
-    final UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
+    return ecDsaSign(toEcPrivateKeyParameters(privateKey), transactionBytes);
+  }
 
-    final BigInteger privateKeyInt = new BigInteger(privateKey.value().toByteArray());
-    final ECPrivateKeyParameters parameters = new ECPrivateKeyParameters(privateKeyInt, Secp256k1.EC_DOMAIN_PARAMETERS);
+  @SuppressWarnings("checkstyle:LocalVariableName")
+  private Signature ecDsaSign(final ECPrivateKeyParameters parameters, final UnsignedByteArray transactionBytes) {
+    Objects.requireNonNull(transactionBytes);
+
+    final UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
 
-    ecdsaSigner.init(true, parameters);
-    final BigInteger[] signatures = ecdsaSigner.generateSignature(messageHash.toByteArray());
+    final BigInteger[] signatures = withSigner(ecdsaSigners.get(), ecdsaSigner -> {
+      ecdsaSigner.init(true, parameters);
+      return ecdsaSigner.generateSignature(messageHash.toByteArray());
+    });
     final BigInteger r = signatures[0];
     BigInteger s = signatures[1];
     final BigInteger otherS = Secp256k1.EC_DOMAIN_PARAMETERS.getN().subtract(s);
@@ -151,41 +242,75 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
       .build();
   }
 
+  /**
+   * Converts {@code privateKey} to BouncyCastle key parameters once, so that a batch of transactions signed with the
+   * same key shares them. For ed25519 keys this includes the public key, which is needed for every signature and
+   * otherwise has to be derived each time.
+   *
+   * @param privateKey A {@link PrivateKey} used for signing.
+   *
+   * @return A {@link Function} that signs an {@link UnsignedByteArray} with {@code privateKey}.
+   */
+  @Override
+  protected Function<UnsignedByteArray, Signature> signingFunction(final PrivateKey privateKey) {
+    Objects.requireNonNull(privateKey);
+
+    switch (privateKey.keyType()) {
+      case ED25519: {
+        final Ed25519PrivateKeyParameters privateKeyParameters = toEd25519PrivateKeyParameters(privateKey);
+        // BouncyCastle caches the derived public key in the parameters.
+        privateKeyParameters.generatePublicKey();
+        return signableTransactionBytes -> edDsaSign(privateKeyParameters, signableTransactionBytes);
+      }
+      case SECP256K1: {
+        final ECPrivateKeyParameters privateKeyParameters = toEcPrivateKeyParameters(privateKey);
+        return signableTransactionBytes -> ecDsaSign(privateKeyParameters, signableTransactionBytes);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PrivateKey KeyType: {}" + privateKey.keyType());
+      }
+    }
+  }
+
   @Override
-  protected synchronized boolean edDsaVerify(
+  protected boolean edDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
     Objects.requireNonNull(transactionBytes);
     Objects.requireNonNull(signature);
 
-    final Ed25519PublicKeyParameters bcPublicKey = BcKeyUtils.toEd25519PublicKeyParameters(publicKey);
+    final Ed25519PublicKeyParameters bcPublicKey = ed25519VerificationKeys.get(publicKey);
 
-    ed25519Signer.reset();
-    ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(transactionBytes.toByteArray(), 0, transactionBytes.length());
-
-    return ed25519Signer.verifySignature(signature.value().toByteArray());
+    final byte[] messageBytes = transactionBytes.toByteArray();
+    return withSigner(ed25519Signers.get(), ed25519Signer -> {
+      ed25519Signer.reset();
+      ed25519Signer.init(false, bcPublicKey);
+      ed25519Signer.update(messageBytes, 0, messageBytes.length);
+      return ed25519Signer.verifySignature(signature.value().toByteArray());
+    });
   }
 
 
   @Override
-  protected synchronized boolean ecDsaVerify(
+  protected boolean ecDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
     Objects.requireNonNull(transactionBytes);
     Objects.requireNonNull(signature);
 
-    final ECPublicKeyParameters bcPublicKey = BcKeyUtils.toEcPublicKeyParameters(publicKey);
+    final ECPublicKeyParameters bcPublicKey = ecVerificationKeys.get(publicKey);
     UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
     EcDsaSignature sig = EcDsaSignature.fromDer(signature.value().toByteArray());
     if (sig == null) {
       return false;
     }
 
-    ecdsaSigner.init(false, bcPublicKey);
-    return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    return withSigner(ecdsaSigners.get(), ecdsaSigner -> {
+      ecdsaSigner.init(false, bcPublicKey);
+      return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    });
   }
 
   @Override
@@ -194,4 +319,64 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
     return BcKeyUtils.toPublicKey(privateKey);
   }
 
+  /**
+   * Statistics of the caches of public keys converted for verification, summed over both key types.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats verificationKeyCacheStats() {
+    return ed25519VerificationKeys.stats().plus(ecVerificationKeys.stats());
+  }
+
+  /**
+   * Apply {@code operation} to {@code signer}, holding the signer's lock if it is shared between threads.
+   *
+   * @param signer    The signer to use.
+   * @param operation A {@link Function} that initializes and uses {@code signer}.
+   * @param <S>       The type of signer.
+   * @param <R>       The type of result.
+   *
+   * @return The result of {@code operation}.
+   */
+  private <S, R> R withSigner(final S signer, final Function<S, R> operation) {
+    if (sharedSigners) {
+      synchronized (signer) {
+        return operation.apply(signer);
+      }
+    }
+    return operation.apply(signer);
+  }
+
+  /**
+   * Build a cache of public keys converted for verification. Evictions run on the calling thread rather than
+   * asynchronously, so a cache with {@code maximumSize=0} never returns a hit.
+   */
+  private static <K extends AsymmetricKeyParameter> LoadingCache<PublicKey, K> newVerificationKeyCache(
+    final CaffeineSpec verificationKeyCacheSpec, final Function<PublicKey, K> converter
+  ) {
+    return Caffeine.from(verificationKeyCacheSpec)
+      .executor(Runnable::run)
+      .recordStats()
+      .build(converter::apply);
+  }
+
+  private static Ed25519PrivateKeyParameters toEd25519PrivateKeyParameters(final PrivateKey privateKey) {
+    final byte[] privateKeyBytes = new byte[32];
+    try {
+      // Remove ED prefix byte (if it's there)
+      System.arraycopy(privateKey.value().toByteArray(), 1, privateKeyBytes, 0, 32);
+      return new Ed25519PrivateKeyParameters(privateKeyBytes, 0);
+    } finally {
+      // Clear out the copied array, which was only used to construct the key parameters.
+      for (int i = 0; i < 32; i++) {
+        privateKeyBytes[i] = (byte) 0;
+      }
+    }
+  }
+
+  private static ECPrivateKeyParameters toEcPrivateKeyParameters(final PrivateKey privateKey) {
+    final BigInteger privateKeyInt = new BigInteger(privateKey.value().toByteArray());
+    return new ECPrivateKeyParameters(privateKeyInt, Secp256k1.EC_DOMAIN_PARAMETERS);
+  }
+
 }
@@ -30,7 +30,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Random;
 
 public class Base58Test {
 
@@ -89,4 +91,57 @@ public class Base58Test {
       logger.error("Test succeeded.");
     }
   }
+
+  @Test
+  public void encodeAndDecodeMatchBigIntegerArithmetic() {
+    Random random = new Random(58);
+    for (int length = 0; length <= 80; length++) {
+      for (int iteration = 0; iteration < 50; iteration++) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        // Exercise leading zero bytes, and zero bytes inside the number.
+        int leadingZeros = random.nextInt(4) == 0 ? random.nextInt(length + 1) : 0;
+        Arrays.fill(bytes, 0, leadingZeros, (byte) 0);
+        if (length > 0 && random.nextInt(4) == 0) {
+          bytes[random.nextInt(length)] = 0;
+        }
+
+        String encoded = Base58.encode(bytes);
+        assertThat(encoded).isEqualTo(referenceEncode(bytes));
+        assertThat(Base58.decode(encoded)).isEqualTo(bytes);
+      }
+    }
+  }
+
+  @Test
+  public void decodeKeepsLeadingZeroDigits() {
+    assertThat(Base58.decode("rrp")).isEqualTo(new byte[] {0, 0, 1});
+    assertThat(Base58.decode("rr")).isEqualTo(new byte[2]);
+    // Every character is validated, including those after leading zero digits.
+    try {
+      Base58.decode("rr0");
+      fail();
+    } catch (EncodingFormatException e) {
+      assertThat(e.getMessage()).isEqualTo("Illegal character 0 at 2");
+    }
+  }
+
+  /**
+   * Base58 encoding in terms of {@link BigInteger}: each leading zero byte becomes a zero digit, and the rest of the
+   * bytes are a big-endian number written in base 58.
+   */
+  private static String referenceEncode(byte[] bytes) {
+    StringBuilder digits = new StringBuilder();
+    BigInteger number = new BigInteger(1, bytes);
+    BigInteger base = BigInteger.valueOf(58);
+    while (number.signum() > 0) {
+      BigInteger[] quotientAndRemainder = number.divideAndRemainder(base);
+      digits.append(Base58.ALPHABET[quotientAndRemainder[1].intValue()]);
+      number = quotientAndRemainder[0];
+    }
+    for (int i = 0; i < bytes.length && bytes[i] == 0; i++) {
+      digits.append(Base58.ALPHABET[0]);
+    }
+    return digits.reverse().toString();
+  }
 }
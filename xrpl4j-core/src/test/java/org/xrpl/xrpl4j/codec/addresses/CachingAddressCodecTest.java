@@ -0,0 +1,104 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+/**
+ * Unit tests for {@link CachingAddressCodec}.
+ */
+class CachingAddressCodecTest {
+
+  private static final Address ADDRESS = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN");
+  private static final String ACCOUNT_ID = "BA8E78626EE42C41B46D46C3048DF3A1C3C87072";
+
+  private CachingAddressCodec codec;
+
+  @BeforeEach
+  void setUp() {
+    codec = new CachingAddressCodec(CaffeineSpec.parse("maximumSize=100"));
+  }
+
+  @Test
+  void decodeAccountId() {
+    assertThat(codec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID);
+    assertThat(codec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID);
+    assertThat(codec.decodeStats().missCount()).isEqualTo(1);
+    assertThat(codec.decodeStats().hitCount()).isEqualTo(1);
+
+    // Decoding populates the reverse direction too.
+    assertThat(codec.encodeAccountId(UnsignedByteArray.fromHex(ACCOUNT_ID))).isEqualTo(ADDRESS);
+    assertThat(codec.encodeStats().hitCount()).isEqualTo(1);
+    assertThat(codec.encodeStats().missCount()).isEqualTo(0);
+  }
+
+  @Test
+  void encodeAccountId() {
+    assertThat(codec.encodeAccountId(UnsignedByteArray.fromHex(ACCOUNT_ID))).isEqualTo(ADDRESS);
+    assertThat(codec.encodeAccountId(UnsignedByteArray.fromHex(ACCOUNT_ID))).isEqualTo(ADDRESS);
+    assertThat(codec.encodeStats().missCount()).isEqualTo(1);
+    assertThat(codec.encodeStats().hitCount()).isEqualTo(1);
+
+    assertThat(codec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID);
+    assertThat(codec.decodeStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void decodedAccountIdsAreNotShared() {
+    UnsignedByteArray accountId = codec.decodeAccountId(ADDRESS);
+    accountId.set(0, (byte) 0);
+    assertThat(codec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID);
+
+    UnsignedByteArray toEncode = UnsignedByteArray.fromHex(ACCOUNT_ID);
+    codec.invalidateAll();
+    codec.encodeAccountId(toEncode);
+    toEncode.set(0, (byte) 0);
+    assertThat(codec.decodeAccountId(ADDRESS).hexValue()).isEqualTo(ACCOUNT_ID);
+  }
+
+  @Test
+  void invalidInputIsNotCached() {
+    Address invalid = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErM");
+    assertThrows(EncodingFormatException.class, () -> codec.decodeAccountId(invalid));
+    assertThrows(EncodingFormatException.class, () -> codec.decodeAccountId(invalid));
+    assertThat(codec.decodeStats().missCount()).isEqualTo(2);
+
+    assertThrows(EncodeException.class, () -> codec.encodeAccountId(UnsignedByteArray.fromHex("BA8E")));
+  }
+
+  @Test
+  void createFromSpec() {
+    assertThat(AddressCodec.create(null)).isNotInstanceOf(CachingAddressCodec.class);
+    assertThat(AddressCodec.create(" ")).isNotInstanceOf(CachingAddressCodec.class);
+    assertThat(AddressCodec.create("maximumSize=10")).isInstanceOf(CachingAddressCodec.class);
+    assertThat(AddressCodec.create("maximumSize=ten")).isNotInstanceOf(CachingAddressCodec.class);
+    assertThat(AddressCodec.create("notAnOption")).isNotInstanceOf(CachingAddressCodec.class);
+  }
+
+}
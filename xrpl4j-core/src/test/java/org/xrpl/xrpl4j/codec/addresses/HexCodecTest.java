@@ -0,0 +1,101 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class HexCodecTest {
+
+  @Test
+  void encodeMatchesBaseEncoding() {
+    Random random = new Random(7);
+    for (int length = 0; length < 100; length++) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      String hex = BaseEncoding.base16().encode(bytes);
+      assertThat(HexCodec.encode(bytes)).isEqualTo(hex);
+      assertThat(HexCodec.decode(hex)).isEqualTo(bytes);
+      assertThat(HexCodec.decode(hex.toLowerCase())).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  void encodeSingleByte() {
+    assertThat(HexCodec.encode((byte) 0)).isEqualTo("00");
+    assertThat(HexCodec.encode((byte) 0x0A)).isEqualTo("0A");
+    assertThat(HexCodec.encode((byte) 0xFF)).isEqualTo("FF");
+  }
+
+  @Test
+  void encodeRange() {
+    byte[] bytes = new byte[] {0x01, 0x23, 0x45, 0x67, (byte) 0x89};
+    assertThat(HexCodec.encode(bytes, 1, 3)).isEqualTo("234567");
+    assertThat(HexCodec.encode(bytes, 5, 0)).isEmpty();
+
+    char[] destination = "XXXXXXXX".toCharArray();
+    HexCodec.encode(bytes, 3, 2, destination, 2);
+    assertThat(new String(destination)).isEqualTo("XX6789XX");
+  }
+
+  @Test
+  void encodeRangeOutOfBounds() {
+    byte[] bytes = new byte[4];
+    assertThrows(IndexOutOfBoundsException.class, () -> HexCodec.encode(bytes, 2, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> HexCodec.encode(bytes, -1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> HexCodec.encode(bytes, 0, 4, new char[7], 0));
+  }
+
+  @Test
+  void decodeMixedCase() {
+    assertThat(HexCodec.decode("aBcDeF")).isEqualTo(new byte[] {(byte) 0xAB, (byte) 0xCD, (byte) 0xEF});
+  }
+
+  @Test
+  void decodeOddLength() {
+    assertThat(HexCodec.decode("F")).isEqualTo(new byte[] {0x0F});
+    assertThat(HexCodec.decode("123")).isEqualTo(new byte[] {0x01, 0x23});
+    assertThat(HexCodec.decode("")).isEmpty();
+  }
+
+  @Test
+  void decodeInvalidCharacter() {
+    assertThrows(IllegalArgumentException.class, () -> HexCodec.decode("0G"));
+    assertThrows(IllegalArgumentException.class, () -> HexCodec.decode("0 "));
+    assertThrows(IllegalArgumentException.class, () -> HexCodec.decode(String.valueOf((char) 0xE9) + "0"));
+  }
+
+  @Test
+  void digit() {
+    assertThat(HexCodec.digit('0')).isEqualTo(0);
+    assertThat(HexCodec.digit('a')).isEqualTo(10);
+    assertThat(HexCodec.digit('F')).isEqualTo(15);
+    assertThat(HexCodec.digit('g')).isEqualTo(-1);
+    assertThat(HexCodec.digit(Character.MAX_VALUE)).isEqualTo(-1);
+  }
+
+}
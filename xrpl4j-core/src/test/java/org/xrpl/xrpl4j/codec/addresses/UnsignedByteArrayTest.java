@@ -124,6 +124,50 @@ public class UnsignedByteArrayTest {
     assertThat(array2.length()).isEqualTo(initialLength + 2);
   }
 
+  @Test
+  public void appendRawBytes() {
+    UnsignedByteArray array = UnsignedByteArray.withCapacity(1);
+    array.append((byte) 0).append(new byte[] {1, MAX_BYTE}).append(new byte[] {7, 8, 9}, 1, 2);
+    assertThat(array).isEqualTo(of(new byte[] {0, 1, MAX_BYTE, 8, 9}));
+    assertThat(array.length()).isEqualTo(5);
+    assertThat(array.getByte(2)).isEqualTo(MAX_BYTE);
+    assertThat(array.get(2).asInt()).isEqualTo(255);
+  }
+
+  @Test
+  public void appendRangeOfUnsignedByteArray() {
+    UnsignedByteArray source = of(new byte[] {1, 2, 3, 4});
+    UnsignedByteArray array = of(new byte[] {0}).append(source, 1, 2);
+    assertThat(array).isEqualTo(of(new byte[] {0, 2, 3}));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.append(source, 3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.append(source, -1, 1));
+  }
+
+  @Test
+  public void appendGrowsPastInitialCapacity() {
+    UnsignedByteArray array = UnsignedByteArray.empty();
+    for (int i = 0; i < 1000; i++) {
+      array.append((byte) i);
+    }
+    assertThat(array.length()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(array.getByte(i)).isEqualTo((byte) i);
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> array.getByte(1000));
+  }
+
+  @Test
+  public void ofRange() {
+    assertThat(UnsignedByteArray.of(new byte[] {0, 8, 9, 1}, 1, 2)).isEqualTo(of(new byte[] {8, 9}));
+    assertThrows(IndexOutOfBoundsException.class, () -> UnsignedByteArray.of(new byte[] {0, 1}, 1, 2));
+  }
+
+  @Test
+  public void hexValueOfEmptyAndOddHex() {
+    assertThat(UnsignedByteArray.empty().hexValue()).isEqualTo("");
+    assertThat(UnsignedByteArray.fromHex("F").hexValue()).isEqualTo("0F");
+  }
+
   @Test
   public void fill() {
     List<UnsignedByte> unsignedBytes1 = new ArrayList<>();
@@ -151,6 +195,10 @@ public class UnsignedByteArrayTest {
     assertThat(array1).isNotEqualTo(array2);
     assertThat(array1.slice(1, 3)).isEqualTo(array2);
     assertThrows(IndexOutOfBoundsException.class, () -> array1.slice(1, 5));
+
+    UnsignedByteArray slice = array1.slice(1, 3);
+    slice.set(0, (byte) 7);
+    assertThat(array1).isEqualTo(of(new byte[] {0, 8, 9, 1}));
   }
 
   @Test
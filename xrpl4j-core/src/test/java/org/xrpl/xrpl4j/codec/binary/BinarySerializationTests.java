@@ -32,6 +32,7 @@ import com.google.common.primitives.UnsignedLong;
 import com.ripple.cryptoconditions.CryptoConditionReader;
 import com.ripple.cryptoconditions.der.DerEncodingException;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.flags.AccountSetTransactionFlags;
@@ -76,6 +77,7 @@ public class BinarySerializationTests {
 
   ObjectMapper objectMapper = ObjectMapperFactory.create();
   XrplBinaryCodec binaryCodec = XrplBinaryCodec.getInstance();
+  TransactionCodec transactionCodec = TransactionCodec.getInstance();
 
   private static IssuedCurrencyAmount currencyAmount(int amount) {
     return IssuedCurrencyAmount.builder()
@@ -970,6 +972,12 @@ public class BinarySerializationTests {
     String transactionJson = objectMapper.writeValueAsString(trustSet);
     String transactionBinary = binaryCodec.encode(transactionJson);
     assertThat(transactionBinary).isEqualTo(expectedBinary);
+    assertThat(transactionCodec.encode(trustSet).hexValue()).isEqualTo(expectedBinary);
+    assertThat(transactionCodec.encodeForSigning(trustSet).hexValue())
+      .isEqualTo(binaryCodec.encodeForSigning(transactionJson));
+    Address signer = Address.of("rf1BiGeXwwQoi8Z2ueFYTEXSwuJYfV2Jpn");
+    assertThat(transactionCodec.encodeForMultiSigning(trustSet, signer).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(transactionJson, signer.value()));
 
     String decodedBinary = binaryCodec.decode(transactionBinary);
     TrustSet deserialized = objectMapper.readValue(
@@ -1661,6 +1669,28 @@ public class BinarySerializationTests {
     assertSerializesAndDeserializes(signerListSet, expectedBinary);
   }
 
+  @Test
+  public void transactionCodecDoesNotModifySuppliedObjectMapper() throws JsonProcessingException {
+    ObjectMapper suppliedMapper = ObjectMapperFactory.create();
+    TransactionCodec codec = new TransactionCodec(suppliedMapper, binaryCodec);
+
+    assertThat(suppliedMapper.getRegisteredModuleIds()).isEqualTo(objectMapper.getRegisteredModuleIds());
+    assertThat(suppliedMapper.writeValueAsString(UnsignedInteger.MAX_VALUE))
+      .isEqualTo(objectMapper.writeValueAsString(UnsignedInteger.MAX_VALUE))
+      .isEqualTo("4294967295");
+    assertThat(suppliedMapper.writeValueAsString(UnsignedLong.MAX_VALUE))
+      .isEqualTo(objectMapper.writeValueAsString(UnsignedLong.MAX_VALUE))
+      .isEqualTo("18446744073709551615");
+
+    AccountSet accountSet = AccountSet.builder()
+      .account(Address.of("rpP2GdsQwenNnFPefbXFgiTvEgJWQpq8Rw"))
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.MAX_VALUE)
+      .build();
+    assertThat(codec.encode(accountSet).hexValue())
+      .isEqualTo(binaryCodec.encode(objectMapper.writeValueAsString(accountSet)));
+  }
+
   private <T extends Transaction> void assertSerializesAndDeserializes(
     T transaction,
     String expectedBinary
@@ -1675,6 +1705,9 @@ public class BinarySerializationTests {
       objectMapper.getTypeFactory().constructType(transaction.getClass())
     );
     assertThat(deserialized).isEqualTo(transaction);
+    assertThat(transactionCodec.decode(UnsignedByteArray.fromHex(transactionBinary))).isEqualTo(transaction);
+    assertThat(transactionCodec.decode(UnsignedByteArray.fromHex(transactionBinary), transaction.getClass()))
+      .isEqualTo(transaction);
   }
 
 }
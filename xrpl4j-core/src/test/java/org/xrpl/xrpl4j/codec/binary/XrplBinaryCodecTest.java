@@ -21,9 +21,12 @@ package org.xrpl.xrpl4j.codec.binary;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
 import com.google.common.primitives.UnsignedInteger;
 import org.assertj.core.api.Assertions;
@@ -32,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
 import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
@@ -49,7 +53,11 @@ import org.xrpl.xrpl4j.model.transactions.TrustSet;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 class XrplBinaryCodecTest {
@@ -77,6 +85,78 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(SIMPLE_HEX)).isEqualTo(SIMPLE_JSON);
   }
 
+  @Test
+  void decodeBytes() {
+    assertThat(encoder.decode(UnsignedByteArray.fromHex(SIMPLE_HEX))).isEqualTo(SIMPLE_JSON);
+    assertThat(encoder.decode(UnsignedByteArray.fromHex(MULTI_LEVEL_OBJECT_HEX))).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+  }
+
+  @Test
+  void decodeByteArrayAndBuffer() {
+    byte[] bytes = UnsignedByteArray.fromHex(MULTI_LEVEL_OBJECT_HEX).toByteArray();
+    assertThat(encoder.decode(bytes)).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+    assertThat(encoder.decode(ByteBuffer.wrap(bytes))).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    assertThat(encoder.decode(direct)).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+    assertThat(direct.position()).isEqualTo(0);
+
+    // Only the remaining bytes of a heap buffer slice are decoded.
+    byte[] padded = UnsignedByteArray.fromHex("FFFF" + SIMPLE_HEX + "FF").toByteArray();
+    ByteBuffer slice = ByteBuffer.wrap(padded, 2, padded.length - 3).slice();
+    assertThat(encoder.decode(slice)).isEqualTo(SIMPLE_JSON);
+    ByteBuffer window = ByteBuffer.wrap(padded, 2, padded.length - 3);
+    assertThat(encoder.decode(window)).isEqualTo(SIMPLE_JSON);
+    assertThat(window.position()).isEqualTo(2);
+  }
+
+  @Test
+  void encodeToBytesAndBuffer() throws JsonProcessingException {
+    assertThat(encoder.encodeToBytes(MULTI_LEVEL_OBJECT_JSON).hexValue()).isEqualTo(MULTI_LEVEL_OBJECT_HEX);
+
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    buffer.put((byte) 0x7F);
+    assertThat(encoder.encodeInto(SIMPLE_JSON, buffer)).isEqualTo(SIMPLE_HEX.length() / 2);
+    assertThat(encoder.encodeInto(MULTI_LEVEL_OBJECT_JSON, buffer)).isEqualTo(MULTI_LEVEL_OBJECT_HEX.length() / 2);
+    buffer.flip();
+    byte[] written = new byte[buffer.remaining()];
+    buffer.get(written);
+    assertThat(UnsignedByteArray.of(written).hexValue()).isEqualTo("7F" + SIMPLE_HEX + MULTI_LEVEL_OBJECT_HEX);
+
+    ByteBuffer tooSmall = ByteBuffer.allocate(2);
+    assertThrows(BufferOverflowException.class, () -> encoder.encodeInto(SIMPLE_JSON, tooSmall));
+    assertThat(tooSmall.position()).isEqualTo(0);
+  }
+
+  @Test
+  void decodeAllPreservesOrder() throws IOException {
+    List<String> encoded = FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream()
+      .map(WholeObject::expectedHex)
+      .collect(Collectors.toList());
+    List<String> expected = encoded.stream().map(encoder::decode).collect(Collectors.toList());
+
+    assertThat(encoder.decodeAll(encoded)).isEqualTo(expected);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertThat(encoder.decodeAll(encoded, pool)).isEqualTo(expected);
+      List<UnsignedByteArray> bytes = encoded.stream().map(UnsignedByteArray::fromHex).collect(Collectors.toList());
+      assertThat(encoder.decodeAllToJsonNodes(bytes, pool))
+        .extracting(JsonNode::toString)
+        .isEqualTo(expected);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void decodeAllEdgeCases() {
+    assertThat(encoder.decodeAll(Lists.emptyList())).isEmpty();
+    assertThat(encoder.decodeAll(Lists.newArrayList(SIMPLE_HEX))).containsExactly(SIMPLE_JSON);
+    assertThrows(IllegalArgumentException.class, () -> encoder.decodeAll(Lists.newArrayList(SIMPLE_HEX, "ZZ")));
+    assertThrows(NullPointerException.class, () -> encoder.decodeAll(Lists.newArrayList(SIMPLE_HEX, null)));
+  }
+
   @Test
   void encodeDecodeSingleChildObject() throws JsonProcessingException {
     assertThat(encoder.encode(SINGLE_LEVEL_OBJECT_JSON)).isEqualTo(SINGLE_OBJECT_HEX);
@@ -129,6 +209,15 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeDecodeMediumBlob() throws JsonProcessingException {
+    String value = Strings.repeat("AB", 200);
+    String json = "{\"Domain\":\"" + value + "\"}";
+    String hex = "77" + "C107" + value; // 200 encoded in XRPL two-byte length encoding
+    assertThat(encoder.encode(json)).isEqualTo(hex);
+    assertThat(encoder.decode(hex)).isEqualTo(json);
+  }
+
   @Test
   void encodeDecodeBigBlob() throws JsonProcessingException {
     String bigValue = Strings.repeat("A", 50000);
@@ -419,6 +508,91 @@ class XrplBinaryCodecTest {
     assertThat(encoder.encodeForMultiSigning(json, signerAccountId)).isEqualTo(expected);
   }
 
+  @Test
+  void encodeForMultiSigningToBytesDoesNotModifyInput() throws JsonProcessingException {
+    String signerAccountId = "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN";
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"}";
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    JsonNode original = node.deepCopy();
+
+    UnsignedByteArray bytes = encoder.encodeForMultiSigningToBytes(node, signerAccountId);
+
+    assertThat(bytes.hexValue()).isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+    assertThat(node).isEqualTo(original);
+    assertThat(encoder.encodeToBytes(node).hexValue()).isEqualTo(encoder.encode(json));
+    assertThat(encoder.encodeForSigningToBytes(node).hexValue()).isEqualTo(encoder.encodeForSigning(json));
+  }
+
+  @Test
+  void addMultiSigningAccountIdMatchesEncodeForMultiSigning() throws JsonProcessingException {
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"}";
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+
+    UnsignedByteArray withoutSigner = encoder.encodeForMultiSigningWithoutSignerToBytes(node);
+    String withoutSignerHex = withoutSigner.hexValue();
+    assertThat(withoutSignerHex).startsWith(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX);
+
+    for (String signerAccountId : new String[] {"rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN", "rrrrrrrrrrrrrrrrrrrrBZbvji"}) {
+      assertThat(encoder.addMultiSigningAccountId(withoutSigner, signerAccountId).hexValue())
+        .isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+    }
+    assertThat(withoutSigner.hexValue()).isEqualTo(withoutSignerHex);
+  }
+
+  @Test
+  void encodeForSigningToBytesAndBuffer() throws JsonProcessingException {
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+        "\"TxnSignature\":\"12345678\"}";
+    String expected = encoder.encodeForSigning(json);
+
+    UnsignedByteArray bytes = encoder.encodeForSigningToBytes(json);
+    assertThat(bytes.hexValue()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length());
+    assertThat(encoder.encodeForSigningInto(json, buffer)).isEqualTo(bytes.length());
+    assertThat(buffer.array()).isEqualTo(bytes.toByteArray());
+
+    // The signing prefix is recognized and skipped when decoding raw bytes.
+    assertThat(encoder.decode(bytes.toByteArray())).isEqualTo(encoder.decode(expected));
+  }
+
+  @Test
+  void addTransactionSignatureMatchesEncode() throws IOException {
+    String signature = "3045022100D55ED1953F860ADC1BC5CD993ABB927F48156ACA31C64737865F4F4FF6D015A8" +
+      "0220630704D2BD09C8E99F26090C25F11B28F5D96A1350454402C2CED92B39FFDBAF";
+    for (WholeObject wholeObject : FixtureUtils.getDataDrivenFixtures().wholeObjectTests()) {
+      ObjectNode json = wholeObject.txJson().deepCopy();
+      json.remove("TxnSignature");
+      json.remove("Signers");
+      UnsignedByteArray signingBytes = encoder.encodeForSigningToBytes(json);
+
+      json.put("TxnSignature", signature);
+      assertThat(encoder.addTransactionSignature(signingBytes, UnsignedByteArray.fromHex(signature)).hexValue())
+        .isEqualTo(encoder.encode(json.toString()));
+    }
+  }
+
+  @Test
+  void addTransactionSignatureRejectsInvalidSigningBytes() throws JsonProcessingException {
+    UnsignedByteArray signature = UnsignedByteArray.fromHex("ED");
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> encoder.addTransactionSignature(encoder.encodeToBytes(SIMPLE_JSON), signature)
+    );
+    UnsignedByteArray alreadySigned = UnsignedByteArray.fromHex(XrplBinaryCodec.TRX_SIGNATURE_PREFIX)
+      .append(encoder.encodeToBytes("{\"TxnSignature\":\"ED\"}"));
+    assertThrows(IllegalArgumentException.class, () -> encoder.addTransactionSignature(alreadySigned, signature));
+  }
+
   @Test
   public void encodePaymentWithSigners() throws JsonProcessingException {
     String json = "{\"Account\":\"rGs8cFHMfJanAXVtn6e8Lz2iH8FtnGdexw\",\"Fee\":\"30\"," +
@@ -0,0 +1,224 @@
+package org.xrpl.xrpl4j.codec.binary.archive;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Strings;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link TransactionArchiveWriter} and {@link TransactionArchiveReader}.
+ */
+class TransactionArchiveTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void readSequentially() throws IOException {
+    List<ArchivedTransaction> transactions = archivedTransactions();
+    Path segment = write(transactions);
+
+    try (TransactionArchiveReader reader = TransactionArchiveReader.open(segment)) {
+      for (ArchivedTransaction transaction : transactions) {
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next()).isEqualTo(transaction);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void seekToLedger() throws IOException {
+    List<ArchivedTransaction> transactions = archivedTransactions();
+    Path segment = write(transactions);
+
+    try (TransactionArchiveReader reader = TransactionArchiveReader.open(segment)) {
+      for (ArchivedTransaction transaction : transactions) {
+        UnsignedInteger ledgerIndex = transaction.ledgerIndex();
+        assertThat(reader.seekToLedger(ledgerIndex)).isTrue();
+        assertThat(reader.next()).isEqualTo(firstInLedger(transactions, ledgerIndex));
+      }
+      assertThat(reader.seekToLedger(UnsignedInteger.ZERO)).isTrue();
+      assertThat(reader.next()).isEqualTo(transactions.get(0));
+      // Ledgers without transactions seek to the next ledger that has some.
+      assertThat(reader.seekToLedger(UnsignedInteger.valueOf(1001))).isTrue();
+      assertThat(reader.next().ledgerIndex()).isEqualTo(UnsignedInteger.valueOf(1003));
+      assertThat(reader.seekToLedger(UnsignedInteger.MAX_VALUE)).isFalse();
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void findByHash() throws IOException {
+    List<ArchivedTransaction> transactions = archivedTransactions();
+    Path segment = write(transactions);
+
+    try (TransactionArchiveReader reader = TransactionArchiveReader.open(segment)) {
+      for (ArchivedTransaction transaction : transactions) {
+        assertThat(reader.findByHash(transaction.hash())).hasValue(transaction);
+      }
+      assertThat(reader.findByHash(Hash256.of(Strings.repeat("0", 64)))).isEmpty();
+    }
+  }
+
+  @Test
+  void unindexedTransactionsAreStillFound() throws IOException {
+    List<ArchivedTransaction> transactions = archivedTransactions();
+    Path segment = write(transactions);
+    // Simulate a crash before the index was written.
+    Files.delete(segment.resolveSibling(segment.getFileName() + ".idx"));
+
+    try (TransactionArchiveReader reader = TransactionArchiveReader.open(segment)) {
+      ArchivedTransaction last = transactions.get(transactions.size() - 1);
+      assertThat(reader.findByHash(last.hash())).hasValue(last);
+      assertThat(reader.seekToLedger(last.ledgerIndex())).isTrue();
+      assertThat(reader.next()).isEqualTo(firstInLedger(transactions, last.ledgerIndex()));
+    }
+  }
+
+  @Test
+  void appendOutOfLedgerOrder() throws IOException {
+    try (TransactionArchiveWriter writer = TransactionArchiveWriter.create(tempDir.resolve("segment"))) {
+      writer.append(transaction(UnsignedInteger.valueOf(2), UnsignedByteArray.fromHex("1200")));
+      assertThrows(
+        IllegalArgumentException.class,
+        () -> writer.append(transaction(UnsignedInteger.ONE, UnsignedByteArray.fromHex("1200")))
+      );
+    }
+    assertThrows(IOException.class, () -> TransactionArchiveWriter.create(tempDir.resolve("segment")));
+  }
+
+  @Test
+  void createRemovesIndexWhenSegmentCannotBeCreated() throws IOException {
+    Path segment = Files.createFile(tempDir.resolve("segment"));
+
+    assertThrows(FileAlreadyExistsException.class, () -> TransactionArchiveWriter.create(segment));
+    assertThat(ArchiveFormat.indexPath(segment)).doesNotExist();
+
+    Files.delete(segment);
+    TransactionArchiveWriter.create(segment).close();
+    assertThat(segment).exists();
+    assertThat(ArchiveFormat.indexPath(segment)).exists();
+  }
+
+  @Test
+  void decodeTransactionAndMetadata() throws IOException {
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(30000))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey(
+        PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+      )
+      .build();
+    UnsignedByteArray metadata = XrplBinaryCodec.getInstance()
+      .encodeToBytes("{\"TransactionIndex\":3,\"TransactionResult\":\"tesSUCCESS\",\"AffectedNodes\":[]}");
+    ArchivedTransaction archived = ArchivedTransaction.builder()
+      .ledgerIndex(UnsignedInteger.valueOf(7))
+      .transactionBytes(TransactionCodec.getInstance().encode(payment))
+      .metadataBytes(metadata)
+      .build();
+    Path segment = write(Collections.singletonList(archived));
+
+    try (TransactionArchiveReader reader = TransactionArchiveReader.open(segment)) {
+      ArchivedTransaction read = reader.next();
+      assertThat(read.transaction()).isEqualTo(payment);
+      TransactionMetadata transactionMetadata = read.metadata();
+      assertThat(transactionMetadata.transactionIndex()).isEqualTo(UnsignedInteger.valueOf(3));
+      assertThat(transactionMetadata.transactionResult()).isEqualTo("tesSUCCESS");
+    }
+  }
+
+  private Path write(List<ArchivedTransaction> transactions) throws IOException {
+    Path segment = Files.createTempFile(tempDir, "segment", ".bin");
+    Files.delete(segment);
+    try (TransactionArchiveWriter writer = TransactionArchiveWriter.create(segment)) {
+      for (ArchivedTransaction transaction : transactions) {
+        writer.append(transaction);
+      }
+    }
+    return segment;
+  }
+
+  /**
+   * The whole-object fixtures, spread over ledgers so that a ledger's transactions sometimes span index blocks, with a
+   * gap in the ledger sequence.
+   */
+  private static List<ArchivedTransaction> archivedTransactions() throws IOException {
+    List<UnsignedByteArray> blobs = FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream()
+      .map(WholeObject::expectedHex)
+      .map(UnsignedByteArray::fromHex)
+      .collect(Collectors.toList());
+    List<ArchivedTransaction> transactions = new ArrayList<>();
+    long ledgerIndex = 1000;
+    for (int i = 0; i < 3 * TransactionArchiveWriter.DEFAULT_INDEX_INTERVAL; i++) {
+      if (i % 7 == 6) {
+        ledgerIndex += ledgerIndex == 1000 ? 3 : 1;
+      }
+      transactions.add(transaction(UnsignedInteger.valueOf(ledgerIndex), blobs.get(i % blobs.size())));
+    }
+    return transactions;
+  }
+
+  private static ArchivedTransaction transaction(UnsignedInteger ledgerIndex, UnsignedByteArray blob) {
+    // Reuse of a blob in a different ledger would repeat its hash, so give each transaction its own.
+    UnsignedByteArray transactionBytes = UnsignedByteArray.withCapacity(blob.length() + 4)
+      .append(blob)
+      .append(UnsignedByteArray.fromHex(String.format("%08X", ledgerIndex.intValue())));
+    return ArchivedTransaction.builder()
+      .ledgerIndex(ledgerIndex)
+      .transactionBytes(transactionBytes)
+      .metadataBytes(UnsignedByteArray.fromHex("E1"))
+      .build();
+  }
+
+  private static ArchivedTransaction firstInLedger(List<ArchivedTransaction> transactions, UnsignedInteger ledger) {
+    return transactions.stream().filter(transaction -> transaction.ledgerIndex().equals(ledger)).findFirst().get();
+  }
+
+}
@@ -0,0 +1,177 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates {@code GeneratedDefinitions.java} from {@code definitions.json}. This is run by the
+ * {@code generate-definitions} Maven profile, and {@link GeneratedDefinitionsTest} fails if the checked-in file is out
+ * of date.
+ */
+public final class DefinitionsGenerator {
+
+  /**
+   * The location of the generated source, relative to the {@code xrpl4j-core} module.
+   */
+  static final String GENERATED_SOURCE_PATH =
+    "src/main/java/org/xrpl/xrpl4j/codec/binary/definitions/GeneratedDefinitions.java";
+
+  private static final String LICENSE_HEADER = "/*-\n" +
+    " * ========================LICENSE_START=================================\n" +
+    " * xrpl4j :: binary-codec\n" +
+    " * %%\n" +
+    " * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors\n" +
+    " * %%\n" +
+    " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" +
+    " * you may not use this file except in compliance with the License.\n" +
+    " * You may obtain a copy of the License at\n" +
+    " * \n" +
+    " *      http://www.apache.org/licenses/LICENSE-2.0\n" +
+    " * \n" +
+    " * Unless required by applicable law or agreed to in writing, software\n" +
+    " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+    " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+    " * See the License for the specific language governing permissions and\n" +
+    " * limitations under the License.\n" +
+    " * =========================LICENSE_END==================================\n" +
+    " */\n";
+
+  private DefinitionsGenerator() {
+  }
+
+  /**
+   * Write {@code GeneratedDefinitions.java}.
+   *
+   * @param args An optional path to write to, which defaults to {@link #GENERATED_SOURCE_PATH}.
+   *
+   * @throws IOException if the source cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    Path path = Paths.get(args.length > 0 ? args[0] : GENERATED_SOURCE_PATH);
+    ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+    String source = generate(new DefaultDefinitionsProvider(objectMapper).get(), objectMapper);
+    Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Generate the source of {@code GeneratedDefinitions.java}.
+   *
+   * @param definitions The {@link Definitions} to compile.
+   * @param mapper      An {@link ObjectMapper} used to read the field definitions.
+   *
+   * @return The Java source, as a {@link String}.
+   * @throws JsonProcessingException if a field definition is not valid.
+   */
+  static String generate(Definitions definitions, ObjectMapper mapper) throws JsonProcessingException {
+    StringBuilder source = new StringBuilder()
+      .append("package org.xrpl.xrpl4j.codec.binary.definitions;\n\n")
+      .append(LICENSE_HEADER)
+      .append("\n")
+      .append("import com.google.common.collect.ImmutableMap;\n\n")
+      .append("import java.util.Map;\n\n")
+      .append("/**\n")
+      .append(" * The type, field, ledger entry type, transaction type and transaction result definitions from\n")
+      .append(" * {@code definitions.json}, compiled to Java so that {@link DefinitionsService} does not need to\n")
+      .append(" * parse JSON when it is initialized.\n")
+      .append(" *\n")
+      .append(" * <p>This file is generated by {@code DefinitionsGenerator} and must not be edited by hand. After\n")
+      .append(" * changing {@code definitions.json}, regenerate it with\n")
+      .append(" * {@code mvn -Pgenerate-definitions process-test-classes}.</p>\n")
+      .append(" */\n")
+      .append("final class GeneratedDefinitions {\n\n")
+      .append("  static final Map<String, Integer> TYPES = types();\n\n")
+      .append("  static final Map<String, FieldInfo> FIELDS = fields();\n\n")
+      .append("  static final Map<String, Integer> LEDGER_ENTRY_TYPES = ledgerEntryTypes();\n\n")
+      .append("  static final Map<String, Integer> TRANSACTION_TYPES = transactionTypes();\n\n")
+      .append("  static final Map<String, Integer> TRANSACTION_RESULTS = transactionResults();\n\n")
+      .append("  private GeneratedDefinitions() {\n")
+      .append("  }\n\n");
+
+    appendCodes(source, "types", definitions.types());
+    appendFields(source, definitions.fields(), mapper);
+    appendCodes(source, "ledgerEntryTypes", definitions.ledgerEntryTypes());
+    appendCodes(source, "transactionTypes", definitions.transactionTypes());
+    appendCodes(source, "transactionResults", definitions.transactionResults());
+
+    return source
+      .append("  private static FieldInfo field(\n")
+      .append("    int nth,\n")
+      .append("    String type,\n")
+      .append("    boolean isVariableLengthEncoded,\n")
+      .append("    boolean isSerialized,\n")
+      .append("    boolean isSigningField\n")
+      .append("  ) {\n")
+      .append("    return ImmutableFieldInfo.builder()\n")
+      .append("      .nth(nth)\n")
+      .append("      .type(type)\n")
+      .append("      .isVariableLengthEncoded(isVariableLengthEncoded)\n")
+      .append("      .isSerialized(isSerialized)\n")
+      .append("      .isSigningField(isSigningField)\n")
+      .append("      .build();\n")
+      .append("  }\n\n")
+      .append("}\n")
+      .toString();
+  }
+
+  private static void appendCodes(StringBuilder source, String methodName, Map<String, Integer> codes) {
+    source.append("  private static Map<String, Integer> ").append(methodName).append("() {\n")
+      .append("    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();\n");
+    codes.forEach((name, code) ->
+      source.append("    builder.put(").append(quote(name)).append(", ").append(code).append(");\n")
+    );
+    source.append("    return builder.build();\n")
+      .append("  }\n\n");
+  }
+
+  private static void appendFields(StringBuilder source, List<List<JsonNode>> fields, ObjectMapper mapper)
+    throws JsonProcessingException {
+    source.append("  private static Map<String, FieldInfo> fields() {\n")
+      .append("    ImmutableMap.Builder<String, FieldInfo> builder = ImmutableMap.builder();\n");
+    for (List<JsonNode> field : fields) {
+      FieldInfo fieldInfo = mapper.treeToValue(field.get(1), FieldInfo.class);
+      source.append("    builder.put(").append(quote(field.get(0).textValue())).append(", field(")
+        .append(fieldInfo.nth()).append(", ")
+        .append(quote(fieldInfo.type())).append(", ")
+        .append(fieldInfo.isVariableLengthEncoded()).append(", ")
+        .append(fieldInfo.isSerialized()).append(", ")
+        .append(fieldInfo.isSigningField()).append("));\n");
+    }
+    source.append("    return builder.build();\n")
+      .append("  }\n\n");
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+}
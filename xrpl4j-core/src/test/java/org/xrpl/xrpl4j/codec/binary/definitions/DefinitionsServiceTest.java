@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.data.FieldTest;
+
+import java.io.IOException;
+import java.util.List;
+
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @Test
+  void getFieldInstanceReturnsSameInstance() {
+    FieldInstance account = definitionsService.getFieldInstance("Account").get();
+    assertThat(definitionsService.getFieldInstance("Account")).get().isSameAs(account);
+    assertThat(definitionsService.getFieldInstance(account.header())).get().isSameAs(account);
+    assertThat(definitionsService.getFieldHeader("Account")).get().isEqualTo(account.header());
+  }
+
+  @Test
+  void getFieldInstanceForUnknownField() {
+    assertThat(definitionsService.getFieldInstance("Foo")).isEmpty();
+    assertThat(definitionsService.getFieldHeader("Foo")).isEmpty();
+    assertThat(definitionsService.getFieldInstance(FieldHeader.builder().typeCode(255).fieldCode(255).build()))
+      .isEmpty();
+  }
+
+  @Test
+  void headerBytesMatchFixtures() throws IOException {
+    List<FieldTest> fieldTests = FixtureUtils.getDataDrivenFixtures().fieldTests();
+    fieldTests.forEach(fieldTest -> {
+      FieldInstance fieldInstance = definitionsService.getFieldInstance(fieldTest.name()).get();
+      EncodedFieldHeader encodedHeader = fieldInstance.encodedHeader();
+      assertThat(BaseEncoding.base16().encode(encodedHeader.toByteArray())).isEqualTo(fieldTest.expectedHex());
+      UnsignedByteArray sink = UnsignedByteArray.empty();
+      encodedHeader.writeTo(sink);
+      assertThat(sink.hexValue()).isEqualTo(fieldTest.expectedHex());
+      assertThat(encodedHeader.length() * 2).isEqualTo(fieldTest.expectedHex().length());
+      assertThat(fieldInstance.ordinal()).isEqualTo((fieldTest.type() << 16) | fieldTest.nthOfType());
+    });
+  }
+
+  @Test
+  void encodedHeaderCannotBeModified() {
+    FieldInstance account = definitionsService.getFieldInstance("Account").get();
+    byte[] headerBytes = account.encodedHeader().toByteArray();
+    headerBytes[0] = 0;
+
+    assertThat(account.encodedHeader().toByteArray()).isEqualTo(account.header().toBytes());
+  }
+
+  @Test
+  void getFieldInstanceByCodes() {
+    FieldInstance account = definitionsService.getFieldInstance("Account").get();
+    assertThat(definitionsService.getFieldInstance(account.header().typeCode(), account.header().fieldCode()))
+      .get().isSameAs(account);
+    assertThat(definitionsService.getFieldInstance(-1, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(8, 255)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(10001, 1)).isEmpty();
+  }
+
+}
@@ -0,0 +1,109 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class GeneratedDefinitionsTest {
+
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private final Definitions definitions = new DefaultDefinitionsProvider(objectMapper).get();
+
+  @Test
+  void generatedSourceIsUpToDate() throws IOException {
+    String checkedIn = new String(
+      Files.readAllBytes(Paths.get(DefinitionsGenerator.GENERATED_SOURCE_PATH)), StandardCharsets.UTF_8
+    );
+    assertThat(checkedIn)
+      .as("GeneratedDefinitions.java is out of date; run mvn -Pgenerate-definitions process-test-classes")
+      .isEqualTo(DefinitionsGenerator.generate(definitions, objectMapper));
+  }
+
+  @Test
+  void generatedDefinitionsMatchDefinitionsJson() throws IOException {
+    assertThat(GeneratedDefinitions.TYPES).isEqualTo(definitions.types());
+    assertThat(GeneratedDefinitions.LEDGER_ENTRY_TYPES).isEqualTo(definitions.ledgerEntryTypes());
+    assertThat(GeneratedDefinitions.TRANSACTION_TYPES).isEqualTo(definitions.transactionTypes());
+    assertThat(GeneratedDefinitions.TRANSACTION_RESULTS).isEqualTo(definitions.transactionResults());
+
+    Map<String, FieldInfo> fields = new LinkedHashMap<>();
+    for (int i = 0; i < definitions.fields().size(); i++) {
+      fields.put(
+        definitions.fields().get(i).get(0).textValue(),
+        objectMapper.treeToValue(definitions.fields().get(i).get(1), FieldInfo.class)
+      );
+    }
+    assertThat(GeneratedDefinitions.FIELDS).containsExactlyEntriesOf(fields);
+  }
+
+  @Test
+  void defaultInstanceMatchesDefinitionsJson() {
+    DefinitionsService fromJson = new DefinitionsService(() -> definitions, objectMapper);
+    DefinitionsService generated = DefinitionsService.getInstance();
+
+    GeneratedDefinitions.FIELDS.keySet().forEach(fieldName -> {
+      assertThat(generated.getFieldInstance(fieldName)).isEqualTo(fromJson.getFieldInstance(fieldName));
+      assertThat(generated.getFieldInfo(fieldName)).isEqualTo(fromJson.getFieldInfo(fieldName));
+      generated.getFieldHeader(fieldName).ifPresent(header ->
+        assertThat(generated.getFieldName(header)).isEqualTo(fromJson.getFieldName(header))
+      );
+    });
+    definitions.types().keySet().forEach(type ->
+      assertThat(generated.getTypeOrdinal(type)).isEqualTo(fromJson.getTypeOrdinal(type))
+    );
+    definitions.transactionResults().forEach((name, code) -> {
+      assertThat(generated.mapFieldSpecialization("TransactionResult", name)).hasValue(code);
+      assertThat(generated.mapFieldRawValueToSpecialization("TransactionResult", code.toString())).hasValue(name);
+    });
+  }
+
+  @Test
+  void loadPrefersRegisteredProvider() {
+    Map<String, Integer> transactionTypes = ImmutableMap.<String, Integer>builder()
+      .putAll(definitions.transactionTypes())
+      .put("CustomTransaction", 999)
+      .build();
+    Definitions custom = ImmutableDefinitions.copyOf(definitions).withTransactionTypes(transactionTypes);
+
+    DefinitionsService overridden = DefinitionsService.load(Collections.singletonList(() -> custom));
+    assertThat(overridden.mapFieldSpecialization("TransactionType", "CustomTransaction")).hasValue(999);
+    assertThat(overridden.mapFieldRawValueToSpecialization("TransactionType", "999")).hasValue("CustomTransaction");
+
+    DefinitionsService generated = DefinitionsService.load(Collections.emptyList());
+    assertThat(generated.mapFieldSpecialization("TransactionType", "CustomTransaction")).isEmpty();
+    assertThat(generated.mapFieldSpecialization("TransactionType", "Payment")).hasValue(0);
+  }
+
+}
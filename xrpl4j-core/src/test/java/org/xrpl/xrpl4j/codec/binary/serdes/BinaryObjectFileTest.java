@@ -0,0 +1,181 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link BinaryObjectFileWriter} and {@link BinaryObjectFileReader}.
+ */
+class BinaryObjectFileTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void writeAndReadFixtures() throws IOException {
+    List<UnsignedByteArray> objects = fixtureObjects();
+    Path path = tempDir.resolve("objects.bin");
+
+    // A small buffer and window force objects to be written directly and the file to be remapped many times.
+    List<Long> offsets = new ArrayList<>();
+    try (BinaryObjectFileWriter writer = new BinaryObjectFileWriter(
+      FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE), 64
+    )) {
+      for (UnsignedByteArray object : objects) {
+        offsets.add(writer.write(object));
+      }
+    }
+
+    try (BinaryObjectFileReader reader = new BinaryObjectFileReader(
+      FileChannel.open(path, StandardOpenOption.READ), 128
+    )) {
+      for (int i = 0; i < objects.size(); i++) {
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.position()).isEqualTo(offsets.get(i));
+        ByteBuffer object = reader.next();
+        assertThat(object.isReadOnly()).isTrue();
+        assertThat(UnsignedByteArray.of(toArray(object))).isEqualTo(objects.get(i));
+      }
+      assertThat(reader.hasNext()).isFalse();
+      assertThrows(NoSuchElementException.class, reader::next);
+
+      int last = objects.size() - 1;
+      reader.seek(offsets.get(last));
+      assertThat(reader.nextBytes()).isEqualTo(objects.get(last));
+      reader.seek(offsets.get(0));
+      assertThat(reader.nextBytes()).isEqualTo(objects.get(0));
+    }
+  }
+
+  @Test
+  void decodeObjects() throws IOException {
+    List<UnsignedByteArray> objects = fixtureObjects();
+    Path path = tempDir.resolve("objects.bin");
+    try (BinaryObjectFileWriter writer = BinaryObjectFileWriter.open(path)) {
+      for (UnsignedByteArray object : objects) {
+        byte[] bytes = object.toByteArray();
+        writer.write(bytes, 0, bytes.length);
+      }
+    }
+
+    XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+    try (BinaryObjectFileReader reader = BinaryObjectFileReader.open(path)) {
+      for (UnsignedByteArray object : objects) {
+        long offset = reader.position();
+        STObjectView view = reader.nextView();
+        assertThat(view.getJson("TransactionType")).contains(codec.decodeToJsonNode(object).get("TransactionType"));
+
+        reader.seek(offset);
+        assertThat(reader.nextSTObject().toJson()).isEqualTo(codec.decodeToJsonNode(object));
+      }
+    }
+  }
+
+  @Test
+  void appendAndReadTransactions() throws IOException {
+    Payment payment = Payment.builder()
+      .account(Address.of("rEuLyBCvcw4CFmzv8RepSiAoNgF8tTGJQC"))
+      .fee(XrpCurrencyAmount.ofDrops(30000))
+      .amount(XrpCurrencyAmount.ofDrops(1000))
+      .destination(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey(
+        PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+      )
+      .build();
+    Path path = tempDir.resolve("transactions.bin");
+    try (BinaryObjectFileWriter writer = BinaryObjectFileWriter.open(path)) {
+      writer.write(payment);
+    }
+    // Opening an existing file appends to it.
+    try (BinaryObjectFileWriter writer = BinaryObjectFileWriter.open(path)) {
+      assertThat(writer.position()).isEqualTo(Files.size(path));
+      writer.write(payment);
+    }
+
+    try (BinaryObjectFileReader reader = BinaryObjectFileReader.open(path)) {
+      assertThat(reader.nextTransaction()).isEqualTo(payment);
+      assertThat(reader.nextTransaction()).isEqualTo(payment);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void truncatedFile() throws IOException {
+    Path path = tempDir.resolve("truncated.bin");
+    Files.write(path, new byte[] {0, 0, 0, 2, 1, 2, 0, 0, 0, 3, 1});
+    try (BinaryObjectFileReader reader = BinaryObjectFileReader.open(path)) {
+      assertThat(reader.nextBytes()).isEqualTo(UnsignedByteArray.of(new byte[] {1, 2}));
+      assertThrows(EOFException.class, reader::next);
+    }
+
+    Files.write(path, new byte[] {0, 0});
+    try (BinaryObjectFileReader reader = BinaryObjectFileReader.open(path)) {
+      assertThrows(EOFException.class, reader::next);
+    }
+
+    Files.write(path, new byte[] {(byte) 0xFF, 0, 0, 0});
+    try (BinaryObjectFileReader reader = BinaryObjectFileReader.open(path)) {
+      assertThrows(IOException.class, reader::next);
+    }
+  }
+
+  private static List<UnsignedByteArray> fixtureObjects() throws IOException {
+    return FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream()
+      .map(WholeObject::expectedHex)
+      .map(UnsignedByteArray::fromHex)
+      .collect(Collectors.toList());
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,137 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for {@link BinaryParser}.
+ */
+class BinaryParserTest {
+
+  @Test
+  void readUIntsFromHex() {
+    BinaryParser parser = new BinaryParser("FF" + "ABCD" + "FFFFFFFE" + "FFFFFFFFFFFFFFFF");
+    assertThat(parser.size()).isEqualTo(15);
+    assertThat(parser.readUInt8()).isEqualTo(UnsignedLong.valueOf(255));
+    assertThat(parser.readUInt16()).isEqualTo(UnsignedLong.valueOf(0xABCD));
+    assertThat(parser.readUInt32()).isEqualTo(UnsignedLong.valueOf(4294967294L));
+    assertThat(parser.readUInt64()).isEqualTo(UnsignedLong.MAX_VALUE);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readPrimitiveUInts() {
+    BinaryParser parser = new BinaryParser(new byte[] {(byte) 0x80, 0x01, 0x02, (byte) 0x80, 0, 0, 1});
+    assertThat(parser.readUInt8AsInt()).isEqualTo(128);
+    assertThat(parser.readUInt16AsInt()).isEqualTo(0x0102);
+    assertThat(parser.readUInt32AsLong()).isEqualTo(0x80000001L);
+  }
+
+  @Test
+  void readsOnlyTheRequestedRange() {
+    byte[] bytes = new byte[] {9, 1, 2, 3, 9};
+    BinaryParser parser = new BinaryParser(bytes, 1, 3);
+    assertThat(parser.size()).isEqualTo(3);
+    assertThat(parser.peekByte()).isEqualTo((byte) 1);
+    assertThat(parser.read(3)).isEqualTo(UnsignedByteArray.of(new byte[] {1, 2, 3}));
+    assertThat(parser.hasMore()).isFalse();
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(1));
+  }
+
+  @Test
+  void readPastEndThrows() {
+    BinaryParser parser = new BinaryParser(new byte[] {1, 2});
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.readUInt32AsLong());
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(3));
+  }
+
+  @Test
+  void readFromByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {9, 9, 0x12, 0x34});
+    buffer.position(2);
+    assertThat(new BinaryParser(buffer).readUInt16AsInt()).isEqualTo(0x1234);
+    assertThat(buffer.position()).isEqualTo(2);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(2);
+    direct.put((byte) 0x56).put((byte) 0x78).flip();
+    assertThat(new BinaryParser(direct).readUInt16AsInt()).isEqualTo(0x5678);
+  }
+
+  @Test
+  void readIntoSink() {
+    BinaryParser parser = new BinaryParser("0102030405");
+    UnsignedByteArray sink = UnsignedByteArray.of(new byte[] {0});
+    parser.skip(1);
+    parser.readInto(3, sink);
+    assertThat(sink.hexValue()).isEqualTo("00020304");
+    assertThat(parser.readUInt8AsInt()).isEqualTo(5);
+  }
+
+  @Test
+  void readVariableLengthLength() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("F10000").readVariableLengthLength()).isEqualTo(12481);
+  }
+
+  @Test
+  void readFieldResolvesSharedFieldInstances() {
+    // Account (type 8, field 1), TransactionType (type 1, field 2), a 2-byte header and a 3-byte header.
+    BinaryParser parser = new BinaryParser("81" + "12" + "F010" + "001911");
+    assertThat(parser.readField()).get().isSameAs(DefinitionsService.getInstance().getFieldInstance("Account").get());
+    assertThat(parser.readField()).get()
+      .isSameAs(DefinitionsService.getInstance().getFieldInstance("TransactionType").get());
+    assertThat(parser.readField()).get().extracting(FieldInstance::header)
+      .isEqualTo(FieldHeader.builder().typeCode(15).fieldCode(16).build());
+    assertThat(parser.readField()).isEmpty();
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readFieldHeaderMatchesReadField() {
+    FieldHeader header = new BinaryParser("F010").readFieldHeader();
+    assertThat(header).isEqualTo(FieldHeader.builder().typeCode(15).fieldCode(16).build());
+    assertThat(new BinaryParser("F010").readField()).get().extracting(FieldInstance::header).isEqualTo(header);
+  }
+
+  @Test
+  void typeForFieldUsesTypeCodeFactory() {
+    FieldInstance account = DefinitionsService.getInstance().getFieldInstance("Account").get();
+    assertThat(new BinaryParser("").typeForField(account)).isInstanceOf(AccountIdType.class);
+    assertThat(SerializedType.getTypeFactory(account.header().typeCode()).get()).isInstanceOf(AccountIdType.class);
+    assertThat(SerializedType.getTypeFactory(-1)).isNull();
+    assertThat(SerializedType.getTypeFactory(10001)).isNull();
+  }
+
+}
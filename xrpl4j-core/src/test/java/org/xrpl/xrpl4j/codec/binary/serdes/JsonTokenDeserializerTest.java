@@ -0,0 +1,93 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link JsonTokenDeserializer}.
+ */
+class JsonTokenDeserializerTest {
+
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+  private final JsonTokenDeserializer deserializer = new JsonTokenDeserializer();
+
+  @Test
+  void tokensMatchTreeDecodeOfFixtures() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    List<CodecFixture> all = new ArrayList<>(fixtures.transactions());
+    all.addAll(fixtures.accountState());
+    for (CodecFixture fixture : all) {
+      JsonNode expected = new STObjectType().fromHex(fixture.binary()).toJson();
+
+      TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+      deserializer.writeObject(new BinaryParser(BaseEncoding.base16().decode(fixture.binary())), tokens);
+      assertThat((JsonNode) objectMapper.readTree(tokens.asParser())).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void writesToGeneratorWithoutCodec() throws IOException {
+    String json = "{\"TransactionType\":\"Payment\",\"Account\":\"rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh\"," +
+      "\"Amount\":{\"currency\":\"USD\",\"value\":\"1\",\"issuer\":\"rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe\"}," +
+      "\"Fee\":\"10\",\"Sequence\":7,\"Memos\":[{\"Memo\":{\"MemoData\":\"ABCD\"}}]}";
+    UnsignedByteArray binary = XrplBinaryCodec.getInstance().encodeToBytes(objectMapper.readTree(json));
+
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+      deserializer.writeObject(new BinaryParser(binary), generator);
+    }
+    assertThat(objectMapper.readTree(writer.toString())).isEqualTo(objectMapper.readTree(json));
+  }
+
+  @Test
+  void decodeToSkipsSigningPrefix() throws IOException {
+    String json = "{\"TransactionType\":\"Payment\",\"Account\":\"rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh\"," +
+      "\"Fee\":\"10\",\"Sequence\":7}";
+    XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+    UnsignedByteArray signingBytes = codec.encodeForSigningToBytes(objectMapper.readTree(json));
+
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    codec.decodeTo(signingBytes, tokens);
+    assertThat((JsonNode) objectMapper.readTree(tokens.asParser())).isEqualTo(codec.decodeToJsonNode(signingBytes));
+  }
+
+}
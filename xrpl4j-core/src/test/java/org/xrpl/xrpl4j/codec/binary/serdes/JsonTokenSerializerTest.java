@@ -0,0 +1,163 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+/**
+ * Unit tests for {@link JsonTokenSerializer}.
+ */
+class JsonTokenSerializerTest {
+
+  private static final String SIGNER_1 = "{\"Signer\":{\"Account\":\"rGDG5dYzvaNMaNGHAYGJKGH1vPBTHeD4fy\"," +
+    "\"TxnSignature\":\"F5354C2AEAE320FCE49CE18733EA6C27103989878E2C5561028292A09A0AE920792847982D26" +
+    "8392B8134EF4CA35159C170C40E51F5AFB4F1400DCC9287A3709\"," +
+    "\"SigningPubKey\":\"ED62267B5A9A0917D5F0D52531428294A80EEFEEB1DB595AED1C94964B35F79F2C\"}}";
+
+  private static final String SIGNER_2 = "{\"Signer\":{\"Account\":\"rwm8zSsHG5oTrHMTkKQFKCV3QDQEG1zHvB\"," +
+    "\"TxnSignature\":\"26A90616049EA684FDD4685726DF674815B48CBC1827D2F0D1DBC8537AC8508F715480AF70C426" +
+    "B35C193DE49C851831E767BF4AA51880CD1F90618E74B93D0C\"," +
+    "\"SigningPubKey\":\"ED9018780E2D6D454ED59E40DBEFA4681B7307940B45B67E4C8DE80DBA79626BB8\"}}";
+
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+  private final JsonTokenSerializer serializer = new JsonTokenSerializer();
+
+  @Test
+  void streamAndTreeProduceSameBytes() throws IOException {
+    String json = "{\"Account\":\"rGs8cFHMfJanAXVtn6e8Lz2iH8FtnGdexw\",\"Fee\":\"30\",\"Sequence\":6," +
+      "\"Signers\":[" + SIGNER_2 + "," + SIGNER_1 + "]," +
+      "\"SigningPubKey\":\"\",\"Flags\":2147483648,\"Amount\":\"12345\"," +
+      "\"Memos\":[{\"Memo\":{\"MemoData\":\"ABCD\",\"MemoType\":\"0123\"}}]," +
+      "\"Destination\":\"rfA6dKpRbJfZo9HgAVGLJP3T2qPgQMA9QB\",\"TransactionType\":\"Payment\"}";
+
+    assertThat(stream(json, field -> true).hexValue()).isEqualTo(tree(json, field -> true).hexValue());
+  }
+
+  @Test
+  void signersAreSortedByAccount() throws IOException {
+    String sorted = "{\"TransactionType\":\"Payment\",\"Signers\":[" + SIGNER_2 + "," + SIGNER_1 + "]}";
+    String unsorted = "{\"TransactionType\":\"Payment\",\"Signers\":[" + SIGNER_1 + "," + SIGNER_2 + "]}";
+
+    assertThat(stream(unsorted, field -> true).hexValue()).isEqualTo(stream(sorted, field -> true).hexValue());
+    assertThat(tree(unsorted, field -> true).hexValue()).isEqualTo(tree(sorted, field -> true).hexValue());
+  }
+
+  @Test
+  void unlModifyOmitsAccountRegardlessOfFieldOrder() throws IOException {
+    String expected = "120066240000000026040B52006840000000000000007300701321EDB6FC8E803EE8EDC2793F1EC9" +
+      "17B2EE41D35255618DEB91D3F9B1FC89B75D453900101101";
+    String json = "{\"Account\":\"rrrrrrrrrrrrrrrrrrrrrhoLvTp\",\"Fee\":\"0\",\"LedgerSequence\":67850752," +
+      "\"Sequence\":0,\"SigningPubKey\":\"\",\"UNLModifyDisabling\":1," +
+      "\"UNLModifyValidator\":\"EDB6FC8E803EE8EDC2793F1EC917B2EE41D35255618DEB91D3F9B1FC89B75D4539\"," +
+      "\"TransactionType\":\"UNLModify\"}";
+
+    assertThat(stream(json, field -> true).hexValue()).isEqualTo(expected);
+    assertThat(tree(json, field -> true).hexValue()).isEqualTo(expected);
+  }
+
+  @Test
+  void lastDuplicateFieldWins() throws IOException {
+    assertThat(stream("{\"Fee\":\"1\",\"Sequence\":2,\"Fee\":\"3\"}", field -> true).hexValue())
+      .isEqualTo(stream("{\"Sequence\":2,\"Fee\":\"3\"}", field -> true).hexValue());
+  }
+
+  @Test
+  void skipsUnknownAndNonSerializedFields() throws IOException {
+    String json = "{\"Foo\":{\"Bar\":[1,{\"Baz\":2}]},\"Fee\":\"10\",\"hash\":\"ABCD\",\"Sequence\":1}";
+
+    assertThat(stream(json, field -> true).hexValue())
+      .isEqualTo(stream("{\"Fee\":\"10\",\"Sequence\":1}", field -> true).hexValue());
+  }
+
+  @Test
+  void fieldFilterAppliesToTopLevelFieldsOnly() throws IOException {
+    String json = "{\"TransactionType\":\"Payment\",\"TxnSignature\":\"ABCD\",\"Signers\":[" + SIGNER_1 + "]}";
+    Predicate<FieldInstance> signingFields = FieldInstance::isSigningField;
+
+    UnsignedByteArray expected = stream("{\"TransactionType\":\"Payment\"}", field -> true);
+    assertThat(stream(json, signingFields).hexValue()).isEqualTo(expected.hexValue());
+    assertThat(tree(json, signingFields).hexValue()).isEqualTo(expected.hexValue());
+
+    String nestedSignatureJson = "{\"TransactionType\":\"Payment\",\"Memos\":[" + SIGNER_1 + "]}";
+    assertThat(stream(nestedSignatureJson, signingFields).hexValue())
+      .isEqualTo(stream(nestedSignatureJson, field -> true).hexValue());
+  }
+
+  @Test
+  void writeObjectFromCurrentToken() throws IOException {
+    String json = "{\"Fee\":\"10\",\"Sequence\":1}";
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+      serializer.writeObject(parser, sink, field -> true);
+      assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+    }
+    assertThat(sink.hexValue()).isEqualTo(stream(json, field -> true).hexValue());
+  }
+
+  @Test
+  void writeObjectFromParserWithoutCodec() throws IOException {
+    String json = "{\"Fee\":\"10\",\"Amount\":{\"currency\":\"USD\",\"value\":\"1\"," +
+      "\"issuer\":\"rGs8cFHMfJanAXVtn6e8Lz2iH8FtnGdexw\"},\"Sequence\":1}";
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    try (JsonParser parser = new JsonFactory().createParser(json)) {
+      serializer.writeObject(parser, sink, field -> true);
+    }
+    assertThat(sink.hexValue()).isEqualTo(tree(json, field -> true).hexValue());
+  }
+
+  @Test
+  void writeObjectRequiresObject() throws IOException {
+    try (JsonParser parser = objectMapper.createParser("[1, 2]")) {
+      assertThrows(
+        IllegalArgumentException.class,
+        () -> serializer.writeObject(parser, UnsignedByteArray.empty(), field -> true)
+      );
+    }
+  }
+
+  private UnsignedByteArray stream(String json, Predicate<FieldInstance> fieldFilter) throws IOException {
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      serializer.writeObject(parser, sink, fieldFilter);
+    }
+    return sink;
+  }
+
+  private UnsignedByteArray tree(String json, Predicate<FieldInstance> fieldFilter) throws IOException {
+    UnsignedByteArray sink = UnsignedByteArray.empty();
+    serializer.writeObject(objectMapper.readTree(json), sink, fieldFilter);
+    return sink;
+  }
+}
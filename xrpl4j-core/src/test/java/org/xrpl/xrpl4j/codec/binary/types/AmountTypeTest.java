@@ -26,8 +26,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
+import org.xrpl.xrpl4j.codec.binary.math.MathUtils;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 
 class AmountTypeTest extends BaseSerializerTypeTest {
@@ -118,4 +122,53 @@ class AmountTypeTest extends BaseSerializerTypeTest {
     assertThat(codec.fromJson(json).toHex()).isEqualTo(hex);
   }
 
+  @Test
+  void currencyAmountValuesMatchBigDecimalArithmetic() {
+    Random random = new Random(42);
+    for (int i = 0; i < 20_000; i++) {
+      long unscaled = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(16)));
+      BigDecimal number = BigDecimal.valueOf(random.nextBoolean() ? unscaled : -unscaled, random.nextInt(120) - 60);
+      int exponent = MathUtils.getExponent(number);
+      if (unscaled == 0 || exponent > 95 || exponent < -81) {
+        continue;
+      }
+      String expectedHex = referenceHex(number);
+      for (String value : Arrays.asList(number.toPlainString(), number.toString(), number.toEngineeringString())) {
+        String json = "{\"currency\":\"USD\",\"value\":\"" + value + "\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+        AmountType amount = codec.fromJson(json);
+        assertThat(amount.toHex()).startsWith(expectedHex);
+        assertThat(amount.toJson().get("value").asText()).isEqualTo(number.stripTrailingZeros().toPlainString());
+      }
+    }
+  }
+
+  @Test
+  void encodeCurrencyAmountEdgeCases() {
+    assertThat(currencyAmountHex(".5")).isEqualTo(currencyAmountHex("0.5"));
+    assertThat(currencyAmountHex("5.")).isEqualTo(currencyAmountHex("5"));
+    assertThat(currencyAmountHex("+2")).isEqualTo(currencyAmountHex("2"));
+    assertThat(currencyAmountHex("-0")).isEqualTo("8000000000000000");
+    assertThat(currencyAmountHex("0E+10")).isEqualTo("8000000000000000");
+    // More than 18 significant digits but only one once trailing zeros are removed.
+    assertThat(currencyAmountHex("10000000000000000000000")).isEqualTo(currencyAmountHex("1e22"));
+    assertThrows(IllegalArgumentException.class, () -> currencyAmountHex("12345678901234567"));
+    assertThrows(IllegalArgumentException.class, () -> currencyAmountHex("1e96"));
+    assertThrows(IllegalArgumentException.class, () -> currencyAmountHex("1e-82"));
+    assertThrows(NumberFormatException.class, () -> currencyAmountHex("1.2.3"));
+  }
+
+  private static String currencyAmountHex(String value) {
+    String json = "{\"currency\":\"USD\",\"value\":\"" + value + "\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    return codec.fromJson(json).toHex().substring(0, 16);
+  }
+
+  private static String referenceHex(BigDecimal number) {
+    long mantissa = MathUtils.toPaddedBigInteger(number, 16).longValueExact();
+    long bits = mantissa | 0x8000000000000000L | ((long) (97 + MathUtils.getExponent(number) - 15) << 54);
+    if (number.signum() > 0) {
+      bits |= 0x4000000000000000L;
+    }
+    return String.format("%016X", bits);
+  }
+
 }
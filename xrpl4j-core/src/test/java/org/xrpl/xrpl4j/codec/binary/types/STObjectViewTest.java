@@ -0,0 +1,108 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("AbbreviationAsWordInName")
+class STObjectViewTest {
+
+  private final XrplBinaryCodec codec = XrplBinaryCodec.getInstance();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  @Test
+  void everyFieldMatchesFullDecodeOfFixtures() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    List<CodecFixture> all = new ArrayList<>(fixtures.transactions());
+    all.addAll(fixtures.accountState());
+    for (CodecFixture fixture : all) {
+      JsonNode decoded = new STObjectType().fromHex(fixture.binary()).toJson();
+      STObjectView view = STObjectView.of(BaseEncoding.base16().decode(fixture.binary()));
+
+      List<String> fieldNames = view.fields().stream().map(FieldInstance::name).collect(Collectors.toList());
+      List<String> expectedNames = new ArrayList<>();
+      decoded.fieldNames().forEachRemaining(expectedNames::add);
+      assertThat(fieldNames).isEqualTo(expectedNames);
+      for (String fieldName : fieldNames) {
+        assertThat(view.getJson(fieldName)).get().isEqualTo(decoded.get(fieldName));
+      }
+    }
+  }
+
+  @Test
+  void readsSelectedFields() throws IOException {
+    String json = "{\"TransactionType\":\"Payment\",\"Account\":\"rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh\"," +
+      "\"Destination\":\"rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe\",\"Amount\":\"1000\",\"Fee\":\"10\",\"Sequence\":7," +
+      "\"Memos\":[{\"Memo\":{\"MemoData\":\"ABCD\"}}]}";
+    STObjectView view = STObjectView.of(codec.encodeToBytes(objectMapper.readTree(json)));
+
+    assertThat(view.getJson("TransactionType")).get().extracting(JsonNode::asText).isEqualTo("Payment");
+    assertThat(view.getJson("Account")).get().extracting(JsonNode::asText)
+      .isEqualTo("rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh");
+    assertThat(view.getJson("Sequence")).get().extracting(JsonNode::asLong).isEqualTo(7L);
+    assertThat(view.get("Amount")).get().isInstanceOf(AmountType.class);
+    assertThat(view.getBytes("Sequence")).get().extracting(UnsignedByteArray::hexValue).isEqualTo("00000007");
+    assertThat(view.getJson("Memos")).get().isEqualTo(objectMapper.readTree(json).get("Memos"));
+    assertThat(view.has("Destination")).isTrue();
+    assertThat(view.has("DestinationTag")).isFalse();
+    assertThat(view.get("DestinationTag")).isEmpty();
+    assertThat(view.getBytes("DestinationTag")).isEmpty();
+  }
+
+  @Test
+  void viewsNestedObject() throws IOException {
+    String json = "{\"TransactionType\":\"Payment\",\"Memo\":{\"MemoType\":\"0102\",\"MemoData\":\"ABCD\"}," +
+      "\"Sequence\":1}";
+    STObjectView view = STObjectView.of(codec.encodeToBytes(objectMapper.readTree(json)));
+
+    STObjectView memo = view.getObject("Memo").get();
+    assertThat(memo.getJson("MemoData")).get().extracting(JsonNode::asText).isEqualTo("ABCD");
+    assertThat(memo.getJson("MemoType")).get().extracting(JsonNode::asText).isEqualTo("0102");
+    assertThat(view.getJson("Sequence")).get().extracting(JsonNode::asLong).isEqualTo(1L);
+    assertThatThrownBy(() -> view.getObject("Sequence")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsTruncatedVariableLengthField() {
+    // SigningPubKey (Blob, field 3) claiming 33 bytes with only 2 present.
+    assertThatThrownBy(() -> STObjectView.of(BaseEncoding.base16().decode("73210102")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
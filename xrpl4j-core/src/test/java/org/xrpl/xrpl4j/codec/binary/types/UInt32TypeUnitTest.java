@@ -51,4 +51,10 @@ public class UInt32TypeUnitTest {
     assertThrows(IllegalArgumentException.class, () -> codec.fromJson("4294967296"));
   }
 
+  @Test
+  void rejectsValuesWiderThanTheType() {
+    assertThrows(IllegalArgumentException.class, () -> new UInt32Type(UnsignedLong.valueOf(4294967296L)));
+    assertThat(new UInt32Type(UnsignedLong.valueOf(4294967295L)).toJson().asLong()).isEqualTo(4294967295L);
+  }
+
 }
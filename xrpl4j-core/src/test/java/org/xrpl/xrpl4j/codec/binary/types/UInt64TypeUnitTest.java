@@ -23,9 +23,13 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 
 public class UInt64TypeUnitTest {
   private final UInt64Type codec = new UInt64Type();
@@ -52,4 +56,22 @@ public class UInt64TypeUnitTest {
   void encodeOutOfBounds() {
     assertThrows(IllegalArgumentException.class, () -> codec.fromJson("18446744073709551616"));
   }
+
+  @Test
+  void encodeFromTextAndNumberNodes() {
+    assertThat(codec.fromJson(new TextNode("18446744073709551615")).toHex()).isEqualTo("FFFFFFFFFFFFFFFF");
+    assertThat(codec.fromJson(new LongNode(Long.MAX_VALUE)).toHex()).isEqualTo("7FFFFFFFFFFFFFFF");
+    assertThat(codec.fromJson(new BigIntegerNode(maxUint64.bigIntegerValue())).toHex())
+      .isEqualTo("FFFFFFFFFFFFFFFF");
+    assertThrows(IllegalArgumentException.class, () -> codec.fromJson(new LongNode(-1)));
+    assertThrows(IllegalArgumentException.class, () -> codec.fromJson(new TextNode("-1")));
+  }
+
+  @Test
+  void writesBigEndianIntoSink() {
+    UnsignedByteArray sink = UnsignedByteArray.of(new byte[] {(byte) 0xAA});
+    codec.fromHex("0102030405060708").toBytesSink(sink);
+    assertThat(sink.hexValue()).isEqualTo("AA0102030405060708");
+    assertThat(codec.fromHex("FFFFFFFFFFFFFFFF").toJson().asText()).isEqualTo("18446744073709551615");
+  }
 }
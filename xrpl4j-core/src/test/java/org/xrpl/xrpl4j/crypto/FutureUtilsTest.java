@@ -0,0 +1,79 @@
+package org.xrpl.xrpl4j.crypto;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Unit tests for {@link FutureUtils}.
+ */
+public class FutureUtilsTest {
+
+  @Test
+  public void joinAllReturnsResultsInOrder() {
+    assertThat(FutureUtils.joinAll(Arrays.asList(
+      CompletableFuture.supplyAsync(() -> "first"),
+      CompletableFuture.completedFuture("second")
+    ))).containsExactly("first", "second");
+    assertThat(FutureUtils.joinAll(Collections.emptyList())).isEmpty();
+  }
+
+  @Test
+  public void joinAllUnwrapsRuntimeExceptionAndCancelsRemainingFutures() {
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalArgumentException("foo"));
+    CompletableFuture<String> pending = new CompletableFuture<>();
+
+    assertThatThrownBy(() -> FutureUtils.joinAll(Arrays.asList(failed, pending)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("foo");
+    assertThat(pending).isCancelled();
+  }
+
+  @Test
+  public void joinAllUnwrapsError() {
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new AssertionError("foo"));
+
+    assertThatThrownBy(() -> FutureUtils.joinAll(Collections.singletonList(failed)))
+      .isInstanceOf(AssertionError.class)
+      .hasMessage("foo");
+  }
+
+  @Test
+  public void joinAllRethrowsCheckedExceptionWrapped() {
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new Exception("foo"));
+
+    assertThatThrownBy(() -> FutureUtils.joinAll(Collections.singletonList(failed)))
+      .isInstanceOf(CompletionException.class)
+      .hasRootCauseMessage("foo");
+  }
+
+}
@@ -22,7 +22,10 @@ package org.xrpl.xrpl4j.crypto.keys;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.Lists;
 import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.Base58;
@@ -38,6 +41,11 @@ import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
 import org.xrpl.xrpl4j.crypto.keys.Seed.DefaultSeed;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.security.auth.DestroyFailedException;
 
 /**
@@ -266,4 +274,42 @@ public class SeedTest {
     assertThat(seed.deriveKeyPair().publicKey().deriveAddress().value()).isEqualTo(
       "rByLcEZ7iwTBAK8FfjtpFuT7fCzt4kF4r2");
   }
+
+  @Test
+  void deriveKeyPairsMatchesDeriveKeyPair() {
+    List<Seed> seeds = IntStream.range(0, 16)
+      .mapToObj(index -> index % 2 == 0 ? Seed.ed25519Seed() : Seed.secp256k1Seed())
+      .collect(Collectors.toList());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<KeyPair> keyPairs = Seed.deriveKeyPairs(seeds, executor);
+
+      assertThat(keyPairs).hasSize(seeds.size());
+      for (int i = 0; i < seeds.size(); i++) {
+        assertThat(keyPairs.get(i)).isEqualTo(seeds.get(i).deriveKeyPair());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(Seed.deriveKeyPairs(Lists.newArrayList(edSeed, ecSeed)))
+      .containsExactly(edSeed.deriveKeyPair(), ecSeed.deriveKeyPair());
+  }
+
+  @Test
+  void deriveKeyPairsWithNulls() {
+    assertThrows(NullPointerException.class, () -> Seed.deriveKeyPairs(null));
+    assertThrows(NullPointerException.class, () -> Seed.deriveKeyPairs(Lists.newArrayList(edSeed), null));
+    assertThrows(NullPointerException.class, () -> Seed.deriveKeyPairs(Lists.newArrayList(edSeed, null)));
+  }
+
+  @Test
+  void deriveKeyPairsRethrowsFailure() {
+    Seed failingSeed = mock(Seed.class);
+    when(failingSeed.deriveKeyPair()).thenThrow(new IllegalArgumentException("Unsupported seed type."));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> Seed.deriveKeyPairs(Lists.newArrayList(edSeed, failingSeed, ecSeed))
+    );
+  }
 }
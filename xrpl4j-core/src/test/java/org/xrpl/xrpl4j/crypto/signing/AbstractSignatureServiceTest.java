@@ -81,7 +81,9 @@ public class AbstractSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
-    when(signatureUtilsMock.addSignatureToTransaction(any(), any())).thenReturn(signedTransactionMock);
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.addSignerToMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.addSignatureToTransaction(any(), any(), any())).thenReturn(signedTransactionMock);
 
     this.signatureService = new AbstractSignatureService<PrivateKeyable>(signatureUtilsMock) {
 
@@ -202,7 +204,8 @@ public class AbstractSignatureServiceTest {
 
     verify(signatureUtilsMock, times(0)).toMultiSignableBytes(any(), any());
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, ed25519SignatureMock);
+    verify(signatureUtilsMock)
+      .addSignatureToTransaction(transactionMock, ed25519SignatureMock, UnsignedByteArray.empty());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -212,7 +215,8 @@ public class AbstractSignatureServiceTest {
 
     verify(signatureUtilsMock, times(0)).toMultiSignableBytes(any(), any());
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, secp256k1SignatureMock);
+    verify(signatureUtilsMock)
+      .addSignatureToTransaction(transactionMock, secp256k1SignatureMock, UnsignedByteArray.empty());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -323,7 +327,8 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -340,7 +345,8 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
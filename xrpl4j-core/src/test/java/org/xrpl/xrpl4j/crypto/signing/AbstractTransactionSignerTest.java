@@ -126,7 +126,9 @@ public class AbstractTransactionSignerTest {
     transactionSigner.sign(privateKeyableMock, transactionMock);
 
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, ed25519SignatureMock);
+    verify(signatureUtilsMock).addSignatureToTransaction(
+      transactionMock, ed25519SignatureMock, UnsignedByteArray.empty()
+    );
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -137,7 +139,9 @@ public class AbstractTransactionSignerTest {
     transactionSigner.sign(privateKeyableMock, transactionMock);
 
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, secp256k1SignatureMock);
+    verify(signatureUtilsMock).addSignatureToTransaction(
+      transactionMock, secp256k1SignatureMock, UnsignedByteArray.empty()
+    );
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -23,6 +23,8 @@ package org.xrpl.xrpl4j.crypto.signing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -41,7 +43,9 @@ import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for {@link AbstractTransactionVerifier}.
@@ -82,6 +86,8 @@ public class AbstractTransactionVerifierTest {
 
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.addSignerToMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
 
     when(signer.signingPublicKey()).thenReturn(ED_PUBLIC_KEY);
     when(signer.transactionSignature()).thenReturn(ed25519SignatureMock);
@@ -178,7 +184,8 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -193,10 +200,42 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
+  @Test
+  void verifyMultiWithExecutor() {
+    when(signer.transactionSignature()).thenReturn(ed25519SignatureMock);
+    when(signer.signingPublicKey()).thenReturn(edPublicKeyMock);
+    final Signer otherSigner = mock(Signer.class);
+    when(otherSigner.transactionSignature()).thenReturn(secp256k1SignatureMock);
+    when(otherSigner.signingPublicKey()).thenReturn(ecPublicKeyMock);
+    final AtomicInteger tasks = new AtomicInteger();
+    final Executor executor = task -> {
+      tasks.incrementAndGet();
+      task.run();
+    };
+
+    final Set<Signer> signatureWithKeyMetadataSet = Sets.newLinkedHashSet(signer, otherSigner);
+    boolean actual = transactionVerifier.verifyMultiSigned(signatureWithKeyMetadataSet, transactionMock, 2, executor);
+
+    assertThat(actual).isTrue();
+    assertThat(tasks).hasValue(2);
+    assertThat(ed25519VerifyCalled.get()).isTrue();
+    assertThat(secp256k1VerifyCalled.get()).isTrue();
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock, times(2)).addSignerToMultiSignableBytes(any(), any());
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  void verifyMultiWithNullExecutor() {
+    assertThrows(NullPointerException.class,
+      () -> transactionVerifier.verifyMultiSigned(Sets.newLinkedHashSet(signer), transactionMock, 1, null));
+  }
+
   ///////////////////
   // edDsaVerify
   ///////////////////
@@ -25,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -36,7 +38,10 @@ import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
@@ -44,6 +49,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
@@ -119,11 +125,18 @@ public class SignatureUtilsTest {
 
     this.sourcePublicKey = PublicKey.fromBase16EncodedPublicKey(HEX_PUBLIC_KEY);
 
+    when(objectMapperMock.copy()).thenReturn(objectMapperMock); // <-- TransactionCodec copies the mapper.
+    when(objectMapperMock.registerModule(any())).thenReturn(objectMapperMock);
     when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
     when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
     when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
+    doReturn(JsonNodeFactory.instance.objectNode()).when(objectMapperMock).valueToTree(any());
+    when(xrplBinaryCodecMock.encodeForSigningToBytes(any(JsonNode.class))).thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeForMultiSigningToBytes(any(), anyString()))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
     when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
     this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
+    clearInvocations(objectMapperMock);
   }
 
   //////////////////
@@ -151,15 +164,13 @@ public class SignatureUtilsTest {
 
   @Test
   public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+    doThrow(new IllegalArgumentException("foo")).when(objectMapperMock).valueToTree(any());
     assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
   }
 
   @Test
   public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+    doThrow(new IllegalArgumentException("foo")).when(objectMapperMock).valueToTree(any());
     assertThrows(RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, mock(Address.class)));
   }
@@ -169,9 +180,9 @@ public class SignatureUtilsTest {
     UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).valueToTree(transactionMock);
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
+    verify(xrplBinaryCodecMock).encodeForSigningToBytes(any(JsonNode.class));
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
@@ -230,22 +241,40 @@ public class SignatureUtilsTest {
     UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress());
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).valueToTree(transactionMock);
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
+    verify(xrplBinaryCodecMock).encodeForMultiSigningToBytes(any(), anyString());
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
   @Test
   public void toMultiSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+    doThrow(new IllegalArgumentException("foo")).when(objectMapperMock).valueToTree(any());
     assertThrows(
       RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress())
     );
   }
 
+  @Test
+  public void toMultiSignableBytesWithoutSignerMatchesToMultiSignableBytes() {
+    final AccountSet accountSet = AccountSet.builder()
+      .account(sourcePublicKey.deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .build();
+    final SignatureUtils realSignatureUtils = SignatureUtils.getInstance();
+
+    final UnsignedByteArray withoutSigner = realSignatureUtils.toMultiSignableBytesWithoutSigner(accountSet);
+    final List<Address> signerAddresses = Lists.newArrayList(
+      sourcePublicKey.deriveAddress(), Address.of("rrrrrrrrrrrrrrrrrrrrBZbvji")
+    );
+    for (Address signerAddress : signerAddresses) {
+      assertThat(realSignatureUtils.addSignerToMultiSignableBytes(withoutSigner, signerAddress))
+        .isEqualTo(realSignatureUtils.toMultiSignableBytes(accountSet, signerAddress));
+    }
+  }
+
   ////////////////////////////
   // addSignatureToTransaction
   ////////////////////////////
@@ -460,6 +489,25 @@ public class SignatureUtilsTest {
     addSignatureToTransactionHelper(paymentChannelClaim);
   }
 
+  @Test
+  public void addSignatureToTransactionPaymentChannelClaimWithClaimSignature() {
+    // The claim's Signature is serialized but is not a signing field, so it is missing from the signable bytes.
+    PaymentChannelClaim paymentChannelClaim = PaymentChannelClaim.builder()
+      .account(sourcePublicKey.deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .signingPublicKey(sourcePublicKey)
+      .channel(Hash256.of("0123456789012345678901234567890123456789012345678901234567891234"))
+      .balance(XrpCurrencyAmount.ofDrops(1000L))
+      .amount(XrpCurrencyAmount.ofDrops(1000L))
+      .signature(Strings.repeat("AB", 64))
+      .publicKey(HEX_PUBLIC_KEY)
+      .build();
+    assertThat(SignatureUtils.getInstance().toSignableBytes(paymentChannelClaim).hexValue())
+      .doesNotContain(Strings.repeat("AB", 64));
+    addSignatureToTransactionHelper(paymentChannelClaim);
+  }
+
   @Test
   public void addSignatureToTransactionPaymentChannelFund() {
     PaymentChannelFund paymentChannelFund = PaymentChannelFund.builder()
@@ -913,6 +961,18 @@ public class SignatureUtilsTest {
     assertThat(result.signature().base16Value()).isEqualTo("ED");
     assertThat(result.signedTransaction().transactionSignature()).isPresent();
     assertThat(result.signedTransaction().transactionSignature().get().base16Value()).isEqualTo("ED");
+
+    // Splicing the signature into the signed bytes must produce the same blob as encoding the signed transaction.
+    SignatureUtils realSignatureUtils = SignatureUtils.getInstance();
+    Signature signature = Signature.builder().value(UnsignedByteArray.ofSize(72)).build();
+    SingleSignedTransaction<?> spliced = realSignatureUtils.addSignatureToTransaction(
+      transaction, signature, realSignatureUtils.toSignableBytes(transaction)
+    );
+    assertThat(spliced.signedTransaction()).isEqualTo(
+      realSignatureUtils.addSignatureToTransaction(transaction, signature).signedTransaction()
+    );
+    assertThat(spliced.signedTransactionBytes())
+      .isEqualTo(TransactionCodec.getInstance().encode(spliced.signedTransaction()));
   }
 
   private void addMultiSignatureToTransactionHelper(final Transaction transaction) {
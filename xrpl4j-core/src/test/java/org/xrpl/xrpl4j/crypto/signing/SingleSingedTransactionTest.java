@@ -23,6 +23,7 @@ package org.xrpl.xrpl4j.crypto.signing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.xrpl.xrpl4j.crypto.TestConstants.EC_ADDRESS;
 import static org.xrpl.xrpl4j.crypto.TestConstants.ED_ADDRESS;
+import static org.xrpl.xrpl4j.crypto.TestConstants.ED_PUBLIC_KEY;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.primitives.UnsignedInteger;
@@ -31,6 +32,7 @@ import com.jayway.jsonassert.JsonAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
 import org.xrpl.xrpl4j.model.flags.PaymentFlags;
 import org.xrpl.xrpl4j.model.flags.TransactionFlags;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
@@ -87,4 +89,47 @@ class SingleSingedTransactionTest {
     assertThat(actual).isEqualTo(singleSingedTransaction);
   }
 
+  @Test
+  void signedTransactionBytesAreNotReadFromJson() throws JsonProcessingException {
+    String json = ObjectMapperFactory.create().writeValueAsString(singleSingedTransaction)
+      .replace(singleSingedTransaction.signedTransactionBytes().hexValue(), "1200");
+
+    SingleSignedTransaction actual = ObjectMapperFactory.create().readValue(json, SingleSignedTransaction.class);
+    assertThat(actual.signedTransactionBytes()).isEqualTo(singleSingedTransaction.signedTransactionBytes());
+    assertThat(actual.hash()).isEqualTo(singleSingedTransaction.hash());
+  }
+
+  @Test
+  void encodedSignedTransactionIsOnlyUsedForItsOwnTransaction() throws JsonProcessingException {
+    SignatureUtils signatureUtils = SignatureUtils.getInstance();
+    Payment unsignedTransaction = Payment.builder()
+      .account(ED_ADDRESS)
+      .fee(XrpCurrencyAmount.of(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .destination(EC_ADDRESS)
+      .signingPublicKey(ED_PUBLIC_KEY)
+      .build();
+    Signature signature = Signature.builder().value(UnsignedByteArray.fromHex(HEX_32_BYTES)).build();
+    SingleSignedTransaction<Payment> signed = signatureUtils.addSignatureToTransaction(
+      unsignedTransaction, signature, signatureUtils.toSignableBytes(unsignedTransaction)
+    );
+    assertThat(signed.encodedSignedTransaction()).isPresent();
+    assertThat(signed.signedTransactionBytes())
+      .isEqualTo(TransactionCodec.getInstance().encode(signed.signedTransaction()));
+
+    Payment otherTransaction = Payment.builder().from(signed.signedTransaction())
+      .sequence(UnsignedInteger.valueOf(2))
+      .build();
+    SingleSignedTransaction<Payment> copy = SingleSignedTransaction.<Payment>builder().from(signed)
+      .signedTransaction(otherTransaction)
+      .build();
+    assertThat(copy.signedTransactionBytes()).isEqualTo(TransactionCodec.getInstance().encode(otherTransaction));
+    assertThat(copy.hash()).isNotEqualTo(signed.hash());
+
+    String json = ObjectMapperFactory.create().writeValueAsString(signed);
+    JsonAssert.with(json).assertNotDefined("$.encodedSignedTransaction");
+    assertThat(ObjectMapperFactory.create().readValue(json, SingleSignedTransaction.class)).isEqualTo(signed);
+  }
+
 }
@@ -54,13 +54,17 @@ import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Unit tests for {@link BcDerivedKeySignatureService}.
@@ -582,10 +586,105 @@ class BcDerivedKeySignatureServiceTest {
       });
   }
 
+  @Test
+  void signAllMatchesSign() {
+    final PrivateKeyReference edKeyReference = privateKeyReference("foo", KeyType.ED25519);
+    final PrivateKeyReference ecKeyReference = privateKeyReference("foo", KeyType.SECP256K1);
+    final Map<PrivateKeyReference, List<Payment>> transactionsByKey = new LinkedHashMap<>();
+    transactionsByKey.put(edKeyReference, payments(edKeyReference, sourceClassicAddressEd));
+    transactionsByKey.put(ecKeyReference, payments(ecKeyReference, sourceClassicAddressEc));
+
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final Map<PrivateKeyReference, List<SingleSignedTransaction<Payment>>> signed =
+        this.derivedKeySignatureService.signAll(transactionsByKey, pool);
+
+      assertThat(signed).containsOnlyKeys(edKeyReference, ecKeyReference);
+      transactionsByKey.forEach((privateKeyReference, transactions) -> assertThat(signed.get(privateKeyReference))
+        .containsExactlyElementsOf(transactions.stream()
+          .map(transaction -> this.derivedKeySignatureService.sign(privateKeyReference, transaction))
+          .collect(Collectors.toList())
+        )
+      );
+      assertThat(this.derivedKeySignatureService.signAll(
+        edKeyReference, transactionsByKey.get(edKeyReference), pool
+      )).isEqualTo(signed.get(edKeyReference));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void signAllWithReferencesToSameKey() {
+    final PrivateKeyReference keyReference = privateKeyReference("foo", KeyType.ED25519);
+    final PrivateKeyReference otherKeyReference = privateKeyReference("foo", KeyType.ED25519);
+    final List<Payment> payments = payments(keyReference, sourceClassicAddressEd);
+    final Map<PrivateKeyReference, List<Payment>> transactionsByKey = new LinkedHashMap<>();
+    transactionsByKey.put(keyReference, payments.subList(0, 5));
+    transactionsByKey.put(otherKeyReference, payments.subList(5, 8));
+
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final Map<PrivateKeyReference, List<SingleSignedTransaction<Payment>>> signed =
+        this.derivedKeySignatureService.signAll(transactionsByKey, pool);
+
+      assertThat(signed).containsOnlyKeys(keyReference, otherKeyReference);
+      transactionsByKey.forEach((privateKeyReference, transactions) -> assertThat(signed.get(privateKeyReference))
+        .containsExactlyElementsOf(transactions.stream()
+          .map(transaction -> this.derivedKeySignatureService.sign(privateKeyReference, transaction))
+          .collect(Collectors.toList())
+        )
+      );
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void verifyMultiSignedWithExecutor() {
+    final PrivateKeyReference edKeyReference = privateKeyReference("foo", KeyType.ED25519);
+    final PrivateKeyReference ecKeyReference = privateKeyReference("bar", KeyType.SECP256K1);
+    final Payment payment = payments(edKeyReference, sourceClassicAddressEd).get(0);
+    final Set<Signer> signers = Sets.newHashSet(
+      Signer.builder()
+        .transactionSignature(this.derivedKeySignatureService.multiSign(edKeyReference, payment))
+        .signingPublicKey(this.derivedKeySignatureService.derivePublicKey(edKeyReference))
+        .build(),
+      Signer.builder()
+        .transactionSignature(this.derivedKeySignatureService.multiSign(ecKeyReference, payment))
+        .signingPublicKey(this.derivedKeySignatureService.derivePublicKey(ecKeyReference))
+        .build()
+    );
+
+    final ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      assertThat(this.derivedKeySignatureService.verifyMultiSigned(signers, payment, 2, pool)).isTrue();
+      assertThat(this.derivedKeySignatureService.verifyMultiSigned(signers, payment, 3, pool)).isFalse();
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
   //////////////////
   // Private Helpers
   //////////////////
 
+  private List<Payment> payments(final PrivateKeyReference privateKeyReference, final String sourceAddress) {
+    final PublicKey publicKey = this.derivedKeySignatureService.derivePublicKey(privateKeyReference);
+    final List<Payment> payments = new ArrayList<>();
+    for (int i = 1; i <= 20; i++) {
+      payments.add(Payment.builder()
+        .account(Address.of(sourceAddress))
+        .fee(XrpCurrencyAmount.ofDrops(10L))
+        .sequence(UnsignedInteger.valueOf(i))
+        .destination(Address.of(destinationClassicAddress))
+        .amount(XrpCurrencyAmount.ofDrops(12345))
+        .signingPublicKey(publicKey)
+        .build());
+    }
+    return payments;
+  }
+
   /**
    * Helper function to generate Key meta-data based upon the supplied inputs.
    *
@@ -32,10 +32,14 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedInteger;
 import org.assertj.core.util.Sets;
+import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -43,6 +47,7 @@ import org.mockito.Mockito;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
 import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
@@ -51,8 +56,22 @@ import org.xrpl.xrpl4j.model.transactions.AccountSet;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Unit tests for {@link BcSignatureService}.
@@ -95,7 +114,9 @@ class BcSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
-    when(signatureUtilsMock.addSignatureToTransaction(Mockito.<AccountSet>any(), any())).thenReturn(
+    when(signatureUtilsMock.toMultiSignableBytesWithoutSigner(any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.addSignerToMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.addSignatureToTransaction(Mockito.<AccountSet>any(), any(), any())).thenReturn(
       signedTransactionMock);
 
     when(ed25519SignatureMock.value()).thenReturn(UnsignedByteArray.of(new byte[32]));
@@ -130,6 +151,151 @@ class BcSignatureServiceTest {
     assertThrows(NullPointerException.class, () -> new BcSignatureService(null, ed25519SignerMock, ecdsaSignerMock));
     assertThrows(NullPointerException.class, () -> new BcSignatureService(signatureUtilsMock, null, ecdsaSignerMock));
     assertThrows(NullPointerException.class, () -> new BcSignatureService(signatureUtilsMock, ed25519SignerMock, null));
+
+    // Supplier Constructor
+    assertThrows(NullPointerException.class, () -> new BcSignatureService(
+      null, () -> ed25519SignerMock, () -> ecdsaSignerMock
+    ));
+    assertThrows(NullPointerException.class, () -> new BcSignatureService(
+      signatureUtilsMock, (Supplier<Ed25519Signer>) null, () -> ecdsaSignerMock
+    ));
+    assertThrows(NullPointerException.class, () -> new BcSignatureService(
+      signatureUtilsMock, () -> ed25519SignerMock, (Supplier<ECDSASigner>) null
+    ));
+    assertThrows(NullPointerException.class, () -> new BcSignatureService(
+      signatureUtilsMock, () -> ed25519SignerMock, () -> ecdsaSignerMock, null
+    ));
+  }
+
+  @Test
+  void verificationKeyCache() {
+    final BcSignatureService service = new BcSignatureService(
+      signatureUtilsMock,
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest())),
+      CaffeineSpec.parse("maximumSize=100")
+    );
+    final UnsignedByteArray message = UnsignedByteArray.of(new byte[] {1, 2, 3});
+    final Signature ed25519Signature = service.edDsaSign(ed25519KeyPair.privateKey(), message);
+    final Signature secp256k1Signature = service.ecDsaSign(secp256k1KeyPair.privateKey(), message);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(service.edDsaVerify(ed25519KeyPair.publicKey(), message, ed25519Signature)).isTrue();
+      assertThat(service.ecDsaVerify(secp256k1KeyPair.publicKey(), message, secp256k1Signature)).isTrue();
+      assertThat(service.ecDsaVerify(secp256k1KeyPair.publicKey(), UnsignedByteArray.empty(), secp256k1Signature))
+        .isFalse();
+    }
+
+    assertThat(service.verificationKeyCacheStats().missCount()).isEqualTo(2);
+    assertThat(service.verificationKeyCacheStats().hitCount()).isEqualTo(7);
+  }
+
+  @Test
+  void verificationKeyCacheDisabled() {
+    final BcSignatureService service = new BcSignatureService(
+      signatureUtilsMock,
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest())),
+      CaffeineSpec.parse("maximumSize=0")
+    );
+    final UnsignedByteArray message = UnsignedByteArray.of(new byte[] {1, 2, 3});
+    final Signature secp256k1Signature = service.ecDsaSign(secp256k1KeyPair.privateKey(), message);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(service.ecDsaVerify(secp256k1KeyPair.publicKey(), message, secp256k1Signature)).isTrue();
+    }
+    assertThat(service.verificationKeyCacheStats().missCount()).isEqualTo(100);
+    assertThat(service.verificationKeyCacheStats().hitCount()).isZero();
+  }
+
+  @Test
+  void verifyWithPublicKeyOfOtherKeyType() {
+    final BcSignatureService service = new BcSignatureService();
+    final UnsignedByteArray message = UnsignedByteArray.of(new byte[] {1, 2, 3});
+    final Signature ed25519Signature = service.edDsaSign(ed25519KeyPair.privateKey(), message);
+    final Signature secp256k1Signature = service.ecDsaSign(secp256k1KeyPair.privateKey(), message);
+
+    // Convert each key to the right type first, so that it is in the cache for that type.
+    assertThat(service.edDsaVerify(ed25519KeyPair.publicKey(), message, ed25519Signature)).isTrue();
+    assertThat(service.ecDsaVerify(secp256k1KeyPair.publicKey(), message, secp256k1Signature)).isTrue();
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> service.edDsaVerify(secp256k1KeyPair.publicKey(), message, ed25519Signature)
+    );
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> service.ecDsaVerify(ed25519KeyPair.publicKey(), message, secp256k1Signature)
+    );
+  }
+
+  @Test
+  void supplierConstructorCreatesSignersPerThread() throws Exception {
+    final AtomicInteger ed25519Signers = new AtomicInteger();
+    final AtomicInteger ecdsaSigners = new AtomicInteger();
+    final BcSignatureService service = new BcSignatureService(
+      signatureUtilsMock,
+      () -> {
+        ed25519Signers.incrementAndGet();
+        return new Ed25519Signer();
+      },
+      () -> {
+        ecdsaSigners.incrementAndGet();
+        return new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+      }
+    );
+
+    service.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty());
+    service.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty());
+    service.ecDsaSign(secp256k1KeyPair.privateKey(), UnsignedByteArray.empty());
+    assertThat(ed25519Signers).hasValue(1);
+    assertThat(ecdsaSigners).hasValue(1);
+
+    final Thread otherThread = new Thread(
+      () -> service.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty())
+    );
+    otherThread.start();
+    otherThread.join();
+    assertThat(ed25519Signers).hasValue(2);
+    assertThat(ecdsaSigners).hasValue(1);
+  }
+
+  @Test
+  void signAndVerifyConcurrently() throws Exception {
+    final BcSignatureService service = new BcSignatureService();
+    final List<UnsignedByteArray> messages = IntStream.range(0, 64)
+      .mapToObj(i -> UnsignedByteArray.of(new byte[] {(byte) i, (byte) (i >> 8), 0x42}))
+      .collect(Collectors.toList());
+    final List<Signature> expectedEd25519 = messages.stream()
+      .map(message -> service.edDsaSign(ed25519KeyPair.privateKey(), message))
+      .collect(Collectors.toList());
+    final List<Signature> expectedSecp256k1 = messages.stream()
+      .map(message -> service.ecDsaSign(secp256k1KeyPair.privateKey(), message))
+      .collect(Collectors.toList());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int round = 0; round < 8; round++) {
+        for (int i = 0; i < messages.size(); i++) {
+          final int index = i;
+          results.add(executor.submit(() -> {
+            final UnsignedByteArray message = messages.get(index);
+            final Signature ed25519Signature = service.edDsaSign(ed25519KeyPair.privateKey(), message);
+            final Signature secp256k1Signature = service.ecDsaSign(secp256k1KeyPair.privateKey(), message);
+            return ed25519Signature.equals(expectedEd25519.get(index)) &&
+              secp256k1Signature.equals(expectedSecp256k1.get(index)) &&
+              service.edDsaVerify(ed25519KeyPair.publicKey(), message, ed25519Signature) &&
+              service.ecDsaVerify(secp256k1KeyPair.publicKey(), message, secp256k1Signature);
+          }));
+        }
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   ///////////////////
@@ -160,7 +326,9 @@ class BcSignatureServiceTest {
 
     final Signature expectedSecp256k1Signatur = Signature.builder()
       .value(UnsignedByteArray.of(BaseEncoding.base16().decode("300602010A02010A"))).build();
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, expectedSecp256k1Signatur);
+    verify(signatureUtilsMock).addSignatureToTransaction(
+      transactionMock, expectedSecp256k1Signatur, UnsignedByteArray.empty()
+    );
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -176,7 +344,9 @@ class BcSignatureServiceTest {
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
 
     final Signature expectedSecp256k1Signature = Signature.builder().value(UnsignedByteArray.of(new byte[32])).build();
-    verify(signatureUtilsMock).addSignatureToTransaction(transactionMock, expectedSecp256k1Signature);
+    verify(signatureUtilsMock).addSignatureToTransaction(
+      transactionMock, expectedSecp256k1Signature, UnsignedByteArray.empty()
+    );
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -319,7 +489,8 @@ class BcSignatureServiceTest {
     verifyNoMoreInteractions(ed25519SignerMock);
     verifyNoMoreInteractions(secp256k1SignatureMock);
 
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -340,7 +511,8 @@ class BcSignatureServiceTest {
     assertThat(actual).isTrue();
     verify(ecdsaSignerMock).init(anyBoolean(), any());
     verify(ecdsaSignerMock).verifySignature(any(), any(), any());
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignableBytesWithoutSigner(transactionMock);
+    verify(signatureUtilsMock).addSignerToMultiSignableBytes(any(), any());
 
     verify(secp256k1SignatureMock).value();
     verifyNoMoreInteractions(secp256k1SignatureMock);
@@ -348,6 +520,54 @@ class BcSignatureServiceTest {
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
+  @Test
+  void signAllMatchesSign() {
+    final BcSignatureService service = new BcSignatureService();
+    final Map<PrivateKey, List<AccountSet>> transactionsByKey = new LinkedHashMap<>();
+    transactionsByKey.put(secp256k1KeyPair.privateKey(), accountSets(secp256k1KeyPair));
+    transactionsByKey.put(ed25519KeyPair.privateKey(), accountSets(ed25519KeyPair));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Map<PrivateKey, List<SingleSignedTransaction<AccountSet>>> signed =
+        service.signAll(transactionsByKey, executor);
+
+      assertThat(signed.keySet()).containsExactly(secp256k1KeyPair.privateKey(), ed25519KeyPair.privateKey());
+      transactionsByKey.forEach((privateKey, transactions) -> assertThat(signed.get(privateKey))
+        .containsExactlyElementsOf(transactions.stream()
+          .map(transaction -> service.sign(privateKey, transaction))
+          .collect(Collectors.toList())
+        )
+      );
+      assertThat(service.signAll(ed25519KeyPair.privateKey(), accountSets(ed25519KeyPair), executor))
+        .isEqualTo(signed.get(ed25519KeyPair.privateKey()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void signAllWithNulls() {
+    final BcSignatureService service = new BcSignatureService();
+    final Executor executor = Runnable::run;
+    assertThrows(NullPointerException.class, () -> service.signAll(null, executor));
+    assertThrows(NullPointerException.class, () -> service.signAll(new LinkedHashMap<>(), null));
+    assertThrows(NullPointerException.class, () -> service.signAll(
+      ed25519KeyPair.privateKey(), Collections.singletonList(null), executor
+    ));
+  }
+
+  private List<AccountSet> accountSets(final KeyPair keyPair) {
+    return IntStream.rangeClosed(1, 20)
+      .mapToObj(sequence -> AccountSet.builder()
+        .account(keyPair.publicKey().deriveAddress())
+        .fee(XrpCurrencyAmount.ofDrops(10L))
+        .sequence(UnsignedInteger.valueOf(sequence))
+        .signingPublicKey(keyPair.publicKey())
+        .build())
+      .collect(Collectors.toList());
+  }
+
   ///////////////////
   // EdDsaSign
   ///////////////////
@@ -7,9 +7,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.TransactionCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.metadata.CreatedNode;
 import org.xrpl.xrpl4j.model.transactions.metadata.DeletedNode;
@@ -36,6 +43,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
@@ -537,6 +545,78 @@ class TransactionMetadataTest {
     deserializeFixtures("tx_meta_manual_fixtures.json");
   }
 
+  /**
+   * Encodes each transaction metadata object in tx_metadata_fixtures.json to binary, and checks that decoding that
+   * binary with {@link TransactionCodec#decodeMetadata(UnsignedByteArray)} produces the same
+   * {@link TransactionMetadata} as deserializing the fixture's JSON directly, without the binary codec's decoder.
+   *
+   * @throws IOException If reading the file fails.
+   */
+  @Test
+  void decodeGeneratedMainnetFixturesFromBinary() throws IOException {
+    String fileName = "tx_metadata_fixtures.json";
+    unzipFile(fileName + ".zip");
+    File jsonFile = new File("src/test/resources/" + fileName);
+    List<ObjectNode> metadatas = objectMapper.readValue(
+      jsonFile,
+      objectMapper.getTypeFactory().constructParametricType(List.class, ObjectNode.class)
+    );
+
+    XrplBinaryCodec binaryCodec = XrplBinaryCodec.getInstance();
+    TransactionCodec transactionCodec = TransactionCodec.getInstance();
+    for (ObjectNode meta : metadatas) {
+      // delivered_amount is added by rippled and is not part of the binary metadata.
+      meta.remove("delivered_amount");
+      uint64HexToDecimal(meta);
+      issuedCurrencyValuesToPlain(meta);
+      TransactionMetadata expected = objectMapper.treeToValue(meta, TransactionMetadata.class);
+      String metaBinary = binaryCodec.encode(meta.toString());
+      assertThat(transactionCodec.decodeMetadata(UnsignedByteArray.fromHex(metaBinary))).isEqualTo(expected);
+    }
+
+    jsonFile.delete();
+  }
+
+  /**
+   * rippled renders UInt64 fields as hex, but {@link XrplBinaryCodec} reads and writes them as decimal strings.
+   */
+  private void uint64HexToDecimal(JsonNode node) {
+    if (node.isArray()) {
+      node.forEach(this::uint64HexToDecimal);
+    } else if (node.isObject()) {
+      ObjectNode objectNode = (ObjectNode) node;
+      Lists.newArrayList(objectNode.fieldNames()).forEach(fieldName -> {
+        JsonNode value = objectNode.get(fieldName);
+        boolean isUInt64 = DefinitionsService.getInstance().getFieldInstance(fieldName)
+          .map(field -> field.type().equals("UInt64"))
+          .orElse(false);
+        if (isUInt64 && value.isTextual()) {
+          objectNode.put(fieldName, UnsignedLong.valueOf(value.asText(), 16).toString());
+        } else {
+          uint64HexToDecimal(value);
+        }
+      });
+    }
+  }
+
+  /**
+   * rippled may render issued currency values in exponent notation, but {@link XrplBinaryCodec} decodes them in plain
+   * notation.
+   */
+  private void issuedCurrencyValuesToPlain(JsonNode node) {
+    if (node.isArray()) {
+      node.forEach(this::issuedCurrencyValuesToPlain);
+    } else if (node.isObject()) {
+      ObjectNode objectNode = (ObjectNode) node;
+      if (objectNode.has("currency") && objectNode.has("issuer") && objectNode.path("value").isTextual()) {
+        objectNode.put(
+          "value", new BigDecimal(objectNode.get("value").asText()).stripTrailingZeros().toPlainString()
+        );
+      }
+      objectNode.forEach(this::issuedCurrencyValuesToPlain);
+    }
+  }
+
   @Test
   void deserializeUnrecognizedNodeType() {
     String nodeType = "WeirdNode";